@@ -1,10 +1,14 @@
 package de.zabuza.sparkle;
 
+import java.util.concurrent.ScheduledExecutorService;
+
 import org.openqa.selenium.remote.DesiredCapabilities;
 
 import de.zabuza.sparkle.freewar.EWorld;
 import de.zabuza.sparkle.freewar.IFreewarInstance;
 import de.zabuza.sparkle.webdriver.EBrowser;
+import de.zabuza.sparkle.webdriver.delay.GaussianDelayPolicy;
+import de.zabuza.sparkle.webdriver.delay.IDelayPolicy;
 
 /**
  * Interface for APIs that allow playing the MMORPG <tt>Freewar</tt>.
@@ -95,7 +99,10 @@ public interface IFreewarAPI {
 	 * @param doQuitDriver
 	 *            <tt>True</tt> if the browser driver of the given instance should
 	 *            be quit at logout, <tt>false</tt> if not. If not quit the browser
-	 *            can still be accessed by the user even after API shutdown.
+	 *            can still be accessed by the user even after API shutdown,
+	 *            unless the driver came from the driver pool, see
+	 *            {@link #setDriverPoolSize(int)}. Such a driver returns to the
+	 *            pool.
 	 */
 	public void logout(final IFreewarInstance instance, final boolean doQuitDriver);
 
@@ -120,6 +127,83 @@ public interface IFreewarAPI {
 	 */
 	public void setCapabilities(final DesiredCapabilities capabilities);
 
+	/**
+	 * Sets the policy that determines the delays between events, if the API
+	 * delays events. By default a {@link GaussianDelayPolicy} is created for each
+	 * instance. Once {@link #login(String, String, EWorld)} was used it will stick
+	 * to the policy set at method call. The policy is shared by all instances
+	 * created afterwards, thus stateful policies share their state.
+	 * 
+	 * @param policy
+	 *            The policy that determines the delays between events
+	 */
+	public void setDelayPolicy(final IDelayPolicy policy);
+
+	/**
+	 * Sets the amount of drivers that are kept started in the background for the
+	 * current browser. Logging in with {@link #login(String, String, EWorld)} or
+	 * {@link #hijackSession(String, String, EWorld)} then uses an already started
+	 * driver. Logging out with {@link #logout(IFreewarInstance, boolean)} without
+	 * quitting the driver returns it to the pool, which clears the cookies and
+	 * the storage of all worlds in the background. The browsers of the pool use
+	 * the capabilities set at the time they were started, all other settings are
+	 * applied whenever a driver of the pool is handed to an instance. By default
+	 * no drivers are kept started. Setting the size after changing the browser
+	 * replaces the pool.
+	 * 
+	 * @param size
+	 *            The amount of drivers to keep started, <tt>0</tt> to start
+	 *            drivers on demand only
+	 */
+	public void setDriverPoolSize(final int size);
+
+	/**
+	 * Sets the scheduler to time delayed events on, if the API delays events.
+	 * Timed pauses during login are scheduled on it as well. The events
+	 * themselves are executed by a shared executor that starts threads on
+	 * demand, thus the scheduler is not blocked by slow browsers. By default all
+	 * instances share a small pool of threads, thus the amount of threads does
+	 * not grow with the amount of instances. Once
+	 * {@link #login(String, String, EWorld)} was used it will stick to the
+	 * scheduler set at method call.
+	 * 
+	 * @param scheduler
+	 *            The scheduler to time delayed events on
+	 */
+	public void setEventScheduler(final ScheduledExecutorService scheduler);
+
+	/**
+	 * Sets whether instances read the frames of <tt>Freewar</tt> by fetching
+	 * their source once and parsing it inside the JVM, instead of asking the
+	 * browser for each element and text. This reduces the calls to the browser
+	 * of methods that read many elements to one per frame. Actions like clicks
+	 * still go through the browser. The setting can be changed for each instance
+	 * using its {@link IFreewarInstance#getFrameManager()}. By default frames
+	 * are read through the browser. Once {@link #login(String, String, EWorld)}
+	 * was used it will stick to the setting at method call.
+	 * 
+	 * @param enabled
+	 *            <tt>True</tt> if frames should be parsed inside the JVM,
+	 *            <tt>false</tt> if they should be read through the browser
+	 */
+	public void setLocalParsingEnabled(final boolean enabled);
+
+	/**
+	 * Sets for how long the state of the player of instances is cached. Reading
+	 * properties of the player within that time then costs no calls to the
+	 * browser. Actions that may change the state, like attacking, using items or
+	 * moving, invalidate the cache early, see
+	 * {@link de.zabuza.sparkle.freewar.player.CachingPlayer CachingPlayer}. By
+	 * default the state is not cached. Once
+	 * {@link #login(String, String, EWorld)} was used it will stick to the time
+	 * to live set at method call.
+	 * 
+	 * @param timeToLive
+	 *            The time to live of the cached state in milliseconds, <tt>0</tt>
+	 *            to not cache the state
+	 */
+	public void setPlayerCacheTimeToLive(final long timeToLive);
+
 	/**
 	 * Shuts the API down, closing all remaining connections. This method does not
 	 * necessarily logout from remaining {@link IFreewarInstance}s.
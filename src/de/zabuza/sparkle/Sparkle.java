@@ -1,8 +1,20 @@
 package de.zabuza.sparkle;
 
 import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.Cookie;
@@ -25,6 +37,7 @@ import org.openqa.selenium.safari.SafariDriver;
 import de.zabuza.sparkle.freewar.EWorld;
 import de.zabuza.sparkle.freewar.FreewarInstance;
 import de.zabuza.sparkle.freewar.IFreewarInstance;
+import de.zabuza.sparkle.locale.ErrorMessages;
 import de.zabuza.sparkle.selectors.CSSSelectors;
 import de.zabuza.sparkle.selectors.Names;
 import de.zabuza.sparkle.selectors.Paths;
@@ -34,33 +47,86 @@ import de.zabuza.sparkle.wait.FramePresenceWait;
 import de.zabuza.sparkle.wait.LoginFormWait;
 import de.zabuza.sparkle.wait.LoginPopupWait;
 import de.zabuza.sparkle.wait.TimedWait;
-import de.zabuza.sparkle.webdriver.AntiTrapWebDriver;
-import de.zabuza.sparkle.webdriver.DelayedWebDriver;
 import de.zabuza.sparkle.webdriver.EBrowser;
+import de.zabuza.sparkle.webdriver.HeadlessWebDriver;
 import de.zabuza.sparkle.webdriver.IHasWebDriver;
-import de.zabuza.sparkle.webdriver.StaleRefresherWebDriver;
+import de.zabuza.sparkle.webdriver.IWebDriverFactory;
+import de.zabuza.sparkle.webdriver.SharedEventScheduler;
+import de.zabuza.sparkle.webdriver.WebDriverPool;
+import de.zabuza.sparkle.webdriver.WebDriverUtil;
+import de.zabuza.sparkle.webdriver.delay.GaussianDelayPolicy;
+import de.zabuza.sparkle.webdriver.delay.IDelayPolicy;
+import de.zabuza.sparkle.webdriver.intercept.AntiTrapInterceptor;
+import de.zabuza.sparkle.webdriver.intercept.ContextTrackingInterceptor;
+import de.zabuza.sparkle.webdriver.intercept.DelayInterceptor;
+import de.zabuza.sparkle.webdriver.intercept.IWebDriverMetrics;
+import de.zabuza.sparkle.webdriver.intercept.IWebInterceptor;
+import de.zabuza.sparkle.webdriver.intercept.InterceptingWebDriver;
+import de.zabuza.sparkle.webdriver.intercept.MetricsInterceptor;
+import de.zabuza.sparkle.webdriver.intercept.StaleRefreshInterceptor;
 
 /**
- * API that allows playing the MMORPG <tt>Freewar</tt>.
+ * API that allows playing the MMORPG <tt>Freewar</tt>.<br>
+ * <br>
+ * The metrics about the operations of the driver of each instance are
+ * published over JMX as {@link IWebDriverMetrics}, using the name
+ * <tt>de.zabuza.sparkle:type=WebDriverMetrics,world=...,user=...</tt>.
  * 
  * @author Zabuza {@literal <zabuza.dev@gmail.com>}
  * 
  */
-public final class Sparkle implements IFreewarAPI {
+public final class Sparkle implements IFreewarAPI, IWebDriverFactory {
+	/**
+	 * The domain of the names the metrics of instances are published with.
+	 */
+	private static final String METRICS_DOMAIN = "de.zabuza.sparkle";
+	/**
+	 * The type of the names the metrics of instances are published with.
+	 */
+	private static final String METRICS_TYPE = "WebDriverMetrics";
+	/**
+	 * Timeout in seconds for asynchronous scripts executed by created drivers.
+	 * Must be greater than the timeouts the scripts use on their own, for
+	 * example {@link de.zabuza.sparkle.wait.FrameReadyWait FrameReadyWait}.
+	 */
+	private static final long SCRIPT_TIMEOUT = 10;
 
 	/**
 	 * Current set browser to use at login.
 	 */
 	private EBrowser mBrowser;
 	/**
-	 * The capabilities to use for the created browsers.
+	 * The capabilities to use for the created browsers. Volatile as drivers of
+	 * the pool are started by its background threads.
 	 */
-	private DesiredCapabilities mCapabilities;
+	private volatile DesiredCapabilities mCapabilities;
 	/**
 	 * If the API should automatically delay events to disguise usage of a bot for
 	 * <tt>Freewar.de</tt>.
 	 */
 	private final boolean mDelayEvents;
+	/**
+	 * The policy that determines the delays between events, if
+	 * {@link #mDelayEvents} is set. If <tt>null</tt> a new
+	 * {@link GaussianDelayPolicy} is used for each instance. Volatile as it is
+	 * read whenever a driver gets wrapped.
+	 */
+	private volatile IDelayPolicy mDelayPolicy;
+	/**
+	 * The pool of drivers that are started in the background, <tt>null</tt> if
+	 * drivers are started on demand.
+	 */
+	private WebDriverPool mDriverPool;
+	/**
+	 * The scheduler to time delayed events on, if {@link #mDelayEvents} is set.
+	 * Volatile as it is read whenever a driver gets wrapped.
+	 */
+	private volatile ScheduledExecutorService mEventScheduler;
+	/**
+	 * The names the metrics of the registered instances are published with over
+	 * JMX, accessed by the instance.
+	 */
+	private final Map<IFreewarInstance, ObjectName> mInstanceToMetricsName;
 	/**
 	 * Set of all registered instances created with
 	 * {@link #login(String, String, EWorld)}. Instances get added using
@@ -68,6 +134,15 @@ public final class Sparkle implements IFreewarAPI {
 	 * {@link #shutdownInstance(IFreewarInstance, boolean)}.
 	 */
 	private final Set<IFreewarInstance> mInstances;
+	/**
+	 * Whether instances parse frames inside the JVM for reading.
+	 */
+	private boolean mLocalParsingEnabled;
+	/**
+	 * The time to live of the cached state of the player of instances in
+	 * milliseconds, <tt>0</tt> if the state is not cached.
+	 */
+	private long mPlayerCacheTimeToLive;
 
 	/**
 	 * Creates a new API that uses the browser <tt>Firefox</tt> by default. It
@@ -103,7 +178,13 @@ public final class Sparkle implements IFreewarAPI {
 		this.mBrowser = browser;
 		this.mDelayEvents = delayEvents;
 		this.mCapabilities = null;
+		this.mDelayPolicy = null;
+		this.mDriverPool = null;
+		this.mEventScheduler = SharedEventScheduler.getDefaultScheduler();
 		this.mInstances = new LinkedHashSet<>();
+		this.mInstanceToMetricsName = new HashMap<>();
+		this.mLocalParsingEnabled = false;
+		this.mPlayerCacheTimeToLive = 0;
 	}
 
 	/*
@@ -216,6 +297,9 @@ public final class Sparkle implements IFreewarAPI {
 			if (binaryPath != null) {
 				capabilities.setCapability("edge.binary", binaryPath);
 			}
+		} else if (browser == EBrowser.HTMLUNIT) {
+			// The engine runs inside the JVM, there is no driver, binary or profile
+			capabilities = HeadlessWebDriver.createDefaultCapabilities();
 		} else {
 			throw new IllegalArgumentException("The given browser is not supported: " + browser);
 		}
@@ -223,6 +307,20 @@ public final class Sparkle implements IFreewarAPI {
 		return capabilities;
 	}
 
+	/**
+	 * Creates a {@link WebDriver} that uses the given browser. The browser is
+	 * started by {@link #startWebDriver(EBrowser)} and wrapped by
+	 * {@link #wrapWebDriver(WebDriver)}.
+	 * 
+	 * @param browser
+	 *            Browser to use for the driver
+	 * @return Webdriver that uses the given browser
+	 */
+	@Override
+	public WebDriver createWebDriver(final EBrowser browser) {
+		return wrapWebDriver(startWebDriver(browser));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -246,7 +344,7 @@ public final class Sparkle implements IFreewarAPI {
 			return null;
 		}
 
-		final WebDriver driver = createWebDriver(this.mBrowser);
+		final WebDriver driver = acquireWebDriver();
 
 		// Connect to login form as cookies are disabled in most browsers at the
 		// blank starting page
@@ -267,8 +365,10 @@ public final class Sparkle implements IFreewarAPI {
 		driver.get(inGameUrl);
 
 		// If the session is valid then the instance should be ready now
-		final IFreewarInstance instance = new FreewarInstance(driver, username);
+		final IFreewarInstance instance = new FreewarInstance(driver, username, true, this.mPlayerCacheTimeToLive);
+		instance.getFrameManager().setLocalParsingEnabled(this.mLocalParsingEnabled);
 		this.mInstances.add(instance);
+		registerMetrics(instance, driver, username, world);
 
 		return instance;
 	}
@@ -286,7 +386,7 @@ public final class Sparkle implements IFreewarAPI {
 			return null;
 		}
 
-		final WebDriver driver = createWebDriver(this.mBrowser);
+		final WebDriver driver = acquireWebDriver();
 
 		// Connect to login form
 		final String fullWorldDomain = Paths.getFullWorldDomain(world);
@@ -301,7 +401,7 @@ public final class Sparkle implements IFreewarAPI {
 		// Type in user credentials
 		loginName.clear();
 		loginName.sendKeys(username);
-		new TimedWait(driver, 200).waitUntilCondition();
+		new TimedWait(driver, 200, this.mEventScheduler).waitUntilCondition();
 		loginPassword.clear();
 		loginPassword.sendKeys(password);
 
@@ -331,8 +431,10 @@ public final class Sparkle implements IFreewarAPI {
 			popupContinue.click();
 		}
 
-		final IFreewarInstance instance = new FreewarInstance(driver, username);
+		final IFreewarInstance instance = new FreewarInstance(driver, username, true, this.mPlayerCacheTimeToLive);
+		instance.getFrameManager().setLocalParsingEnabled(this.mLocalParsingEnabled);
 		this.mInstances.add(instance);
+		registerMetrics(instance, driver, username, world);
 
 		return instance;
 	}
@@ -345,8 +447,9 @@ public final class Sparkle implements IFreewarAPI {
 	 */
 	@Override
 	public void logout(final IFreewarInstance instance, final boolean doQuitDriver) {
+		WebDriver driver = null;
 		if (instance instanceof IHasWebDriver) {
-			final WebDriver driver = ((IHasWebDriver) instance).getWebDriver();
+			driver = ((IHasWebDriver) instance).getWebDriver();
 			// Wait for events to be processed before switching frames
 			new EventQueueEmptyWait(driver).waitUntilCondition();
 			driver.switchTo().defaultContent();
@@ -372,6 +475,11 @@ public final class Sparkle implements IFreewarAPI {
 			new LoginFormWait(driver).waitUntilCondition();
 		}
 		shutdownInstance(instance, doQuitDriver);
+
+		// Reuse the driver for further logins if it came from the pool
+		if (!doQuitDriver && driver != null && this.mDriverPool != null) {
+			this.mDriverPool.release(driver);
+		}
 	}
 
 	/*
@@ -396,6 +504,72 @@ public final class Sparkle implements IFreewarAPI {
 		this.mCapabilities = capabilities;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.IFreewarAPI#setDelayPolicy(de.zabuza.sparkle.webdriver.
+	 * delay.IDelayPolicy)
+	 */
+	@Override
+	public void setDelayPolicy(final IDelayPolicy policy) {
+		this.mDelayPolicy = policy;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.IFreewarAPI#setDriverPoolSize(int)
+	 */
+	@Override
+	public void setDriverPoolSize(final int size) {
+		if (this.mDriverPool != null && this.mDriverPool.getBrowser() == this.mBrowser) {
+			this.mDriverPool.setSize(size);
+			return;
+		}
+
+		if (this.mDriverPool != null) {
+			this.mDriverPool.shutdown();
+		}
+		// Released drivers may have visited any world
+		final List<String> worldDomains = new ArrayList<>();
+		for (final EWorld world : EWorld.values()) {
+			worldDomains.add(Paths.getFullWorldDomain(world));
+		}
+		this.mDriverPool = new WebDriverPool(this, this.mBrowser, size, worldDomains);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.IFreewarAPI#setEventScheduler(java.util.concurrent.
+	 * ScheduledExecutorService)
+	 */
+	@Override
+	public void setEventScheduler(final ScheduledExecutorService scheduler) {
+		this.mEventScheduler = scheduler;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.IFreewarAPI#setLocalParsingEnabled(boolean)
+	 */
+	@Override
+	public void setLocalParsingEnabled(final boolean enabled) {
+		this.mLocalParsingEnabled = enabled;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.IFreewarAPI#setPlayerCacheTimeToLive(long)
+	 */
+	@Override
+	public void setPlayerCacheTimeToLive(final long timeToLive) {
+		this.mPlayerCacheTimeToLive = Math.max(0, timeToLive);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -406,74 +580,167 @@ public final class Sparkle implements IFreewarAPI {
 		for (final IFreewarInstance instance : this.mInstances) {
 			shutdownInstance(instance, doQuitDriver);
 		}
+
+		if (this.mDriverPool != null) {
+			this.mDriverPool.shutdown();
+			this.mDriverPool = null;
+		}
 	}
 
 	/**
-	 * Creates a {@link WebDriver} that uses the given browser. If a capability
-	 * object was set using {@link #setCapabilities(DesiredCapabilities)} then it
-	 * will also be passed to the created browser. If {@link #mDelayEvents} is set
-	 * to <tt>true</tt>, the resulting driver will automatically delay events to
-	 * disguise usage of a bot for <tt>Freewar</tt>.
+	 * Starts the given browser without any wrappers. If a capability object was
+	 * set using {@link #setCapabilities(DesiredCapabilities)} then it will also
+	 * be passed to the started browser.
 	 * 
 	 * @param browser
-	 *            Browser to use for the driver
-	 * @return Webdriver that uses the given browser
+	 *            Browser to start
+	 * @return Webdriver that uses the given browser, without any wrappers
 	 */
-	private WebDriver createWebDriver(final EBrowser browser) {
-		WebDriver driver;
+	@Override
+	public WebDriver startWebDriver(final EBrowser browser) {
+		final DesiredCapabilities capabilities = this.mCapabilities;
+		final WebDriver driver;
 		if (browser == EBrowser.FIREFOX) {
-			if (this.mCapabilities != null) {
-				driver = new FirefoxDriver(this.mCapabilities);
+			if (capabilities != null) {
+				driver = new FirefoxDriver(capabilities);
 			} else {
 				driver = new FirefoxDriver();
 			}
 		} else if (browser == EBrowser.CHROME) {
-			if (this.mCapabilities != null) {
-				driver = new ChromeDriver(this.mCapabilities);
+			if (capabilities != null) {
+				driver = new ChromeDriver(capabilities);
 			} else {
 				driver = new ChromeDriver();
 			}
 		} else if (browser == EBrowser.SAFARI) {
-			if (this.mCapabilities != null) {
-				driver = new SafariDriver(this.mCapabilities);
+			if (capabilities != null) {
+				driver = new SafariDriver(capabilities);
 			} else {
 				driver = new SafariDriver();
 			}
 		} else if (browser == EBrowser.INTERNET_EXPLORER) {
-			if (this.mCapabilities != null) {
-				driver = new InternetExplorerDriver(this.mCapabilities);
+			if (capabilities != null) {
+				driver = new InternetExplorerDriver(capabilities);
 			} else {
 				driver = new InternetExplorerDriver();
 			}
 		} else if (browser == EBrowser.OPERA) {
-			if (this.mCapabilities != null) {
-				driver = new OperaDriver(this.mCapabilities);
+			if (capabilities != null) {
+				driver = new OperaDriver(capabilities);
 			} else {
 				driver = new OperaDriver();
 			}
 		} else if (browser == EBrowser.MS_EDGE) {
-			if (this.mCapabilities != null) {
-				driver = new EdgeDriver(this.mCapabilities);
+			if (capabilities != null) {
+				driver = new EdgeDriver(capabilities);
 			} else {
 				driver = new EdgeDriver();
 			}
+		} else if (browser == EBrowser.HTMLUNIT) {
+			if (capabilities != null) {
+				driver = new HeadlessWebDriver(capabilities);
+			} else {
+				driver = new HeadlessWebDriver();
+			}
 		} else {
 			throw new IllegalArgumentException("The given browser is not supported: " + browser);
 		}
+		// Allow asynchronous scripts to wait for the browser
+		driver.manage().timeouts().setScriptTimeout(SCRIPT_TIMEOUT, TimeUnit.SECONDS);
 
-		// Wrap a stale refresher driver around
-		driver = new StaleRefresherWebDriver(driver);
-
-		// Wrap an anti trap driver around
-		driver = new AntiTrapWebDriver(driver);
+		return driver;
+	}
 
-		// Wrap a delayed web driver around if desired
+	/**
+	 * Wraps the given started browser. If {@link #mDelayEvents} is set to
+	 * <tt>true</tt>, the resulting driver will automatically delay events to
+	 * disguise usage of a bot for <tt>Freewar</tt>. Operations of the driver pass
+	 * through one chain of interceptors which also tracks context changes,
+	 * collects metrics, handles staled elements and avoids bot traps. Each call
+	 * builds a new chain that uses the current settings.
+	 * 
+	 * @param driver
+	 *            The started browser, without any wrappers
+	 * @return Webdriver that wraps the given browser
+	 */
+	@Override
+	public WebDriver wrapWebDriver(final WebDriver driver) {
+		// Build the chain of interceptors, the outermost first
+		final List<IWebInterceptor> interceptors = new ArrayList<>();
+		// Delay events if desired
 		if (this.mDelayEvents) {
-			driver = new DelayedWebDriver(driver);
+			IDelayPolicy policy = this.mDelayPolicy;
+			if (policy == null) {
+				policy = new GaussianDelayPolicy();
+			}
+			interceptors.add(new DelayInterceptor(this.mEventScheduler, policy));
 		}
+		interceptors.add(new ContextTrackingInterceptor());
+		interceptors.add(new MetricsInterceptor());
+		interceptors.add(new StaleRefreshInterceptor());
+		interceptors.add(new AntiTrapInterceptor(driver));
 
-		return driver;
+		return new InterceptingWebDriver(driver, interceptors.toArray(new IWebInterceptor[interceptors.size()]));
+	}
+
+	/**
+	 * Acquires a driver for the current browser. It is taken from the driver pool
+	 * if the pool was created for the current browser, else it is started on
+	 * demand.
+	 * 
+	 * @return Web driver that uses the current browser
+	 */
+	private WebDriver acquireWebDriver() {
+		if (this.mDriverPool != null && this.mDriverPool.getBrowser() == this.mBrowser) {
+			return this.mDriverPool.acquire();
+		}
+		return createWebDriver(this.mBrowser);
+	}
+
+	/**
+	 * Publishes the metrics about the operations of the driver of the given
+	 * instance over JMX, if the driver collects metrics. If metrics of another
+	 * instance of the same user and world are already published, the name of the
+	 * metrics is disambiguated by an additional <tt>instance</tt> key. Failing to
+	 * publish them is reported but does not affect the instance.
+	 * 
+	 * @param instance
+	 *            The instance to publish the metrics of
+	 * @param driver
+	 *            The driver of the instance
+	 * @param username
+	 *            The name of the user of the instance
+	 * @param world
+	 *            The world the instance is logged into
+	 */
+	private void registerMetrics(final IFreewarInstance instance, final WebDriver driver, final String username,
+			final EWorld world) {
+		final Optional<MetricsInterceptor> metrics = WebDriverUtil.getInterceptor(driver, MetricsInterceptor.class);
+		if (!metrics.isPresent()) {
+			return;
+		}
 
+		final String baseName = METRICS_DOMAIN + ":type=" + METRICS_TYPE + ",world=" + world + ",user="
+				+ ObjectName.quote(username);
+		try {
+			ObjectName name = new ObjectName(baseName);
+			int instanceNumber = 1;
+			while (true) {
+				try {
+					ManagementFactory.getPlatformMBeanServer().registerMBean(metrics.get(), name);
+					break;
+				} catch (final InstanceAlreadyExistsException e) {
+					// The same user is logged into the same world more than once
+					instanceNumber++;
+					name = new ObjectName(baseName + ",instance=" + instanceNumber);
+				}
+			}
+			this.mInstanceToMetricsName.put(instance, name);
+		} catch (final JMException e) {
+			// Metrics are optional, the instance works without them
+			System.err.println(ErrorMessages.METRICS_NOT_PUBLISHED);
+			e.printStackTrace();
+		}
 	}
 
 	/**
@@ -494,6 +761,27 @@ public final class Sparkle implements IFreewarAPI {
 		if (instance != null) {
 			instance.shutdown(doQuitDriver);
 			this.mInstances.remove(instance);
+			unregisterMetrics(instance);
+		}
+	}
+
+	/**
+	 * Removes the metrics of the given instance from JMX, if they were
+	 * published.
+	 * 
+	 * @param instance
+	 *            The instance to remove the metrics of
+	 */
+	private void unregisterMetrics(final IFreewarInstance instance) {
+		final ObjectName name = this.mInstanceToMetricsName.remove(instance);
+		if (name == null) {
+			return;
+		}
+
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+		} catch (final JMException e) {
+			// The metrics are already gone
 		}
 	}
 }
@@ -18,6 +18,7 @@ import de.zabuza.sparkle.freewar.location.ILocation;
 import de.zabuza.sparkle.freewar.location.Location;
 import de.zabuza.sparkle.freewar.movement.IMovement;
 import de.zabuza.sparkle.freewar.movement.Movement;
+import de.zabuza.sparkle.freewar.player.CachingPlayer;
 import de.zabuza.sparkle.freewar.player.IPlayer;
 import de.zabuza.sparkle.freewar.player.Player;
 import de.zabuza.sparkle.freewar.skills.ISkillManager;
@@ -105,11 +106,39 @@ public final class FreewarInstance implements IFreewarInstance, IHasWebDriver {
 	 *            <tt>Freewar</tt> due to absence.
 	 */
 	public FreewarInstance(final WebDriver driver, final String user, final boolean stayLoggedIn) {
+		this(driver, user, stayLoggedIn, 0);
+	}
+
+	/**
+	 * Creates a new FreewarInstance that uses a given driver. It can be set if the
+	 * instance should take care of not being logged out by <tt>Freewar</tt> due to
+	 * absence and for how long the state of the player is cached.
+	 * 
+	 * @param driver
+	 *            The driver this instance should use
+	 * @param user
+	 *            The name of the user of this instance
+	 * @param stayLoggedIn
+	 *            If <tt>true</tt> the instance cares of not being automatically
+	 *            logged out. If <tt>false</tt> the instance can be logged out by
+	 *            <tt>Freewar</tt> due to absence.
+	 * @param playerCacheTimeToLive
+	 *            The time to live of the cached state of the player in
+	 *            milliseconds, see {@link CachingPlayer}. If not positive the
+	 *            state is not cached.
+	 */
+	public FreewarInstance(final WebDriver driver, final String user, final boolean stayLoggedIn,
+			final long playerCacheTimeToLive) {
 		this.mDriver = driver;
 		setStayLoggedIn(stayLoggedIn);
 		this.mFrameManager = new FrameManager(this.mDriver);
 
-		this.mPlayer = new Player(this.mDriver, this.mFrameManager);
+		final IPlayer player = new Player(this.mDriver, this.mFrameManager);
+		if (playerCacheTimeToLive > 0) {
+			this.mPlayer = new CachingPlayer(player, this.mDriver, playerCacheTimeToLive);
+		} else {
+			this.mPlayer = player;
+		}
 		this.mSkillManager = new SkillManager(this.mDriver, this.mFrameManager);
 		this.mInventory = new Inventory(this, this.mDriver, this.mFrameManager);
 		this.mLocation = new Location(this, this.mDriver, this.mFrameManager);
@@ -272,6 +301,10 @@ public final class FreewarInstance implements IFreewarInstance, IHasWebDriver {
 	public void shutdown(final boolean doQuitDriver) {
 		// Shutdown stay-logged-in service if used
 		setStayLoggedIn(false);
+		// Release the local parser of frames if used
+		this.mFrameManager.setLocalParsingEnabled(false);
+		// Stop notifying listeners about changes of the inventory
+		this.mInventory.removeAllInventoryListeners();
 
 		if (doQuitDriver) {
 			this.mDriver.quit();
@@ -8,6 +8,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
@@ -300,13 +301,13 @@ public final class Chat implements IChat {
 	 *         ascending order
 	 */
 	private ArrayList<Message> getMessagesBySelector(final String cssSelector) {
-		switchToChatTextFrame();
+		final SearchContext chatTextFrame = this.mFrameManager.readFrame(EFrame.CHAT_TEXT);
 
 		// Fetch the elements and immediately extract the data before creating
 		// big objects to prevent stale elements
 		final LinkedList<String> elementsClasses = new LinkedList<>();
 		final LinkedList<String> elementsFullTexts = new LinkedList<>();
-		final List<WebElement> elements = this.mDriver.findElements(By.cssSelector(cssSelector));
+		final List<WebElement> elements = chatTextFrame.findElements(By.cssSelector(cssSelector));
 		for (final WebElement element : elements) {
 			elementsClasses.add(Classes.getClassAttribute(element));
 			elementsFullTexts.add(element.getText());
@@ -357,12 +358,4 @@ public final class Chat implements IChat {
 		this.mFrameManager.switchToFrame(EFrame.CHAT_FORM);
 	}
 
-	/**
-	 * Switches to the chat text frame of <tt>Freewar</tt> and waits until it is
-	 * loaded. It ensures that previous queued events are processed before switching
-	 * frames.
-	 */
-	private void switchToChatTextFrame() {
-		this.mFrameManager.switchToFrame(EFrame.CHAT_TEXT);
-	}
 }
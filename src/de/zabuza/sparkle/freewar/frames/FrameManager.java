@@ -1,25 +1,71 @@
 package de.zabuza.sparkle.freewar.frames;
 
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 
+import de.zabuza.sparkle.jfr.FlightEvents;
+import de.zabuza.sparkle.jfr.IFrameSwitchEvent;
 import de.zabuza.sparkle.selectors.CSSSelectors;
 import de.zabuza.sparkle.selectors.Names;
-import de.zabuza.sparkle.wait.CSSSelectorPresenceWait;
 import de.zabuza.sparkle.wait.EventQueueEmptyWait;
+import de.zabuza.sparkle.wait.FrameReadyWait;
+import de.zabuza.sparkle.webdriver.Deadline;
+import de.zabuza.sparkle.webdriver.IDelayedEventQueue;
+import de.zabuza.sparkle.webdriver.LocalDocumentDriver;
+import de.zabuza.sparkle.webdriver.PriorityScope;
+import de.zabuza.sparkle.webdriver.Scripts;
+import de.zabuza.sparkle.webdriver.WebDriverUtil;
+import de.zabuza.sparkle.webdriver.event.EEventPriority;
+import de.zabuza.sparkle.webdriver.intercept.AntiTrapInterceptor;
+import de.zabuza.sparkle.webdriver.intercept.ContextTrackingInterceptor;
 
 /**
  * Object that manages frames of a given
- * {@link de.zabuza.sparkle.freewar.IFreewarInstance IFreewarInstance}.
+ * {@link de.zabuza.sparkle.freewar.IFreewarInstance IFreewarInstance}. If
+ * the driver tracks context changes using a
+ * {@link ContextTrackingInterceptor}, the manager remembers the current frame
+ * and skips switching to it again as long as nothing could have navigated.
+ * Switching and waiting for frames respects the active {@link Deadline} of
+ * the thread, once it has passed the events the thread queued are cancelled.
+ * If local parsing is enabled, frames are read using a
+ * {@link LocalDocumentDriver}.
  * 
  * @author Zabuza {@literal <zabuza.dev@gmail.com>}
  * 
  */
 public final class FrameManager implements IFrameManager {
 
+	/**
+	 * The context tracker of the driver, <tt>null</tt> if the driver does not
+	 * track context changes.
+	 */
+	private final ContextTrackingInterceptor mContextTracker;
+	/**
+	 * The context version of the driver at the time the current frame was
+	 * reached.
+	 */
+	private long mContextVersion;
+	/**
+	 * The frame the driver is currently in, <tt>null</tt> if not known.
+	 */
+	private EFrame mCurrentFrame;
 	/**
 	 * The web driver used by this inventory.
 	 */
 	private final WebDriver mDriver;
+	/**
+	 * The driver that parses frames inside the JVM, <tt>null</tt> if local
+	 * parsing is disabled.
+	 */
+	private LocalDocumentDriver mLocalDocumentDriver;
 
 	/**
 	 * Creates a new frame manager that uses a given web driver.
@@ -29,6 +75,63 @@ public final class FrameManager implements IFrameManager {
 	 */
 	public FrameManager(final WebDriver driver) {
 		this.mDriver = driver;
+		this.mContextTracker = WebDriverUtil.getInterceptor(driver, ContextTrackingInterceptor.class).orElse(null);
+		this.mCurrentFrame = null;
+		this.mContextVersion = 0;
+		this.mLocalDocumentDriver = null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.frames.IFrameManager#isLocalParsingEnabled()
+	 */
+	@Override
+	public boolean isLocalParsingEnabled() {
+		return this.mLocalDocumentDriver != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.frames.IFrameManager#readFrame(de.zabuza.
+	 * sparkle.freewar.frames.EFrame)
+	 */
+	@Override
+	public SearchContext readFrame(final EFrame frame) {
+		switchToFrame(frame);
+		if (this.mLocalDocumentDriver == null) {
+			return this.mDriver;
+		}
+
+		final Optional<List<?>> source = fetchSource();
+		if (!source.isPresent()) {
+			return this.mDriver;
+		}
+		try {
+			final URL url = new URL(source.get().get(0).toString());
+			return this.mLocalDocumentDriver.parse(source.get().get(1).toString(), url);
+		} catch (final MalformedURLException | WebDriverException e) {
+			// Read through the driver instead
+			return this.mDriver;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.freewar.frames.IFrameManager#setLocalParsingEnabled(
+	 * boolean)
+	 */
+	@Override
+	public void setLocalParsingEnabled(final boolean enabled) {
+		if (enabled && this.mLocalDocumentDriver == null) {
+			this.mLocalDocumentDriver = new LocalDocumentDriver();
+		} else if (!enabled && this.mLocalDocumentDriver != null) {
+			this.mLocalDocumentDriver.quit();
+			this.mLocalDocumentDriver = null;
+		}
 	}
 
 	/*
@@ -39,6 +142,81 @@ public final class FrameManager implements IFrameManager {
 	 */
 	@Override
 	public void switchToFrame(final EFrame frame) {
+		final IFrameSwitchEvent event = FlightEvents.createFrameSwitchEvent();
+		event.begin();
+		final boolean isSkipped = isInFrame(frame);
+		try {
+			if (!isSkipped) {
+				performSwitch(frame);
+			}
+		} finally {
+			event.end();
+			if (event.shouldCommit()) {
+				event.setFrame(frame.name());
+				event.setSkipped(isSkipped);
+				event.commit();
+			}
+		}
+	}
+
+	/**
+	 * Fetches the source of the current document of the driver with a single
+	 * call, see {@link Scripts#SOURCE_OF_DOCUMENT}. If the driver is not able
+	 * to execute scripts, the source is requested from the driver directly.
+	 * 
+	 * @return A list whose first entry is the URL of the document and whose
+	 *         second entry is its source, if it could be fetched
+	 */
+	private Optional<List<?>> fetchSource() {
+		final Optional<JavascriptExecutor> executor = WebDriverUtil.getJavascriptExecutor(this.mDriver);
+		if (executor.isPresent()) {
+			try {
+				final Object source = executor.get().executeScript(Scripts.SOURCE_OF_DOCUMENT);
+				if (source instanceof List && ((List<?>) source).size() == 2) {
+					return Optional.of((List<?>) source);
+				}
+			} catch (final WebDriverException | UnsupportedOperationException e) {
+				// Request the source from the driver instead
+			}
+		}
+
+		try {
+			return Optional.of(Arrays.asList(this.mDriver.getCurrentUrl(), this.mDriver.getPageSource()));
+		} catch (final WebDriverException e) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Whether the driver is still in the given frame, i.e. it was switched to
+	 * the frame, nothing could have navigated since and there are no queued
+	 * events. Queued events do not matter if the current thread issues urgent
+	 * events, as those are executed before the queued events anyway.
+	 * 
+	 * @param frame
+	 *            The frame in question
+	 * @return <tt>True</tt> if the driver is still in the given frame,
+	 *         <tt>false</tt> if it may not be
+	 */
+	private boolean isInFrame(final EFrame frame) {
+		if (this.mContextTracker == null || this.mCurrentFrame != frame
+				|| this.mContextVersion != this.mContextTracker.getContextVersion()) {
+			return false;
+		}
+
+		final Optional<IDelayedEventQueue> queue = WebDriverUtil.getDelayedEventQueue(this.mDriver);
+		return !queue.isPresent() || queue.get().isEmpty()
+				|| PriorityScope.getActivePriority() == EEventPriority.URGENT;
+	}
+
+	/**
+	 * Switches to the given frame of <tt>Freewar</tt> without checking whether the
+	 * driver is still in it.
+	 * 
+	 * @param frame
+	 *            The frame to switch to
+	 */
+	private void performSwitch(final EFrame frame) {
 		String frameName;
 		String frameLoaded;
 		if (frame == EFrame.ITEM) {
@@ -62,7 +240,17 @@ public final class FrameManager implements IFrameManager {
 		} else {
 			throw new AssertionError();
 		}
+		// Do not start switching if the operation is already out of time
+		Deadline.requireNotPassed(this.mDriver);
+
+		// Forget the frame while switching, in case switching fails
+		this.mCurrentFrame = null;
 		switchToFrame(frameName, frameLoaded);
+
+		if (this.mContextTracker != null) {
+			this.mContextVersion = this.mContextTracker.getContextVersion();
+			this.mCurrentFrame = frame;
+		}
 	}
 
 	/**
@@ -79,10 +267,16 @@ public final class FrameManager implements IFrameManager {
 		// Wait for events to be processed before switching frames
 		new EventQueueEmptyWait(this.mDriver).waitUntilCondition();
 		this.mDriver.switchTo().defaultContent();
-		this.mDriver.switchTo().frame(frameName);
 
-		// Wait for frame to be fully present
-		new CSSSelectorPresenceWait(this.mDriver, frameLoaded).waitUntilCondition();
+		// Wait for frame to be fully present and switch to it
+		new FrameReadyWait(this.mDriver, frameName, frameLoaded).waitUntilCondition();
+
+		// Examine the anchors of the loaded frame at once, if desired
+		final Optional<AntiTrapInterceptor> antiTrapInterceptor = WebDriverUtil.getInterceptor(this.mDriver,
+				AntiTrapInterceptor.class);
+		if (antiTrapInterceptor.isPresent()) {
+			antiTrapInterceptor.get().updateTrapMap(frameName);
+		}
 	}
 
 }
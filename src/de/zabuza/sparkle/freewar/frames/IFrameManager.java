@@ -1,5 +1,7 @@
 package de.zabuza.sparkle.freewar.frames;
 
+import org.openqa.selenium.SearchContext;
+
 /**
  * Interface for frame manager that manage the frames of
  * {@link de.zabuza.sparkle.freewar.IFreewarInstance IFreewarInstance}s.
@@ -8,9 +10,51 @@ package de.zabuza.sparkle.freewar.frames;
  * 
  */
 public interface IFrameManager {
+	/**
+	 * Whether frames are parsed inside the JVM for reading, see
+	 * {@link #readFrame(EFrame)}.
+	 * 
+	 * @return <tt>True</tt> if frames are parsed inside the JVM, <tt>false</tt>
+	 *         if they are read through the driver
+	 */
+	public boolean isLocalParsingEnabled();
+
+	/**
+	 * Switches to the given frame of <tt>Freewar</tt> like
+	 * {@link #switchToFrame(EFrame)} and gets a context to read elements of the
+	 * frame from. If local parsing is enabled, the source of the frame is
+	 * fetched with a single call and parsed inside the JVM. The returned context
+	 * then answers searches for elements, their texts and attributes without
+	 * further calls to the browser. Elements hidden in the browser are hidden
+	 * in the parsed frame as well, if the driver is able to execute scripts.
+	 * Otherwise only styles declared inside the frame apply, elements hidden by
+	 * style sheets or scripts then appear as visible. Actions like clicks must
+	 * not be performed on elements found by it but on elements found by the
+	 * driver. The context is only valid until the next call of this method.
+	 * Else, or if the source could not be fetched, the driver itself is
+	 * returned.
+	 * 
+	 * @param frame
+	 *            The type of the frame to read
+	 * @return The context to read elements of the frame from
+	 */
+	public SearchContext readFrame(final EFrame frame);
+
+	/**
+	 * Sets whether frames are parsed inside the JVM for reading, see
+	 * {@link #readFrame(EFrame)}. By default they are read through the driver.
+	 * 
+	 * @param enabled
+	 *            <tt>True</tt> if frames should be parsed inside the JVM,
+	 *            <tt>false</tt> if they should be read through the driver
+	 */
+	public void setLocalParsingEnabled(final boolean enabled);
+
 	/**
 	 * Switches to the given frame of <tt>Freewar</tt> and waits until it is loaded.
 	 * It ensures that previous queued events are processed before switching frames.
+	 * Implementations may skip the switch if the driver is known to still be in
+	 * the given frame.
 	 * 
 	 * @param frame
 	 *            The type of the frame to switch to
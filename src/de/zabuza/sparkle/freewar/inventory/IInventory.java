@@ -3,10 +3,13 @@ package de.zabuza.sparkle.freewar.inventory;
 import java.util.Optional;
 
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 
 import de.zabuza.sparkle.freewar.IFreewarInstance;
 import de.zabuza.sparkle.freewar.frames.IFrameManager;
 import de.zabuza.sparkle.freewar.inventory.services.IItemService;
+import de.zabuza.sparkle.freewar.inventory.services.IItemServiceFactory;
+import de.zabuza.sparkle.freewar.inventory.services.ReflectiveItemServiceFactory;
 
 /**
  * Interface for inventories of
@@ -32,6 +35,18 @@ public interface IInventory {
 	 */
 	public boolean activateItem(final String item);
 
+	/**
+	 * Adds a listener that gets notified about changes of the inventory, like
+	 * added, removed, equipped or unequipped items. Changes are noticed whenever
+	 * the index is collected, see {@link #getIndex()} and {@link #refreshIndex()}.
+	 * The first index collected after adding the listener is the baseline of the
+	 * changes.
+	 * 
+	 * @param listener
+	 *            The listener to add
+	 */
+	public void addInventoryListener(final IInventoryListener listener);
+
 	/**
 	 * Tries to close the inventory, if not already closed. The inventory can not be
 	 * closed if the player only has few items.
@@ -41,6 +56,17 @@ public interface IInventory {
 	 */
 	public boolean closeInventory();
 
+	/**
+	 * Gets the index of the items the player has, which answers questions about
+	 * single items without further calls to the browser. The index is collected
+	 * at once when the inventory is read and reused for a short time, until an
+	 * action may have changed the inventory, like using, buying or dropping an
+	 * item.
+	 * 
+	 * @return The index of the items the player has
+	 */
+	public InventoryIndex getIndex();
+
 	/**
 	 * Gets the size of the players inventory which is the amount of items the
 	 * player carries.
@@ -61,16 +87,16 @@ public interface IInventory {
 
 	/**
 	 * Gets the {@link IItemService} that is registered for the given item. Services
-	 * can be registered using {@link #registerService(String, Class)}.
+	 * can be registered using {@link #registerService(String, IItemServiceFactory)}.
+	 * The service is created on the first call for the item and reused by
+	 * subsequent calls.
 	 * 
 	 * @param itemName
 	 *            The name of the item to get the registered service for
 	 * @return If present, the {@link IItemService} that is registered for the given
 	 *         item. If not, there is no service registered.
 	 * @throws IllegalStateException
-	 *             If the registered service is non valid and does not declare an
-	 *             appropriate constructor as defined in
-	 *             {@link #registerService(String, Class)}.
+	 *             If the registered factory could not create the service
 	 */
 	public Optional<IItemService> getService(final String itemName) throws IllegalStateException;
 
@@ -86,7 +112,7 @@ public interface IInventory {
 
 	/**
 	 * If there is a {@link IItemService} registered for the given item. Services
-	 * can be registered using {@link #registerService(String, Class)}.
+	 * can be registered using {@link #registerService(String, IItemServiceFactory)}.
 	 * 
 	 * @param itemName
 	 *            The name of the item in question
@@ -108,14 +134,32 @@ public interface IInventory {
 	 */
 	public void openInventory();
 
+	/**
+	 * Refreshes the index if it may be outdated and notifies the listeners about
+	 * changes, see {@link #addInventoryListener(IInventoryListener)}. The index is
+	 * collected with a low frequency, but quickly after actions performed by the
+	 * instance. It is neither refreshed while events are queued nor if the
+	 * inventory is closed, which is only checked again after a while. The method
+	 * is cheap if no refresh is due and is meant to be called regularly by the
+	 * thread that controls the instance, for example once per iteration of a bot,
+	 * instead of polling {@link #getItems()}. The frame of the driver is not
+	 * switched. It does nothing if the driver is not able to execute scripts.
+	 * 
+	 * @throws WebDriverException
+	 *             If the script that collects the index failed
+	 */
+	public void refreshIndex() throws WebDriverException;
+
 	/**
 	 * Registers the given service for the given item. It can be accessed by
 	 * {@link #getService(String)}. The framework will automatically build instances
 	 * of services on demand. For this each implementing class must have a public
 	 * constructor with arguments {@link String}, {@link IFreewarInstance},
 	 * {@link WebDriver} and {@link IFrameManager}. The framework will use this
-	 * constructor and provide all those parameters to the class. If there was
-	 * already a service registered to the given item it will be overridden.
+	 * constructor and provide all those parameters to the class. The constructor
+	 * is looked up once by this method, see {@link ReflectiveItemServiceFactory}.
+	 * If there was already a service registered to the given item it will be
+	 * overridden.
 	 * 
 	 * @param itemName
 	 *            The name of the item to register the service for
@@ -127,4 +171,32 @@ public interface IInventory {
 	 */
 	public void registerService(final String itemName, final Class<? extends IItemService> service)
 			throws IllegalArgumentException;
+
+	/**
+	 * Registers the given factory for the given item. The service it creates can
+	 * be accessed by {@link #getService(String)}. The framework calls the factory
+	 * once, on the first access to the service of the item. If there was already
+	 * a service registered to the given item it will be overridden.
+	 * 
+	 * @param itemName
+	 *            The name of the item to register the service for
+	 * @param factory
+	 *            The factory that creates the service for the given item
+	 */
+	public void registerService(final String itemName, final IItemServiceFactory factory);
+
+	/**
+	 * Removes all listeners that were added using
+	 * {@link #addInventoryListener(IInventoryListener)}.
+	 */
+	public void removeAllInventoryListeners();
+
+	/**
+	 * Removes the given listener that was added using
+	 * {@link #addInventoryListener(IInventoryListener)}.
+	 * 
+	 * @param listener
+	 *            The listener to remove
+	 */
+	public void removeInventoryListener(final IInventoryListener listener);
 }
@@ -0,0 +1,22 @@
+package de.zabuza.sparkle.freewar.inventory;
+
+/**
+ * Interface for listeners that get notified about changes of the inventory of
+ * a player. Listeners can be added using
+ * {@link IInventory#addInventoryListener(IInventoryListener)}.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public interface IInventoryListener {
+	/**
+	 * Gets called when the inventory changed. The method is called by the thread
+	 * that noticed the change, which is the thread that controls the instance,
+	 * and should thus return quickly. Thrown runtime exceptions are logged and do
+	 * not prevent other listeners from being notified.
+	 * 
+	 * @param change
+	 *            The change of the inventory, it is not empty
+	 */
+	public void inventoryChanged(final InventoryChange change);
+}
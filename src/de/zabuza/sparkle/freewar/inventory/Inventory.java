@@ -1,36 +1,102 @@
 package de.zabuza.sparkle.freewar.inventory;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import de.zabuza.sparkle.freewar.IFreewarInstance;
 import de.zabuza.sparkle.freewar.frames.EFrame;
 import de.zabuza.sparkle.freewar.frames.IFrameManager;
 import de.zabuza.sparkle.freewar.inventory.services.IItemService;
-import de.zabuza.sparkle.freewar.inventory.services.magicsphere.MagicSphere;
+import de.zabuza.sparkle.freewar.inventory.services.IItemServiceFactory;
+import de.zabuza.sparkle.freewar.inventory.services.ReflectiveItemServiceFactory;
+import de.zabuza.sparkle.freewar.inventory.services.magicsphere.MagicSphereFactory;
+import de.zabuza.sparkle.locale.ErrorMessages;
 import de.zabuza.sparkle.selectors.CSSSelectors;
 import de.zabuza.sparkle.selectors.ItemNames;
+import de.zabuza.sparkle.selectors.Names;
 import de.zabuza.sparkle.selectors.Patterns;
 import de.zabuza.sparkle.selectors.XPaths;
 import de.zabuza.sparkle.wait.EventQueueEmptyWait;
+import de.zabuza.sparkle.webdriver.IDelayedEventQueue;
+import de.zabuza.sparkle.webdriver.Scripts;
+import de.zabuza.sparkle.webdriver.WebDriverUtil;
+import de.zabuza.sparkle.webdriver.intercept.ContextTrackingInterceptor;
 
 /**
  * Inventory of a {@link de.zabuza.sparkle.freewar.IFreewarInstance
- * IFreewarInstance}. Can be used to access the inventory of a player.
+ * IFreewarInstance}. Can be used to access the inventory of a player.<br>
+ * <br>
+ * Questions about single items are answered by an {@link InventoryIndex}. If
+ * the driver tracks actions using a {@link ContextTrackingInterceptor}, the
+ * index is reused for at most {@link #INDEX_TIME_TO_LIVE} milliseconds as long
+ * as no action was performed and there are no queued events, see
+ * {@link ContextTrackingInterceptor#getActionVersion()}. Changes caused by
+ * other players or by the game itself are thus noticed once the index
+ * expired.<br>
+ * <br>
+ * {@link IInventoryListener}s are notified about the difference to the
+ * previously notified index whenever the index is collected. Besides
+ * {@link #getIndex()} this happens by {@link #refreshIndex()}, which the thread
+ * that controls the instance calls regularly. It collects the index at most
+ * every {@link #REFRESH_INTERVAL} milliseconds, but quickly after actions
+ * performed by the driver. As the web driver is not thread-safe, the index is
+ * never refreshed by another thread.
  * 
  * @author Zabuza {@literal <zabuza.dev@gmail.com>}
  * 
  */
 public final class Inventory implements IInventory {
+	/**
+	 * The time to live of the index in milliseconds, after which it is collected
+	 * again even if no action was performed.
+	 */
+	private static final long INDEX_TIME_TO_LIVE = 1_000;
+	/**
+	 * The minimal interval in milliseconds between two attempts of the refresh
+	 * to collect the index after actions were performed.
+	 */
+	private static final long REFRESH_CHECK_INTERVAL = 1_000;
+	/**
+	 * The interval in milliseconds after which the refresh attempts to collect
+	 * the index again, even if no action was performed.
+	 */
+	private static final long REFRESH_INTERVAL = 10_000;
+
+	/**
+	 * Creates the locator of the anchor that activates the given item.
+	 * 
+	 * @param item
+	 *            The name of the item
+	 * @param isEquipped
+	 *            Whether the item is equipped
+	 * @return The locator of the anchor that activates the item
+	 */
+	private static By createActivationLocator(final String item, final boolean isEquipped) {
+		if (isEquipped) {
+			return By.xpath(XPaths.ITEM_INVENTORY_ITEM_EQUIPPED_ACTIVATE_ANCHOR_PRE + item
+					+ XPaths.ITEM_INVENTORY_ITEM_EQUIPPED_ACTIVATE_ANCHOR_POST);
+		}
+		return By.xpath(
+				XPaths.ITEM_INVENTORY_ITEM_ACTIVATE_ANCHOR_PRE + item + XPaths.ITEM_INVENTORY_ITEM_ACTIVATE_ANCHOR_POST);
+	}
+
+	/**
+	 * The context tracker of the driver, <tt>null</tt> if the driver does not
+	 * track actions.
+	 */
+	private final ContextTrackingInterceptor mContextTracker;
 	/**
 	 * The web driver used by this inventory.
 	 */
@@ -39,14 +105,50 @@ public final class Inventory implements IInventory {
 	 * Manager to use for switching frames.
 	 */
 	private final IFrameManager mFrameManager;
+	/**
+	 * The current index of the items, <tt>null</tt> if not collected yet or
+	 * invalidated.
+	 */
+	private InventoryIndex mIndex;
+	/**
+	 * The action version of the driver at the time the index was collected.
+	 */
+	private long mIndexActionVersion;
+	/**
+	 * The time in nanoseconds at which the collection of the index started.
+	 */
+	private long mIndexTime;
 	/**
 	 * The instance to use for accessing other elements.
 	 */
 	private final IFreewarInstance mInstance;
 	/**
-	 * Structure which holds all registered services.
+	 * The action version of the driver at the time of the last refresh attempt.
+	 */
+	private long mLastRefreshActionVersion;
+	/**
+	 * The time in nanoseconds of the last refresh attempt, whether it collected
+	 * the index or found the inventory closed.
+	 */
+	private long mLastRefreshTime;
+	/**
+	 * The listeners that get notified about changes of the inventory.
 	 */
-	private final HashMap<String, Class<? extends IItemService>> mRegisteredServices;
+	private final List<IInventoryListener> mListeners;
+	/**
+	 * The index the listeners were notified about last, <tt>null</tt> if there
+	 * are no listeners or no index was collected since the first was added.
+	 */
+	private InventoryIndex mPublishedIndex;
+	/**
+	 * Structure which holds the factories of all registered services.
+	 */
+	private final HashMap<String, IItemServiceFactory> mRegisteredServices;
+	/**
+	 * Structure which holds the services that were already created, accessed by
+	 * the name of their item.
+	 */
+	private final HashMap<String, IItemService> mServices;
 
 	/**
 	 * Creates a new inventory that uses a given web driver.
@@ -62,7 +164,17 @@ public final class Inventory implements IInventory {
 		this.mInstance = instance;
 		this.mDriver = driver;
 		this.mFrameManager = frameManager;
+		this.mContextTracker = WebDriverUtil.getInterceptor(driver, ContextTrackingInterceptor.class).orElse(null);
+		this.mIndex = null;
+		this.mIndexActionVersion = 0;
+		this.mIndexTime = System.nanoTime();
+		this.mLastRefreshActionVersion = 0;
+		// The first refresh is due immediately
+		this.mLastRefreshTime = this.mIndexTime - TimeUnit.MILLISECONDS.toNanos(REFRESH_INTERVAL);
+		this.mListeners = new CopyOnWriteArrayList<>();
+		this.mPublishedIndex = null;
 		this.mRegisteredServices = new HashMap<>();
+		this.mServices = new HashMap<>();
 		registerBuiltInServices();
 	}
 
@@ -74,25 +186,16 @@ public final class Inventory implements IInventory {
 	 */
 	@Override
 	public boolean activateItem(final String item) {
-		if (!hasItem(item)) {
+		final Optional<InventoryEntry> entry = getIndex().getEntry(item);
+		if (!entry.isPresent() || !entry.get().getActivationLocator().isPresent()) {
 			return false;
 		}
-		String xpath = XPaths.ITEM_INVENTORY_ITEM_ACTIVATE_ANCHOR_PRE + item
-				+ XPaths.ITEM_INVENTORY_ITEM_ACTIVATE_ANCHOR_POST;
 
 		// If item has an activation link then click it
-		List<WebElement> itemElements = this.mDriver.findElements(By.xpath(xpath));
-		if (!itemElements.isEmpty()) {
-			final WebElement itemElement = itemElements.iterator().next();
-			itemElement.click();
-			return true;
-		}
-
-		// If item was not found then search for equipped items
-		xpath = XPaths.ITEM_INVENTORY_ITEM_EQUIPPED_ACTIVATE_ANCHOR_PRE + item
-				+ XPaths.ITEM_INVENTORY_ITEM_EQUIPPED_ACTIVATE_ANCHOR_POST;
-
-		itemElements = this.mDriver.findElements(By.xpath(xpath));
+		this.mFrameManager.switchToFrame(EFrame.ITEM);
+		final List<WebElement> itemElements = this.mDriver.findElements(entry.get().getActivationLocator().get());
+		// The item is used, thus the inventory is about to change
+		invalidateIndex();
 		if (!itemElements.isEmpty()) {
 			final WebElement itemElement = itemElements.iterator().next();
 			itemElement.click();
@@ -102,6 +205,18 @@ public final class Inventory implements IInventory {
 		return false;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.freewar.inventory.IInventory#addInventoryListener(de.
+	 * zabuza.sparkle.freewar.inventory.IInventoryListener)
+	 */
+	@Override
+	public synchronized void addInventoryListener(final IInventoryListener listener) {
+		this.mListeners.add(listener);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -112,6 +227,8 @@ public final class Inventory implements IInventory {
 		if (!isInventoryOpened()) {
 			return true;
 		}
+		// The state may be known from the index, without switching the frame
+		this.mFrameManager.switchToFrame(EFrame.ITEM);
 		// Only close inventory if it can be closed. Closing is not possible if
 		// the player only has few items
 		final List<WebElement> closeAnchors = this.mDriver
@@ -125,6 +242,28 @@ public final class Inventory implements IInventory {
 		return false;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.inventory.IInventory#getIndex()
+	 */
+	@Override
+	public InventoryIndex getIndex() {
+		final Optional<InventoryIndex> validIndex = getValidIndex();
+		if (validIndex.isPresent()) {
+			return validIndex.get();
+		}
+
+		openInventory();
+		// Remember the version before collecting the index, actions performed in
+		// between then invalidate it
+		final long time = System.nanoTime();
+		final long actionVersion = getActionVersion();
+		final InventoryIndex index = new InventoryIndex(collectListedItems());
+		publishIndex(index, actionVersion, time);
+		return index;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -132,8 +271,8 @@ public final class Inventory implements IInventory {
 	 */
 	@Override
 	public int getInventorySize() {
-		switchToItemFrame();
-		final WebElement element = this.mDriver.findElement(By.xpath(XPaths.ITEM_INVENTORY_SIZE));
+		final SearchContext itemFrame = this.mFrameManager.readFrame(EFrame.ITEM);
+		final WebElement element = itemFrame.findElement(By.xpath(XPaths.ITEM_INVENTORY_SIZE));
 		final String inventorySizeText = element.getText();
 		// Remove thousand dots
 		final String inventorySizeTextAdjusted = inventorySizeText.replaceAll("\\.", "");
@@ -153,24 +292,7 @@ public final class Inventory implements IInventory {
 	 */
 	@Override
 	public String[] getItems() {
-		openInventory();
-
-		final List<String> items = new ArrayList<>();
-
-		// Add unequipped items
-		final List<WebElement> unequippedItemElements = this.mDriver
-				.findElements(By.cssSelector(CSSSelectors.ITEM_INVENTORY_ITEM_NAME));
-		for (final WebElement itemElement : unequippedItemElements) {
-			items.add(itemElement.getText());
-		}
-
-		// Add equipped items
-		final List<WebElement> equippedItemElements = this.mDriver
-				.findElements(By.cssSelector(CSSSelectors.ITEM_INVENTORY_ITEM_EQUIPPED_NAME));
-		for (final WebElement itemElement : equippedItemElements) {
-			items.add(itemElement.getText());
-		}
-
+		final List<String> items = getIndex().getItems();
 		final String[] itemsArray = new String[items.size()];
 		return items.toArray(itemsArray);
 	}
@@ -183,21 +305,19 @@ public final class Inventory implements IInventory {
 	 */
 	@Override
 	public Optional<IItemService> getService(final String itemName) throws IllegalStateException {
-		if (!this.mRegisteredServices.containsKey(itemName)) {
-			return Optional.empty();
+		final IItemService service = this.mServices.get(itemName);
+		if (service != null) {
+			return Optional.of(service);
 		}
 
-		final Class<? extends IItemService> clazz = this.mRegisteredServices.get(itemName);
-		try {
-			final Constructor<? extends IItemService> constructor = clazz.getConstructor(String.class,
-					IFreewarInstance.class, WebDriver.class, IFrameManager.class);
-			final IItemService instance = constructor.newInstance(itemName, this.mInstance, this.mDriver,
-					this.mFrameManager);
-			return Optional.of(instance);
-		} catch (final NoSuchMethodException | InstantiationException | IllegalAccessException
-				| IllegalArgumentException | InvocationTargetException e) {
-			throw new IllegalStateException();
+		final IItemServiceFactory factory = this.mRegisteredServices.get(itemName);
+		if (factory == null) {
+			return Optional.empty();
 		}
+		final IItemService createdService = factory.createService(itemName, this.mInstance, this.mDriver,
+				this.mFrameManager);
+		this.mServices.put(itemName, createdService);
+		return Optional.of(createdService);
 	}
 
 	/*
@@ -207,23 +327,7 @@ public final class Inventory implements IInventory {
 	 */
 	@Override
 	public boolean hasItem(final String item) {
-		openInventory();
-
-		List<WebElement> itemElements = this.mDriver
-				.findElements(By.cssSelector(CSSSelectors.ITEM_INVENTORY_ITEM_NAME));
-		for (final WebElement itemElement : itemElements) {
-			if (itemElement.getText().equals(item)) {
-				return true;
-			}
-		}
-		// If item was not found then search for equipped items
-		itemElements = this.mDriver.findElements(By.cssSelector(CSSSelectors.ITEM_INVENTORY_ITEM_EQUIPPED_NAME));
-		for (final WebElement itemElement : itemElements) {
-			if (itemElement.getText().equals(item)) {
-				return true;
-			}
-		}
-		return false;
+		return getIndex().contains(item);
 	}
 
 	/*
@@ -244,9 +348,13 @@ public final class Inventory implements IInventory {
 	 */
 	@Override
 	public boolean isInventoryOpened() {
-		switchToItemFrame();
+		// The index is only collected with an opened inventory
+		if (getValidIndex().isPresent()) {
+			return true;
+		}
+		final SearchContext itemFrame = this.mFrameManager.readFrame(EFrame.ITEM);
 		// If inventory can not be opened assume it is already open
-		return this.mDriver.findElements(By.cssSelector(CSSSelectors.ITEM_INVENTORY_OPEN_ANCHOR)).isEmpty();
+		return itemFrame.findElements(By.cssSelector(CSSSelectors.ITEM_INVENTORY_OPEN_ANCHOR)).isEmpty();
 	}
 
 	/*
@@ -266,6 +374,39 @@ public final class Inventory implements IInventory {
 		new EventQueueEmptyWait(this.mDriver).waitUntilCondition();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.inventory.IInventory#refreshIndex()
+	 */
+	@Override
+	public void refreshIndex() throws WebDriverException {
+		final Optional<IDelayedEventQueue> queue = WebDriverUtil.getDelayedEventQueue(this.mDriver);
+		if (queue.isPresent() && !queue.get().isEmpty()) {
+			// The inventory may be about to change
+			return;
+		}
+
+		final Optional<JavascriptExecutor> executor = WebDriverUtil.getJavascriptExecutor(this.mDriver);
+		if (!executor.isPresent()) {
+			return;
+		}
+
+		final long time = System.nanoTime();
+		final long actionVersion = getActionVersion();
+		if (!startRefreshAttempt(time, actionVersion)) {
+			return;
+		}
+		final Object items = executor.get().executeScript(Scripts.INVENTORY_ITEMS,
+				CSSSelectors.ITEM_INVENTORY_ITEM_NAME, CSSSelectors.ITEM_INVENTORY_ITEM_EQUIPPED_NAME,
+				XPaths.ITEM_INVENTORY_ITEM_ACTIVATE_ANCHOR_SIBLING, CSSSelectors.ITEM_INVENTORY_OPEN_ANCHOR,
+				Names.FRAME_ITEM);
+		// The script yields nothing if the inventory is closed or not loaded
+		if (items instanceof List) {
+			publishIndex(new InventoryIndex(toListedItems((List<?>) items)), actionVersion, time);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -276,11 +417,215 @@ public final class Inventory implements IInventory {
 	@Override
 	public void registerService(final String itemName, final Class<? extends IItemService> service)
 			throws IllegalArgumentException {
-		try {
-			service.getConstructor(String.class, IFreewarInstance.class, WebDriver.class, IFrameManager.class);
-			this.mRegisteredServices.put(itemName, service);
-		} catch (final NoSuchMethodException e) {
-			throw new IllegalArgumentException();
+		registerService(itemName, new ReflectiveItemServiceFactory(service));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.freewar.inventory.IInventory#registerService(java.lang.
+	 * String, de.zabuza.sparkle.freewar.inventory.services.IItemServiceFactory)
+	 */
+	@Override
+	public void registerService(final String itemName, final IItemServiceFactory factory) {
+		this.mRegisteredServices.put(itemName, factory);
+		// Drop the service created by a previously registered factory
+		this.mServices.remove(itemName);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.freewar.inventory.IInventory#removeAllInventoryListeners()
+	 */
+	@Override
+	public synchronized void removeAllInventoryListeners() {
+		this.mListeners.clear();
+		resetPublishedIndex();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.freewar.inventory.IInventory#removeInventoryListener(de.
+	 * zabuza.sparkle.freewar.inventory.IInventoryListener)
+	 */
+	@Override
+	public synchronized void removeInventoryListener(final IInventoryListener listener) {
+		this.mListeners.remove(listener);
+		if (this.mListeners.isEmpty()) {
+			resetPublishedIndex();
+		}
+	}
+
+	/**
+	 * Collects the items listed in the opened inventory at once. If the driver is
+	 * able to execute scripts, they are collected by one script, see
+	 * {@link Scripts#INVENTORY_ITEMS}. Else they are read from the item frame,
+	 * see {@link IFrameManager#readFrame(EFrame)}.
+	 * 
+	 * @return An entry for each listed item in the order they are listed,
+	 *         unequipped items first
+	 */
+	private List<InventoryEntry> collectListedItems() {
+		this.mFrameManager.switchToFrame(EFrame.ITEM);
+		final Optional<JavascriptExecutor> executor = WebDriverUtil.getJavascriptExecutor(this.mDriver);
+		if (executor.isPresent()) {
+			try {
+				final Object items = executor.get().executeScript(Scripts.INVENTORY_ITEMS,
+						CSSSelectors.ITEM_INVENTORY_ITEM_NAME, CSSSelectors.ITEM_INVENTORY_ITEM_EQUIPPED_NAME,
+						XPaths.ITEM_INVENTORY_ITEM_ACTIVATE_ANCHOR_SIBLING, CSSSelectors.ITEM_INVENTORY_OPEN_ANCHOR,
+						"");
+				if (items instanceof List) {
+					return toListedItems((List<?>) items);
+				}
+			} catch (final WebDriverException | UnsupportedOperationException e) {
+				// Read the items from the frame instead
+			}
+		}
+
+		final List<InventoryEntry> listedItems = new ArrayList<>();
+		final SearchContext itemFrame = this.mFrameManager.readFrame(EFrame.ITEM);
+		collectListedItems(itemFrame, CSSSelectors.ITEM_INVENTORY_ITEM_NAME, false, listedItems);
+		collectListedItems(itemFrame, CSSSelectors.ITEM_INVENTORY_ITEM_EQUIPPED_NAME, true, listedItems);
+		return listedItems;
+	}
+
+	/**
+	 * Collects the items whose names are held by the elements given by the CSS
+	 * selector.
+	 * 
+	 * @param itemFrame
+	 *            The context to read the item frame from
+	 * @param cssSelector
+	 *            CSS selector of the elements that hold the names of the items
+	 * @param isEquipped
+	 *            Whether the items are equipped
+	 * @param listedItems
+	 *            The list to add an entry for each item to
+	 */
+	private void collectListedItems(final SearchContext itemFrame, final String cssSelector,
+			final boolean isEquipped, final List<InventoryEntry> listedItems) {
+		final List<WebElement> itemElements = itemFrame.findElements(By.cssSelector(cssSelector));
+		for (final WebElement itemElement : itemElements) {
+			final boolean isActivatable = !itemElement
+					.findElements(By.xpath(XPaths.ITEM_INVENTORY_ITEM_ACTIVATE_ANCHOR_SIBLING)).isEmpty();
+			listedItems.add(createListedItem(itemElement.getText(), isEquipped, isActivatable));
+		}
+	}
+
+	/**
+	 * Creates the entry of a single listed item.
+	 * 
+	 * @param item
+	 *            The name of the item
+	 * @param isEquipped
+	 *            Whether the item is equipped
+	 * @param isActivatable
+	 *            Whether the item can be activated
+	 * @return The entry of the item
+	 */
+	private InventoryEntry createListedItem(final String item, final boolean isEquipped, final boolean isActivatable) {
+		By activationLocator = null;
+		if (isActivatable) {
+			activationLocator = createActivationLocator(item, isEquipped);
+		}
+		return new InventoryEntry(item, 1, isEquipped, activationLocator);
+	}
+
+	/**
+	 * Gets the action version of the driver.
+	 * 
+	 * @return The current action version or <tt>0</tt> if the driver does not
+	 *         track actions
+	 */
+	private long getActionVersion() {
+		if (this.mContextTracker == null) {
+			return 0;
+		}
+		return this.mContextTracker.getActionVersion();
+	}
+
+	/**
+	 * Gets the current index if it is still valid, i.e. it was collected, did
+	 * not expire yet, no action was performed since and there are no queued
+	 * events.
+	 * 
+	 * @return The current index if it is valid, else nothing since it may be
+	 *         outdated
+	 */
+	private synchronized Optional<InventoryIndex> getValidIndex() {
+		if (this.mIndex == null || this.mContextTracker == null
+				|| this.mIndexActionVersion != this.mContextTracker.getActionVersion()
+				|| System.nanoTime() - this.mIndexTime >= TimeUnit.MILLISECONDS.toNanos(INDEX_TIME_TO_LIVE)) {
+			return Optional.empty();
+		}
+
+		final Optional<IDelayedEventQueue> queue = WebDriverUtil.getDelayedEventQueue(this.mDriver);
+		if (queue.isPresent() && !queue.get().isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(this.mIndex);
+	}
+
+	/**
+	 * Invalidates the current index, the next access collects it again.
+	 */
+	private synchronized void invalidateIndex() {
+		this.mIndex = null;
+	}
+
+	/**
+	 * Sets the given index as current index and notifies the listeners about the
+	 * difference to the index they were notified about last. The index is
+	 * discarded if a newer one was set in the meantime. Listeners are notified
+	 * outside of the lock of this inventory.
+	 * 
+	 * @param index
+	 *            The collected index
+	 * @param actionVersion
+	 *            The action version before the index was collected
+	 * @param time
+	 *            The time in nanoseconds at which the collection started
+	 */
+	private void publishIndex(final InventoryIndex index, final long actionVersion, final long time) {
+		final InventoryChange change;
+		synchronized (this) {
+			if (time - this.mIndexTime < 0) {
+				// A more recent index was collected in the meantime
+				return;
+			}
+			this.mIndex = index;
+			this.mIndexActionVersion = actionVersion;
+			this.mIndexTime = time;
+
+			final InventoryIndex publishedIndex = this.mPublishedIndex;
+			if (this.mListeners.isEmpty()) {
+				this.mPublishedIndex = null;
+				return;
+			}
+			this.mPublishedIndex = index;
+			if (publishedIndex == null) {
+				// The first index is the baseline of the changes
+				return;
+			}
+			change = InventoryChange.between(publishedIndex, index);
+		}
+
+		if (change.isEmpty()) {
+			return;
+		}
+		for (final IInventoryListener listener : this.mListeners) {
+			try {
+				listener.inventoryChanged(change);
+			} catch (final RuntimeException e) {
+				// Do not let a failing listener affect the others or the caller
+				System.err.println(ErrorMessages.INVENTORY_LISTENER_FAILED);
+				e.printStackTrace();
+			}
 		}
 	}
 
@@ -288,14 +633,72 @@ public final class Inventory implements IInventory {
 	 * Registers all already built-in services.
 	 */
 	private void registerBuiltInServices() {
-		registerService(ItemNames.COMPRESSED_MAGIC_SPHERE, MagicSphere.class);
+		registerService(ItemNames.COMPRESSED_MAGIC_SPHERE, new MagicSphereFactory());
 	}
 
 	/**
-	 * Switches to the item frame of <tt>Freewar</tt> and waits until it is loaded.
-	 * It ensures that previous queued events are processed before switching frames.
+	 * Starts an attempt of the refresh if it is due. It is due if the index may
+	 * be outdated, i.e. it was not collected yet or was invalidated, an action
+	 * was performed since or it is older than {@link #REFRESH_INTERVAL}, and the
+	 * last attempt is old enough. Attempts follow each other at least after
+	 * {@link #REFRESH_CHECK_INTERVAL} milliseconds if an action was performed in
+	 * between, else after {@link #REFRESH_INTERVAL} milliseconds. Thus a closed
+	 * inventory is not checked more often than necessary.
+	 * 
+	 * @param time
+	 *            The current time in nanoseconds
+	 * @param actionVersion
+	 *            The current action version
+	 * @return <tt>True</tt> if the attempt was started and the index should be
+	 *         collected, <tt>false</tt> if the refresh is not due
 	 */
-	private void switchToItemFrame() {
-		this.mFrameManager.switchToFrame(EFrame.ITEM);
+	private synchronized boolean startRefreshAttempt(final long time, final long actionVersion) {
+		final boolean isIndexOutdated = this.mIndex == null || actionVersion != this.mIndexActionVersion
+				|| time - this.mIndexTime >= TimeUnit.MILLISECONDS.toNanos(REFRESH_INTERVAL);
+		if (!isIndexOutdated) {
+			return false;
+		}
+
+		final long timeSinceLastAttempt = time - this.mLastRefreshTime;
+		final boolean isAttemptDue = timeSinceLastAttempt >= TimeUnit.MILLISECONDS.toNanos(REFRESH_INTERVAL)
+				|| (actionVersion != this.mLastRefreshActionVersion
+						&& timeSinceLastAttempt >= TimeUnit.MILLISECONDS.toNanos(REFRESH_CHECK_INTERVAL));
+		if (!isAttemptDue) {
+			return false;
+		}
+
+		this.mLastRefreshTime = time;
+		this.mLastRefreshActionVersion = actionVersion;
+		return true;
+	}
+
+	/**
+	 * Forgets the index the listeners were notified about last, the next
+	 * collected index is the baseline of the changes.
+	 */
+	private synchronized void resetPublishedIndex() {
+		this.mPublishedIndex = null;
+	}
+
+	/**
+	 * Converts the result of the script {@link Scripts#INVENTORY_ITEMS} into the
+	 * entries of the listed items.
+	 * 
+	 * @param items
+	 *            The result of the script
+	 * @return An entry for each listed item in the order they are listed,
+	 *         unequipped items first
+	 */
+	private List<InventoryEntry> toListedItems(final List<?> items) {
+		final List<InventoryEntry> listedItems = new ArrayList<>(items.size());
+		for (final Object item : items) {
+			final List<?> itemData = (List<?>) item;
+			final String name = itemData.get(0).toString();
+			final boolean isEquipped = Boolean.TRUE.equals(itemData.get(1));
+			final boolean isActivatable = Boolean.TRUE.equals(itemData.get(2));
+			listedItems.add(createListedItem(name, isEquipped, isActivatable));
+		}
+		return listedItems;
 	}
+
 }
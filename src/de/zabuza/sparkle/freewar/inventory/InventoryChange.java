@@ -0,0 +1,208 @@
+package de.zabuza.sparkle.freewar.inventory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable change of the inventory of a player between two
+ * {@link InventoryIndex}es. It lists the items that were added, the items that
+ * were removed and the items whose equipment changed. Changes are notified to
+ * {@link IInventoryListener}s.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class InventoryChange {
+	/**
+	 * Computes the change between the given indices.
+	 * 
+	 * @param previous
+	 *            The previous index of the inventory
+	 * @param current
+	 *            The current index of the inventory
+	 * @return The change from the previous to the current index, empty if both
+	 *         list the same items
+	 */
+	public static InventoryChange between(final InventoryIndex previous, final InventoryIndex current) {
+		final List<InventoryEntry> addedItems = new ArrayList<>();
+		final List<InventoryEntry> removedItems = new ArrayList<>();
+		final List<InventoryEntry> equipChangedItems = new ArrayList<>();
+
+		for (final InventoryEntry currentEntry : current.getEntries()) {
+			final Optional<InventoryEntry> previousEntry = previous.getEntry(currentEntry.getName());
+			if (!previousEntry.isPresent()) {
+				addedItems.add(currentEntry);
+				continue;
+			}
+
+			final int difference = currentEntry.getAmount() - previousEntry.get().getAmount();
+			if (difference > 0) {
+				addedItems.add(withAmount(currentEntry, difference));
+			} else if (difference < 0) {
+				removedItems.add(withAmount(currentEntry, -difference));
+			}
+			if (currentEntry.isEquipped() != previousEntry.get().isEquipped()) {
+				equipChangedItems.add(currentEntry);
+			}
+		}
+		for (final InventoryEntry previousEntry : previous.getEntries()) {
+			if (!current.contains(previousEntry.getName())) {
+				removedItems.add(previousEntry);
+			}
+		}
+
+		return new InventoryChange(addedItems, removedItems, equipChangedItems);
+	}
+
+	/**
+	 * Creates a copy of the given entry with another amount.
+	 * 
+	 * @param entry
+	 *            The entry to copy
+	 * @param amount
+	 *            The amount of the copy
+	 * @return The copy of the entry with the given amount
+	 */
+	private static InventoryEntry withAmount(final InventoryEntry entry, final int amount) {
+		return new InventoryEntry(entry.getName(), amount, entry.isEquipped(),
+				entry.getActivationLocator().orElse(null));
+	}
+
+	/**
+	 * The items that were added, their amount is the amount by which they
+	 * increased.
+	 */
+	private final List<InventoryEntry> mAddedItems;
+	/**
+	 * The items whose equipment changed, as they are listed now.
+	 */
+	private final List<InventoryEntry> mEquipChangedItems;
+	/**
+	 * The items that were removed, their amount is the amount by which they
+	 * decreased.
+	 */
+	private final List<InventoryEntry> mRemovedItems;
+
+	/**
+	 * Creates a new change.
+	 * 
+	 * @param addedItems
+	 *            The items that were added, their amount is the amount by which
+	 *            they increased
+	 * @param removedItems
+	 *            The items that were removed, their amount is the amount by
+	 *            which they decreased
+	 * @param equipChangedItems
+	 *            The items whose equipment changed, as they are listed now
+	 */
+	public InventoryChange(final List<InventoryEntry> addedItems, final List<InventoryEntry> removedItems,
+			final List<InventoryEntry> equipChangedItems) {
+		this.mAddedItems = Collections.unmodifiableList(new ArrayList<>(addedItems));
+		this.mRemovedItems = Collections.unmodifiableList(new ArrayList<>(removedItems));
+		this.mEquipChangedItems = Collections.unmodifiableList(new ArrayList<>(equipChangedItems));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (!(obj instanceof InventoryChange)) {
+			return false;
+		}
+		final InventoryChange other = (InventoryChange) obj;
+		if (!this.mAddedItems.equals(other.mAddedItems)) {
+			return false;
+		}
+		if (!this.mEquipChangedItems.equals(other.mEquipChangedItems)) {
+			return false;
+		}
+		if (!this.mRemovedItems.equals(other.mRemovedItems)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the items that were added. The amount of each entry is the amount by
+	 * which the item increased.
+	 * 
+	 * @return An unmodifiable list of the added items
+	 */
+	public List<InventoryEntry> getAddedItems() {
+		return this.mAddedItems;
+	}
+
+	/**
+	 * Gets the items that were equipped or unequipped. The entries describe the
+	 * items as they are listed now.
+	 * 
+	 * @return An unmodifiable list of the items whose equipment changed
+	 */
+	public List<InventoryEntry> getEquipChangedItems() {
+		return this.mEquipChangedItems;
+	}
+
+	/**
+	 * Gets the items that were removed. The amount of each entry is the amount
+	 * by which the item decreased.
+	 * 
+	 * @return An unmodifiable list of the removed items
+	 */
+	public List<InventoryEntry> getRemovedItems() {
+		return this.mRemovedItems;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + this.mAddedItems.hashCode();
+		result = prime * result + this.mEquipChangedItems.hashCode();
+		result = prime * result + this.mRemovedItems.hashCode();
+		return result;
+	}
+
+	/**
+	 * Whether the change is empty, i.e. no item was added, removed, equipped or
+	 * unequipped.
+	 * 
+	 * @return <tt>True</tt> if the change is empty, <tt>false</tt> if not
+	 */
+	public boolean isEmpty() {
+		return this.mAddedItems.isEmpty() && this.mRemovedItems.isEmpty() && this.mEquipChangedItems.isEmpty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("InventoryChange [added=");
+		builder.append(this.mAddedItems);
+		builder.append(", removed=");
+		builder.append(this.mRemovedItems);
+		builder.append(", equipChanged=");
+		builder.append(this.mEquipChangedItems);
+		builder.append("]");
+		return builder.toString();
+	}
+}
@@ -0,0 +1,183 @@
+package de.zabuza.sparkle.freewar.inventory;
+
+import java.util.Optional;
+
+import org.openqa.selenium.By;
+
+/**
+ * Immutable entry of an {@link InventoryIndex} that describes all items of
+ * the inventory with a given name.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class InventoryEntry {
+	/**
+	 * The locator of the anchor that activates the item, <tt>null</tt> if the
+	 * item can not be activated.
+	 */
+	private final By mActivationLocator;
+	/**
+	 * The amount of times the item is listed in the inventory.
+	 */
+	private final int mAmount;
+	/**
+	 * Whether the item is equipped.
+	 */
+	private final boolean mEquipped;
+	/**
+	 * The name of the item.
+	 */
+	private final String mName;
+
+	/**
+	 * Creates a new entry.
+	 * 
+	 * @param name
+	 *            The name of the item
+	 * @param amount
+	 *            The amount of times the item is listed in the inventory
+	 * @param equipped
+	 *            Whether the item is equipped
+	 * @param activationLocator
+	 *            The locator of the anchor that activates the item,
+	 *            <tt>null</tt> if the item can not be activated
+	 */
+	public InventoryEntry(final String name, final int amount, final boolean equipped, final By activationLocator) {
+		this.mName = name;
+		this.mAmount = amount;
+		this.mEquipped = equipped;
+		this.mActivationLocator = activationLocator;
+	}
+
+	/**
+	 * Combines this entry with another entry of an item with the same name. The
+	 * amounts are added up and the item is equipped if it is equipped in any of
+	 * both. The activation locator of this entry is preferred.
+	 * 
+	 * @param other
+	 *            The other entry to combine with
+	 * @return The combined entry
+	 */
+	public InventoryEntry combine(final InventoryEntry other) {
+		By activationLocator = this.mActivationLocator;
+		if (activationLocator == null) {
+			activationLocator = other.mActivationLocator;
+		}
+		return new InventoryEntry(this.mName, this.mAmount + other.mAmount, this.mEquipped || other.mEquipped,
+				activationLocator);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (!(obj instanceof InventoryEntry)) {
+			return false;
+		}
+		final InventoryEntry other = (InventoryEntry) obj;
+		if (this.mActivationLocator == null) {
+			if (other.mActivationLocator != null) {
+				return false;
+			}
+		} else if (!this.mActivationLocator.equals(other.mActivationLocator)) {
+			return false;
+		}
+		if (this.mAmount != other.mAmount) {
+			return false;
+		}
+		if (this.mEquipped != other.mEquipped) {
+			return false;
+		}
+		if (this.mName == null) {
+			if (other.mName != null) {
+				return false;
+			}
+		} else if (!this.mName.equals(other.mName)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the locator of the anchor that activates the item.
+	 * 
+	 * @return The locator of the anchor that activates the item, if the item
+	 *         can be activated
+	 */
+	public Optional<By> getActivationLocator() {
+		return Optional.ofNullable(this.mActivationLocator);
+	}
+
+	/**
+	 * Gets the amount of times the item is listed in the inventory.
+	 * 
+	 * @return The amount of times the item is listed in the inventory
+	 */
+	public int getAmount() {
+		return this.mAmount;
+	}
+
+	/**
+	 * Gets the name of the item.
+	 * 
+	 * @return The name of the item
+	 */
+	public String getName() {
+		return this.mName;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((this.mActivationLocator == null) ? 0 : this.mActivationLocator.hashCode());
+		result = prime * result + this.mAmount;
+		result = prime * result + (this.mEquipped ? 1231 : 1237);
+		result = prime * result + ((this.mName == null) ? 0 : this.mName.hashCode());
+		return result;
+	}
+
+	/**
+	 * Whether the item is equipped.
+	 * 
+	 * @return <tt>True</tt> if the item is equipped, <tt>false</tt> if not
+	 */
+	public boolean isEquipped() {
+		return this.mEquipped;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("InventoryEntry [name=");
+		builder.append(this.mName);
+		builder.append(", amount=");
+		builder.append(this.mAmount);
+		builder.append(", equipped=");
+		builder.append(this.mEquipped);
+		builder.append(", activationLocator=");
+		builder.append(this.mActivationLocator);
+		builder.append("]");
+		return builder.toString();
+	}
+}
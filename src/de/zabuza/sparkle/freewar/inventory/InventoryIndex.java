@@ -0,0 +1,110 @@
+package de.zabuza.sparkle.freewar.inventory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable index of the items in the inventory of a player at one point in
+ * time, as collected by {@link IInventory#getIndex()}. It gives access to an
+ * {@link InventoryEntry} for each name of an item in constant time.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class InventoryIndex {
+	/**
+	 * The names of all listed items in the order they are listed, unequipped
+	 * items first.
+	 */
+	private final List<String> mItems;
+	/**
+	 * The entry of each item, accessed by the name of the item.
+	 */
+	private final Map<String, InventoryEntry> mNameToEntry;
+
+	/**
+	 * Creates a new index of the given listed items. Items with the same name
+	 * are combined into one entry, see
+	 * {@link InventoryEntry#combine(InventoryEntry)}.
+	 * 
+	 * @param listedItems
+	 *            An entry for each listed item in the order they are listed,
+	 *            unequipped items first
+	 */
+	public InventoryIndex(final List<InventoryEntry> listedItems) {
+		final List<String> items = new ArrayList<>(listedItems.size());
+		final Map<String, InventoryEntry> nameToEntry = new LinkedHashMap<>();
+		for (final InventoryEntry listedItem : listedItems) {
+			items.add(listedItem.getName());
+			final InventoryEntry entry = nameToEntry.get(listedItem.getName());
+			if (entry == null) {
+				nameToEntry.put(listedItem.getName(), listedItem);
+			} else {
+				nameToEntry.put(listedItem.getName(), entry.combine(listedItem));
+			}
+		}
+		this.mItems = Collections.unmodifiableList(items);
+		this.mNameToEntry = Collections.unmodifiableMap(nameToEntry);
+	}
+
+	/**
+	 * Whether the inventory contains an item with the given name.
+	 * 
+	 * @param item
+	 *            The name of the item in question
+	 * @return <tt>True</tt> if the inventory contains the item, <tt>false</tt>
+	 *         if not
+	 */
+	public boolean contains(final String item) {
+		return this.mNameToEntry.containsKey(item);
+	}
+
+	/**
+	 * Gets the entries of all items of the inventory.
+	 * 
+	 * @return An unmodifiable view of the entries of all items
+	 */
+	public Collection<InventoryEntry> getEntries() {
+		return this.mNameToEntry.values();
+	}
+
+	/**
+	 * Gets the entry of the item with the given name.
+	 * 
+	 * @param item
+	 *            The name of the item to get
+	 * @return The entry of the item, if the inventory contains it
+	 */
+	public Optional<InventoryEntry> getEntry(final String item) {
+		return Optional.ofNullable(this.mNameToEntry.get(item));
+	}
+
+	/**
+	 * Gets the names of all listed items in the order they are listed,
+	 * unequipped items first. Names of items that are listed multiple times
+	 * occur multiple times.
+	 * 
+	 * @return An unmodifiable list of the names of all listed items
+	 */
+	public List<String> getItems() {
+		return this.mItems;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("InventoryIndex ");
+		builder.append(this.mNameToEntry.values());
+		return builder.toString();
+	}
+}
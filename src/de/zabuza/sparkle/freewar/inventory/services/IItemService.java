@@ -9,11 +9,13 @@ import de.zabuza.sparkle.freewar.frames.IFrameManager;
  * Interface for services of items. A service offers certain item depending
  * actions. In order to access the actions the service needs to be casted to its
  * actual class which can be accessed by {@link Class#getClass()}. The framework
- * will automatically build services on demand. For this each implementing class
- * must have a public constructor with arguments {@link String},
+ * will automatically build services on demand, using the
+ * {@link IItemServiceFactory} they were registered with. Services registered by
+ * their class must have a public constructor with arguments {@link String},
  * {@link IFreewarInstance}, {@link WebDriver} and {@link IFrameManager}. The
  * framework will use this constructor and provide all those parameters to the
- * class.
+ * class. A service is built at most once per item and instance, thus it should
+ * not hold state that depends on a single action.
  * 
  * @author Zabuza {@literal <zabuza.dev@gmail.com>}
  * 
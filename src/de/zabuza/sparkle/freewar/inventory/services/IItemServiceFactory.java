@@ -0,0 +1,37 @@
+package de.zabuza.sparkle.freewar.inventory.services;
+
+import org.openqa.selenium.WebDriver;
+
+import de.zabuza.sparkle.freewar.IFreewarInstance;
+import de.zabuza.sparkle.freewar.frames.IFrameManager;
+
+/**
+ * Interface for factories that create {@link IItemService}s. Factories are
+ * registered for an item using
+ * {@link de.zabuza.sparkle.freewar.inventory.IInventory#registerService(String, IItemServiceFactory)
+ * IInventory#registerService(String, IItemServiceFactory)}. The framework
+ * creates at most one service per item and instance, thus a factory is called
+ * rarely.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public interface IItemServiceFactory {
+	/**
+	 * Creates the service for the given item.
+	 * 
+	 * @param itemName
+	 *            The name of the item the service offers actions for
+	 * @param instance
+	 *            The instance to use for accessing other data
+	 * @param driver
+	 *            The web driver to use for accessing elements
+	 * @param frameManager
+	 *            The frame manager to use for changing frames
+	 * @return The created service
+	 * @throws IllegalStateException
+	 *             If the service could not be created
+	 */
+	public IItemService createService(final String itemName, final IFreewarInstance instance,
+			final WebDriver driver, final IFrameManager frameManager) throws IllegalStateException;
+}
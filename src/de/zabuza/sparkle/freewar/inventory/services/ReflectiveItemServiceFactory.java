@@ -0,0 +1,63 @@
+package de.zabuza.sparkle.freewar.inventory.services;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import org.openqa.selenium.WebDriver;
+
+import de.zabuza.sparkle.freewar.IFreewarInstance;
+import de.zabuza.sparkle.freewar.frames.IFrameManager;
+
+/**
+ * Factory that creates services of a given class by using its public
+ * constructor with arguments {@link String}, {@link IFreewarInstance},
+ * {@link WebDriver} and {@link IFrameManager}. The constructor is looked up
+ * once, when the factory is created.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class ReflectiveItemServiceFactory implements IItemServiceFactory {
+	/**
+	 * The constructor of the services to create.
+	 */
+	private final Constructor<? extends IItemService> mConstructor;
+
+	/**
+	 * Creates a new factory that creates services of the given class.
+	 * 
+	 * @param service
+	 *            The class of the services to create
+	 * @throws IllegalArgumentException
+	 *             If the given class is non valid and does not declare an
+	 *             appropriate constructor
+	 */
+	public ReflectiveItemServiceFactory(final Class<? extends IItemService> service)
+			throws IllegalArgumentException {
+		try {
+			this.mConstructor = service.getConstructor(String.class, IFreewarInstance.class, WebDriver.class,
+					IFrameManager.class);
+		} catch (final NoSuchMethodException e) {
+			throw new IllegalArgumentException();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.inventory.services.IItemServiceFactory#
+	 * createService(java.lang.String,
+	 * de.zabuza.sparkle.freewar.IFreewarInstance, org.openqa.selenium.WebDriver,
+	 * de.zabuza.sparkle.freewar.frames.IFrameManager)
+	 */
+	@Override
+	public IItemService createService(final String itemName, final IFreewarInstance instance,
+			final WebDriver driver, final IFrameManager frameManager) throws IllegalStateException {
+		try {
+			return this.mConstructor.newInstance(itemName, instance, driver, frameManager);
+		} catch (final InstantiationException | IllegalAccessException | IllegalArgumentException
+				| InvocationTargetException e) {
+			throw new IllegalStateException();
+		}
+	}
+}
@@ -19,6 +19,7 @@ import de.zabuza.sparkle.locale.ErrorMessages;
 import de.zabuza.sparkle.selectors.CSSSelectors;
 import de.zabuza.sparkle.wait.CSSSelectorPresenceWait;
 import de.zabuza.sparkle.wait.EventQueueEmptyWait;
+import de.zabuza.sparkle.webdriver.Deadline;
 
 /**
  * Service for magic sphere items. Offers methods to activate magic sphere
@@ -462,6 +463,30 @@ public final class MagicSphere implements IItemService {
 		return teleportByAccessId(getBlueSphereAccessIdByDestination(destination));
 	}
 
+	/**
+	 * Teleports to the given destination by using the item registered for while
+	 * assuming it is a blue sphere. All waits of the action share the time
+	 * remaining until the given deadline.
+	 * 
+	 * @param destination
+	 *            Blue sphere destination to teleport to
+	 * @param deadline
+	 *            The deadline until which the action has to be finished
+	 * @return If not present the action was successful, if present it contains the
+	 *         error code
+	 * @throws TimeoutException
+	 *             Thrown when the deadline passed before the action finished
+	 */
+	public Optional<EErrorCode> teleportWithMagicSphere(final EBlueSphereDestination destination,
+			final Deadline deadline) throws TimeoutException {
+		final Deadline activeDeadline = deadline.activate();
+		try {
+			return teleportWithMagicSphere(destination);
+		} finally {
+			activeDeadline.close();
+		}
+	}
+
 	/**
 	 * Teleports to the destination given by its access id in the dialog by using
 	 * the item registered for.
@@ -0,0 +1,31 @@
+package de.zabuza.sparkle.freewar.inventory.services.magicsphere;
+
+import org.openqa.selenium.WebDriver;
+
+import de.zabuza.sparkle.freewar.IFreewarInstance;
+import de.zabuza.sparkle.freewar.frames.IFrameManager;
+import de.zabuza.sparkle.freewar.inventory.services.IItemService;
+import de.zabuza.sparkle.freewar.inventory.services.IItemServiceFactory;
+
+/**
+ * Factory that creates {@link MagicSphere} services.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class MagicSphereFactory implements IItemServiceFactory {
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.inventory.services.IItemServiceFactory#
+	 * createService(java.lang.String,
+	 * de.zabuza.sparkle.freewar.IFreewarInstance, org.openqa.selenium.WebDriver,
+	 * de.zabuza.sparkle.freewar.frames.IFrameManager)
+	 */
+	@Override
+	public IItemService createService(final String itemName, final IFreewarInstance instance,
+			final WebDriver driver, final IFrameManager frameManager) {
+		return new MagicSphere(itemName, instance, driver, frameManager);
+	}
+}
@@ -1,6 +1,8 @@
 package de.zabuza.sparkle.freewar.location;
 
 import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.List;
 import java.util.Optional;
 
 import org.openqa.selenium.WebDriver;
@@ -8,6 +10,8 @@ import org.openqa.selenium.WebDriver;
 import de.zabuza.sparkle.freewar.IFreewarInstance;
 import de.zabuza.sparkle.freewar.frames.IFrameManager;
 import de.zabuza.sparkle.freewar.location.services.ILocationService;
+import de.zabuza.sparkle.freewar.location.services.ILocationServiceFactory;
+import de.zabuza.sparkle.freewar.location.services.ReflectiveLocationServiceFactory;
 
 /**
  * Interface for locations of {@link de.zabuza.sparkle.freewar.IFreewarInstance
@@ -64,17 +68,45 @@ public interface ILocation {
 	/**
 	 * Gets the {@link ILocationService} that is registered for the current
 	 * location. Services can be registered using
-	 * {@link #registerService(Point, Class)}.
+	 * {@link #registerService(Point, ILocationServiceFactory)}. The service is
+	 * created on the first call at the location and reused by subsequent calls.
 	 * 
 	 * @return If present, the {@link ILocationService} that is registered for the
 	 *         current location. If not, there is no service registered.
 	 * @throws IllegalStateException
-	 *             If the registered service is non valid and does not declare an
-	 *             appropriate constructor as defined in
-	 *             {@link #registerService(Point, Class)}.
+	 *             If the registered factory could not create the service
 	 */
 	public Optional<ILocationService> getService() throws IllegalStateException;
 
+	/**
+	 * Gets the positions of all locations that offer a service of the given
+	 * class or of a subclass of it, see
+	 * {@link ILocationServiceFactory#getServiceClass()}. The positions can be
+	 * ranked by the cost of travelling to them using
+	 * {@link de.zabuza.sparkle.freewar.movement.IMovement#rankByTravelCost(java.util.Collection, java.util.Set)
+	 * IMovement#rankByTravelCost(Collection, Set)}.
+	 * 
+	 * @param service
+	 *            The class of the service in question
+	 * @return The positions of all locations that offer such a service, in no
+	 *         particular order
+	 */
+	public List<Point> getServicePositions(final Class<? extends ILocationService> service);
+
+	/**
+	 * Gets the positions of all locations in the given area that have a
+	 * registered service. The positions can be ranked by the cost of travelling
+	 * to them using
+	 * {@link de.zabuza.sparkle.freewar.movement.IMovement#rankByTravelCost(java.util.Collection, java.util.Set)
+	 * IMovement#rankByTravelCost(Collection, Set)}.
+	 * 
+	 * @param area
+	 *            The area in coordinates, see {@link Rectangle#contains(Point)}
+	 * @return The positions of all locations in the area that have a registered
+	 *         service, in no particular order
+	 */
+	public List<Point> getServicePositions(final Rectangle area);
+
 	/**
 	 * If there is a given NPC on the location.
 	 * 
@@ -87,7 +119,8 @@ public interface ILocation {
 
 	/**
 	 * If there is a {@link ILocationService} registered at the current location.
-	 * Services can be registered using {@link #registerService(Point, Class)}.
+	 * Services can be registered using
+	 * {@link #registerService(Point, ILocationServiceFactory)}.
 	 * 
 	 * @return <tt>True</tt> if the current location has a registered
 	 *         {@link ILocationService}, <tt>false</tt> if not.
@@ -101,8 +134,9 @@ public interface ILocation {
 	 * demand. For this each implementing class must have a public constructor with
 	 * arguments {@link Point}, {@link IFreewarInstance}, {@link WebDriver} and
 	 * {@link IFrameManager}. The framework will use this constructor and provide
-	 * all those parameters to the class. If there was already a service registered
-	 * to the given location it will be overridden.
+	 * all those parameters to the class. The constructor is looked up once by this
+	 * method, see {@link ReflectiveLocationServiceFactory}. If there was already a
+	 * service registered to the given location it will be overridden.
 	 * 
 	 * @param location
 	 *            The position of the location to register the service for
@@ -115,6 +149,20 @@ public interface ILocation {
 	public void registerService(final Point location, final Class<? extends ILocationService> service)
 			throws IllegalArgumentException;
 
+	/**
+	 * Registers the given factory for the given location. The service it creates
+	 * can be accessed by {@link #getService()} if {@link #getPosition()} returns
+	 * the given location. The framework calls the factory once, on the first
+	 * access to the service of the location. If there was already a service
+	 * registered to the given location it will be overridden.
+	 * 
+	 * @param location
+	 *            The position of the location to register the service for
+	 * @param factory
+	 *            The factory that creates the service for the given location
+	 */
+	public void registerService(final Point location, final ILocationServiceFactory factory);
+
 	/**
 	 * Tries to attack a given NPC using the regular attack option.
 	 * 
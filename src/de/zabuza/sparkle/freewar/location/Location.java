@@ -1,8 +1,7 @@
 package de.zabuza.sparkle.freewar.location;
 
 import java.awt.Point;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.awt.Rectangle;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -11,6 +10,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
@@ -18,7 +18,9 @@ import de.zabuza.sparkle.freewar.IFreewarInstance;
 import de.zabuza.sparkle.freewar.frames.EFrame;
 import de.zabuza.sparkle.freewar.frames.IFrameManager;
 import de.zabuza.sparkle.freewar.location.services.ILocationService;
-import de.zabuza.sparkle.freewar.location.services.post.PostOffice;
+import de.zabuza.sparkle.freewar.location.services.ILocationServiceFactory;
+import de.zabuza.sparkle.freewar.location.services.ReflectiveLocationServiceFactory;
+import de.zabuza.sparkle.freewar.location.services.post.PostOfficeFactory;
 import de.zabuza.sparkle.selectors.CSSSelectors;
 import de.zabuza.sparkle.selectors.Patterns;
 import de.zabuza.sparkle.selectors.XPaths;
@@ -47,9 +49,14 @@ public final class Location implements ILocation {
 	 */
 	private final IFreewarInstance mInstance;
 	/**
-	 * Structure which holds all registered services.
+	 * Spatial index which holds the factories of all registered services.
 	 */
-	private final HashMap<Point, Class<? extends ILocationService>> mRegisteredServices;
+	private final LocationServiceIndex mRegisteredServices;
+	/**
+	 * Structure which holds the services that were already created, accessed by
+	 * their location.
+	 */
+	private final HashMap<Point, ILocationService> mServices;
 
 	/**
 	 * Creates a new location using the given driver.
@@ -65,7 +72,8 @@ public final class Location implements ILocation {
 		this.mInstance = instance;
 		this.mDriver = driver;
 		this.mFrameManager = frameManager;
-		this.mRegisteredServices = new HashMap<>();
+		this.mRegisteredServices = new LocationServiceIndex();
+		this.mServices = new HashMap<>();
 		registerBuiltInServices();
 	}
 
@@ -97,11 +105,11 @@ public final class Location implements ILocation {
 	 */
 	@Override
 	public String[] getNPCs() {
-		switchToMainFrame();
+		final SearchContext mainFrame = this.mFrameManager.readFrame(EFrame.MAIN);
 
 		final List<String> npcs = new ArrayList<>();
 
-		final List<WebElement> npcElements = this.mDriver
+		final List<WebElement> npcElements = mainFrame
 				.findElements(By.cssSelector(CSSSelectors.MAIN_LOCATION_NPC_NAME));
 		for (final WebElement npcElement : npcElements) {
 			npcs.add(npcElement.getText());
@@ -118,11 +126,11 @@ public final class Location implements ILocation {
 	 */
 	@Override
 	public Point getPosition() {
-		switchToMapFrame();
+		final SearchContext mapFrame = this.mFrameManager.readFrame(EFrame.MAP);
 
 		// Get position text, has the format:
 		// Position X: 508 Y: -57
-		final String positionText = this.mDriver.findElement(By.cssSelector(CSSSelectors.MAP_POSITION_TEXT)).getText();
+		final String positionText = mapFrame.findElement(By.cssSelector(CSSSelectors.MAP_POSITION_TEXT)).getText();
 
 		// Extract x and y coordinates from text
 		final Matcher matcher = Pattern.compile(Patterns.INTEGER).matcher(positionText);
@@ -144,21 +152,43 @@ public final class Location implements ILocation {
 	@Override
 	public Optional<ILocationService> getService() throws IllegalStateException {
 		final Point location = getPosition();
-		if (!this.mRegisteredServices.containsKey(location)) {
-			return Optional.empty();
+		final ILocationService service = this.mServices.get(location);
+		if (service != null) {
+			return Optional.of(service);
 		}
 
-		final Class<? extends ILocationService> clazz = this.mRegisteredServices.get(location);
-		try {
-			final Constructor<? extends ILocationService> constructor = clazz.getConstructor(Point.class,
-					IFreewarInstance.class, WebDriver.class, IFrameManager.class);
-			final ILocationService instance = constructor.newInstance(location, this.mInstance, this.mDriver,
-					this.mFrameManager);
-			return Optional.of(instance);
-		} catch (final NoSuchMethodException | InstantiationException | IllegalAccessException
-				| IllegalArgumentException | InvocationTargetException e) {
-			throw new IllegalStateException();
+		final Optional<ILocationServiceFactory> factory = this.mRegisteredServices.getFactory(location);
+		if (!factory.isPresent()) {
+			return Optional.empty();
 		}
+		final ILocationService createdService = factory.get().createService(location, this.mInstance, this.mDriver,
+				this.mFrameManager);
+		this.mServices.put(location, createdService);
+		return Optional.of(createdService);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.freewar.location.ILocation#getServicePositions(java.lang.
+	 * Class)
+	 */
+	@Override
+	public List<Point> getServicePositions(final Class<? extends ILocationService> service) {
+		return this.mRegisteredServices.getPositions(service);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.freewar.location.ILocation#getServicePositions(java.awt.
+	 * Rectangle)
+	 */
+	@Override
+	public List<Point> getServicePositions(final Rectangle area) {
+		return this.mRegisteredServices.getPositions(area);
 	}
 
 	/*
@@ -168,9 +198,9 @@ public final class Location implements ILocation {
 	 */
 	@Override
 	public boolean hasNPC(final String npcName) {
-		switchToMainFrame();
+		final SearchContext mainFrame = this.mFrameManager.readFrame(EFrame.MAIN);
 
-		final List<WebElement> npcElements = this.mDriver
+		final List<WebElement> npcElements = mainFrame
 				.findElements(By.cssSelector(CSSSelectors.MAIN_LOCATION_NPC_NAME));
 		for (final WebElement npcElement : npcElements) {
 			if (npcElement.getText().equals(npcName)) {
@@ -189,7 +219,7 @@ public final class Location implements ILocation {
 	@Override
 	public boolean hasService() {
 		final Point location = getPosition();
-		return this.mRegisteredServices.containsKey(location);
+		return this.mRegisteredServices.contains(location);
 	}
 
 	/*
@@ -201,12 +231,20 @@ public final class Location implements ILocation {
 	@Override
 	public void registerService(final Point location, final Class<? extends ILocationService> service)
 			throws IllegalArgumentException {
-		try {
-			service.getConstructor(Point.class, IFreewarInstance.class, WebDriver.class, IFrameManager.class);
-			this.mRegisteredServices.put(location, service);
-		} catch (final NoSuchMethodException e) {
-			throw new IllegalArgumentException();
-		}
+		registerService(location, new ReflectiveLocationServiceFactory(service));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.location.ILocation#registerService(java.awt.
+	 * Point, de.zabuza.sparkle.freewar.location.services.ILocationServiceFactory)
+	 */
+	@Override
+	public void registerService(final Point location, final ILocationServiceFactory factory) {
+		this.mRegisteredServices.register(location, factory);
+		// Drop the service created by a previously registered factory
+		this.mServices.remove(location);
 	}
 
 	/*
@@ -296,29 +334,16 @@ public final class Location implements ILocation {
 	 * Registers all already built-in services.
 	 */
 	private void registerBuiltInServices() {
+		final ILocationServiceFactory postOfficeFactory = new PostOfficeFactory();
+
 		// Forest of the Lonely Tree
-		registerService(new Point(91, 104), PostOffice.class);
+		registerService(new Point(91, 104), postOfficeFactory);
 
 		// Wilisia
-		registerService(new Point(112, 83), PostOffice.class);
+		registerService(new Point(112, 83), postOfficeFactory);
 
 		// Laree
-		registerService(new Point(54, 76), PostOffice.class);
-	}
-
-	/**
-	 * Switches to the main frame of <tt>Freewar</tt> and waits until it is loaded.
-	 * It ensures that previous queued events are processed before switching frames.
-	 */
-	private void switchToMainFrame() {
-		this.mFrameManager.switchToFrame(EFrame.MAIN);
+		registerService(new Point(54, 76), postOfficeFactory);
 	}
 
-	/**
-	 * Switches to the map frame of <tt>Freewar</tt> and waits until it is loaded.
-	 * It ensures that previous queued events are processed before switching frames.
-	 */
-	private void switchToMapFrame() {
-		this.mFrameManager.switchToFrame(EFrame.MAP);
-	}
 }
@@ -0,0 +1,185 @@
+package de.zabuza.sparkle.freewar.location;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import de.zabuza.sparkle.freewar.location.services.ILocationService;
+import de.zabuza.sparkle.freewar.location.services.ILocationServiceFactory;
+
+/**
+ * Spatial index of the {@link ILocationServiceFactory}s registered for
+ * locations. Besides the factory at an exact position it answers which
+ * locations lie in a given area and which locations offer a given kind of
+ * service. Locations are bucketed into square cells of {@link #CELL_SIZE}
+ * coordinates, thus an area query only visits the cells the area overlaps.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class LocationServiceIndex {
+	/**
+	 * The length of the side of a cell in coordinates.
+	 */
+	private static final int CELL_SIZE = 16;
+
+	/**
+	 * Gets the coordinate of the cell that contains the given coordinate, on
+	 * either axis.
+	 * 
+	 * @param coordinate
+	 *            The coordinate of a position
+	 * @return The coordinate of the cell that contains the position
+	 */
+	private static long getCellCoordinate(final long coordinate) {
+		return Math.floorDiv(coordinate, CELL_SIZE);
+	}
+
+	/**
+	 * The positions of all registered locations, accessed by the cell that
+	 * contains them.
+	 */
+	private final Map<Point, List<Point>> mCellToPositions;
+	/**
+	 * The factory of each registered location, accessed by its position.
+	 */
+	private final Map<Point, ILocationServiceFactory> mPositionToFactory;
+
+	/**
+	 * Creates a new empty index.
+	 */
+	public LocationServiceIndex() {
+		this.mCellToPositions = new HashMap<>();
+		this.mPositionToFactory = new HashMap<>();
+	}
+
+	/**
+	 * Whether a service is registered for the given location.
+	 * 
+	 * @param location
+	 *            The position of the location in question
+	 * @return <tt>True</tt> if a service is registered for the location,
+	 *         <tt>false</tt> if not
+	 */
+	public boolean contains(final Point location) {
+		return this.mPositionToFactory.containsKey(location);
+	}
+
+	/**
+	 * Gets the factory that is registered for the given location.
+	 * 
+	 * @param location
+	 *            The position of the location
+	 * @return The factory registered for the location, if there is one
+	 */
+	public Optional<ILocationServiceFactory> getFactory(final Point location) {
+		return Optional.ofNullable(this.mPositionToFactory.get(location));
+	}
+
+	/**
+	 * Gets the positions of all locations that offer a service of the given
+	 * class or of a subclass of it.
+	 * 
+	 * @param service
+	 *            The class of the service in question
+	 * @return The positions of all locations that offer such a service, in no
+	 *         particular order
+	 */
+	public List<Point> getPositions(final Class<? extends ILocationService> service) {
+		final List<Point> positions = new ArrayList<>();
+		for (final Map.Entry<Point, ILocationServiceFactory> entry : this.mPositionToFactory.entrySet()) {
+			if (service.isAssignableFrom(entry.getValue().getServiceClass())) {
+				positions.add(new Point(entry.getKey()));
+			}
+		}
+		return positions;
+	}
+
+	/**
+	 * Gets the positions of all locations with a registered service that lie in
+	 * the given area.
+	 * 
+	 * @param area
+	 *            The area in coordinates, see {@link Rectangle#contains(Point)}
+	 * @return The positions of all locations in the area that have a registered
+	 *         service, in no particular order
+	 */
+	public List<Point> getPositions(final Rectangle area) {
+		final List<Point> positions = new ArrayList<>();
+		if (area.isEmpty()) {
+			return positions;
+		}
+
+		final long firstCellX = getCellCoordinate(area.x);
+		final long firstCellY = getCellCoordinate(area.y);
+		final long lastCellX = getCellCoordinate((long) area.x + area.width - 1);
+		final long lastCellY = getCellCoordinate((long) area.y + area.height - 1);
+		final long amountOfCells = (lastCellX - firstCellX + 1) * (lastCellY - firstCellY + 1);
+
+		// Visit only the cells of the area, unless it overlaps more cells than
+		// there are occupied cells
+		if (amountOfCells > this.mCellToPositions.size()) {
+			for (final List<Point> cellPositions : this.mCellToPositions.values()) {
+				collectPositions(cellPositions, area, positions);
+			}
+			return positions;
+		}
+		for (long cellX = firstCellX; cellX <= lastCellX; cellX++) {
+			for (long cellY = firstCellY; cellY <= lastCellY; cellY++) {
+				final List<Point> cellPositions = this.mCellToPositions.get(new Point((int) cellX, (int) cellY));
+				if (cellPositions != null) {
+					collectPositions(cellPositions, area, positions);
+				}
+			}
+		}
+		return positions;
+	}
+
+	/**
+	 * Registers the given factory for the given location. If there was already a
+	 * factory registered for the location it will be overridden.
+	 * 
+	 * @param location
+	 *            The position of the location
+	 * @param factory
+	 *            The factory to register
+	 */
+	public void register(final Point location, final ILocationServiceFactory factory) {
+		// Copy the position as points are mutable
+		final Point position = new Point(location);
+		if (this.mPositionToFactory.put(position, factory) != null) {
+			return;
+		}
+
+		final Point cell = new Point((int) getCellCoordinate(position.x), (int) getCellCoordinate(position.y));
+		List<Point> cellPositions = this.mCellToPositions.get(cell);
+		if (cellPositions == null) {
+			cellPositions = new ArrayList<>();
+			this.mCellToPositions.put(cell, cellPositions);
+		}
+		cellPositions.add(position);
+	}
+
+	/**
+	 * Collects the given positions that lie in the given area.
+	 * 
+	 * @param cellPositions
+	 *            The positions to collect from
+	 * @param area
+	 *            The area in coordinates
+	 * @param positions
+	 *            The list to add a copy of each position in the area to
+	 */
+	private void collectPositions(final List<Point> cellPositions, final Rectangle area,
+			final List<Point> positions) {
+		for (final Point position : cellPositions) {
+			if (area.contains(position)) {
+				positions.add(new Point(position));
+			}
+		}
+	}
+}
@@ -11,11 +11,13 @@ import de.zabuza.sparkle.freewar.frames.IFrameManager;
  * Interface for services of locations. A service offers certain location
  * depending actions. In order to access the actions the service needs to be
  * casted to its actual class which can be accessed by {@link Class#getClass()}.
- * The framework will automatically build services on demand. For this each
- * implementing class must have a public constructor with arguments
- * {@link Point}, {@link IFreewarInstance}, {@link WebDriver} and
- * {@link IFrameManager}. The framework will use this constructor and provide
- * all those parameters to the class.
+ * The framework will automatically build services on demand, using the
+ * {@link ILocationServiceFactory} they were registered with. Services registered
+ * by their class must have a public constructor with arguments {@link Point},
+ * {@link IFreewarInstance}, {@link WebDriver} and {@link IFrameManager}. The
+ * framework will use this constructor and provide all those parameters to the
+ * class. A service is built at most once per location and instance, thus it
+ * should not hold state that depends on a single action.
  * 
  * @author Zabuza {@literal <zabuza.dev@gmail.com>}
  * 
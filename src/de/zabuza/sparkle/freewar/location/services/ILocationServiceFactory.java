@@ -0,0 +1,47 @@
+package de.zabuza.sparkle.freewar.location.services;
+
+import java.awt.Point;
+
+import org.openqa.selenium.WebDriver;
+
+import de.zabuza.sparkle.freewar.IFreewarInstance;
+import de.zabuza.sparkle.freewar.frames.IFrameManager;
+
+/**
+ * Interface for factories that create {@link ILocationService}s. Factories are
+ * registered for a location using
+ * {@link de.zabuza.sparkle.freewar.location.ILocation#registerService(Point, ILocationServiceFactory)
+ * ILocation#registerService(Point, ILocationServiceFactory)}. The framework
+ * creates at most one service per location and instance, thus a factory is
+ * called rarely.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public interface ILocationServiceFactory {
+	/**
+	 * Creates the service for the given location.
+	 * 
+	 * @param location
+	 *            The position of the location the service offers actions for
+	 * @param instance
+	 *            The instance to use for accessing other data
+	 * @param driver
+	 *            The web driver to use for accessing elements
+	 * @param frameManager
+	 *            The frame manager to use for changing frames
+	 * @return The created service
+	 * @throws IllegalStateException
+	 *             If the service could not be created
+	 */
+	public ILocationService createService(final Point location, final IFreewarInstance instance,
+			final WebDriver driver, final IFrameManager frameManager) throws IllegalStateException;
+
+	/**
+	 * Gets the class of the services this factory creates. It is used to find
+	 * locations that offer a certain kind of service.
+	 * 
+	 * @return The class of the services this factory creates
+	 */
+	public Class<? extends ILocationService> getServiceClass();
+}
@@ -0,0 +1,80 @@
+package de.zabuza.sparkle.freewar.location.services;
+
+import java.awt.Point;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import org.openqa.selenium.WebDriver;
+
+import de.zabuza.sparkle.freewar.IFreewarInstance;
+import de.zabuza.sparkle.freewar.frames.IFrameManager;
+
+/**
+ * Factory that creates services of a given class by using its public
+ * constructor with arguments {@link Point}, {@link IFreewarInstance},
+ * {@link WebDriver} and {@link IFrameManager}. The constructor is looked up
+ * once, when the factory is created.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class ReflectiveLocationServiceFactory implements ILocationServiceFactory {
+	/**
+	 * The constructor of the services to create.
+	 */
+	private final Constructor<? extends ILocationService> mConstructor;
+	/**
+	 * The class of the services to create.
+	 */
+	private final Class<? extends ILocationService> mService;
+
+	/**
+	 * Creates a new factory that creates services of the given class.
+	 * 
+	 * @param service
+	 *            The class of the services to create
+	 * @throws IllegalArgumentException
+	 *             If the given class is non valid and does not declare an
+	 *             appropriate constructor
+	 */
+	public ReflectiveLocationServiceFactory(final Class<? extends ILocationService> service)
+			throws IllegalArgumentException {
+		this.mService = service;
+		try {
+			this.mConstructor = service.getConstructor(Point.class, IFreewarInstance.class, WebDriver.class,
+					IFrameManager.class);
+		} catch (final NoSuchMethodException e) {
+			throw new IllegalArgumentException();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.location.services.ILocationServiceFactory#
+	 * createService(java.awt.Point, de.zabuza.sparkle.freewar.IFreewarInstance,
+	 * org.openqa.selenium.WebDriver,
+	 * de.zabuza.sparkle.freewar.frames.IFrameManager)
+	 */
+	@Override
+	public ILocationService createService(final Point location, final IFreewarInstance instance,
+			final WebDriver driver, final IFrameManager frameManager) throws IllegalStateException {
+		try {
+			return this.mConstructor.newInstance(location, instance, driver, frameManager);
+		} catch (final InstantiationException | IllegalAccessException | IllegalArgumentException
+				| InvocationTargetException e) {
+			throw new IllegalStateException();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.location.services.ILocationServiceFactory#
+	 * getServiceClass()
+	 */
+	@Override
+	public Class<? extends ILocationService> getServiceClass() {
+		return this.mService;
+	}
+}
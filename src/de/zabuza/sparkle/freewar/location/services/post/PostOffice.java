@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
@@ -13,6 +14,7 @@ import de.zabuza.sparkle.freewar.frames.EFrame;
 import de.zabuza.sparkle.freewar.frames.IFrameManager;
 import de.zabuza.sparkle.freewar.location.services.ILocationService;
 import de.zabuza.sparkle.wait.EventQueueEmptyWait;
+import de.zabuza.sparkle.webdriver.Deadline;
 
 /**
  * Service for post office locations. Offers methods to write letters to other
@@ -153,4 +155,29 @@ public final class PostOffice implements ILocationService {
 		return Optional.empty();
 	}
 
+	/**
+	 * Writes a letter to the given receiver which contains the given message.
+	 * All waits of the action share the time remaining until the given deadline.
+	 * 
+	 * @param receiver
+	 *            The receiving player of the letter
+	 * @param message
+	 *            The message to send with the letter
+	 * @param deadline
+	 *            The deadline until which the action has to be finished
+	 * @return If not present the action was successful, if present it contains the
+	 *         error code
+	 * @throws TimeoutException
+	 *             Thrown when the deadline passed before the action finished
+	 */
+	public Optional<EErrorCode> writeLetter(final String receiver, final String message, final Deadline deadline)
+			throws TimeoutException {
+		final Deadline activeDeadline = deadline.activate();
+		try {
+			return writeLetter(receiver, message);
+		} finally {
+			activeDeadline.close();
+		}
+	}
+
 }
@@ -0,0 +1,44 @@
+package de.zabuza.sparkle.freewar.location.services.post;
+
+import java.awt.Point;
+
+import org.openqa.selenium.WebDriver;
+
+import de.zabuza.sparkle.freewar.IFreewarInstance;
+import de.zabuza.sparkle.freewar.frames.IFrameManager;
+import de.zabuza.sparkle.freewar.location.services.ILocationService;
+import de.zabuza.sparkle.freewar.location.services.ILocationServiceFactory;
+
+/**
+ * Factory that creates {@link PostOffice} services.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class PostOfficeFactory implements ILocationServiceFactory {
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.location.services.ILocationServiceFactory#
+	 * createService(java.awt.Point, de.zabuza.sparkle.freewar.IFreewarInstance,
+	 * org.openqa.selenium.WebDriver,
+	 * de.zabuza.sparkle.freewar.frames.IFrameManager)
+	 */
+	@Override
+	public ILocationService createService(final Point location, final IFreewarInstance instance,
+			final WebDriver driver, final IFrameManager frameManager) {
+		return new PostOffice(location, instance, driver, frameManager);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.location.services.ILocationServiceFactory#
+	 * getServiceClass()
+	 */
+	@Override
+	public Class<? extends ILocationService> getServiceClass() {
+		return PostOffice.class;
+	}
+}
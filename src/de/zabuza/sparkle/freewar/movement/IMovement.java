@@ -1,7 +1,12 @@
 package de.zabuza.sparkle.freewar.movement;
 
+import java.awt.Point;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
+import de.zabuza.sparkle.freewar.location.services.ILocationService;
 import de.zabuza.sparkle.freewar.movement.network.EMoveType;
 
 /**
@@ -14,7 +19,8 @@ import de.zabuza.sparkle.freewar.movement.network.EMoveType;
 public interface IMovement {
 	/**
 	 * Stops and rejects the current movement task if there is one. Otherwise the
-	 * method has no effect.
+	 * method has no effect. Blocks until the task has finished its current
+	 * movement step, events it queued afterwards are dropped.
 	 */
 	public void cancelMovementTask();
 
@@ -26,6 +32,24 @@ public interface IMovement {
 	 */
 	public boolean canMove();
 
+	/**
+	 * Gets the location that offers a service of the given class and that is the
+	 * cheapest to travel to from the current location, see
+	 * {@link #rankByTravelCost(Collection, Set)}. The locations are given by
+	 * {@link de.zabuza.sparkle.freewar.location.ILocation#getServicePositions(Class)
+	 * ILocation#getServicePositions(Class)}.
+	 * 
+	 * @param service
+	 *            The class of the service in question
+	 * @param options
+	 *            A set containing all movement types that are allowed to use.
+	 *            Walking and node action is always allowed.
+	 * @return The location that is the cheapest to travel to together with the
+	 *         cost, if there is a reachable location that offers the service
+	 */
+	public Optional<RankedDestination> getNearestService(final Class<? extends ILocationService> service,
+			final Set<EMoveType> options);
+
 	/**
 	 * Returns whether there is a movement task currently which gets executed.
 	 * 
@@ -82,6 +106,24 @@ public interface IMovement {
 	 */
 	public boolean moveWaiting(final EDirection direction);
 
+	/**
+	 * Ranks the given destinations by the cost of travelling to them from the
+	 * current location, as planned by the same route planner that is used by
+	 * {@link #moveTo(int, int, Set)}. All costs are computed by one search.
+	 * Destinations that are not part of the network or not reachable with the
+	 * given options are left out.
+	 * 
+	 * @param destinations
+	 *            The positions of the destinations in coordinates
+	 * @param options
+	 *            A set containing all movement types that are allowed to use.
+	 *            Walking and node action is always allowed.
+	 * @return The reachable destinations together with their cost, ordered by
+	 *         ascending cost
+	 */
+	public List<RankedDestination> rankByTravelCost(final Collection<Point> destinations,
+			final Set<EMoveType> options);
+
 	/**
 	 * Returns whether the last executed movement task was successful or not.
 	 * 
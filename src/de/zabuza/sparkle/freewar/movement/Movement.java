@@ -2,8 +2,11 @@ package de.zabuza.sparkle.freewar.movement;
 
 import java.awt.Point;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -12,6 +15,7 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import de.zabuza.pathweaver.network.Node;
 import de.zabuza.pathweaver.network.Path;
 import de.zabuza.pathweaver.network.algorithm.shortestpath.DijkstraShortestPathComputation;
 import de.zabuza.pathweaver.network.algorithm.shortestpath.IShortestPathComputation;
@@ -19,12 +23,15 @@ import de.zabuza.sparkle.freewar.frames.EFrame;
 import de.zabuza.sparkle.freewar.frames.IFrameManager;
 import de.zabuza.sparkle.freewar.inventory.IInventory;
 import de.zabuza.sparkle.freewar.location.ILocation;
+import de.zabuza.sparkle.freewar.location.services.ILocationService;
 import de.zabuza.sparkle.freewar.movement.network.EMoveType;
 import de.zabuza.sparkle.freewar.movement.network.FreewarNetwork;
 import de.zabuza.sparkle.freewar.movement.network.FreewarNode;
 import de.zabuza.sparkle.selectors.CSSSelectors;
 import de.zabuza.sparkle.selectors.Classes;
 import de.zabuza.sparkle.wait.EventQueueEmptyWait;
+import de.zabuza.sparkle.webdriver.IDelayedEventQueue;
+import de.zabuza.sparkle.webdriver.WebDriverUtil;
 
 /**
  * Movement of a {@link de.zabuza.sparkle.freewar.IFreewarInstance
@@ -104,7 +111,7 @@ public final class Movement implements IMovement {
 	@Override
 	public void cancelMovementTask() {
 		if (hasMovementTask()) {
-			this.mMovementTask.cancelTask();
+			cancelCurrentMovementTask();
 		}
 	}
 
@@ -126,6 +133,24 @@ public final class Movement implements IMovement {
 		return true;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.freewar.movement.IMovement#getNearestService(java.lang.
+	 * Class, java.util.Set)
+	 */
+	@Override
+	public Optional<RankedDestination> getNearestService(final Class<? extends ILocationService> service,
+			final Set<EMoveType> options) {
+		final List<RankedDestination> rankedLocations = rankByTravelCost(this.mLocation.getServicePositions(service),
+				options);
+		if (rankedLocations.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(rankedLocations.get(0));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -206,7 +231,7 @@ public final class Movement implements IMovement {
 	public void moveTo(final int xCoordinate, final int yCoordinate, final Set<EMoveType> options) {
 		// Cancel previous movement
 		if (hasMovementTask()) {
-			this.mMovementTask.cancelTask();
+			cancelCurrentMovementTask();
 		}
 		final Point sourcePos = this.mLocation.getPosition();
 		final Optional<FreewarNode> source = this.mNetwork.getNodeByCoordinates((int) sourcePos.getX(),
@@ -255,6 +280,48 @@ public final class Movement implements IMovement {
 		return move(direction);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.freewar.movement.IMovement#rankByTravelCost(java.util.
+	 * Collection, java.util.Set)
+	 */
+	@Override
+	public List<RankedDestination> rankByTravelCost(final Collection<Point> destinations,
+			final Set<EMoveType> options) {
+		final List<RankedDestination> rankedDestinations = new ArrayList<>(destinations.size());
+		if (destinations.isEmpty()) {
+			return rankedDestinations;
+		}
+		final Point sourcePos = this.mLocation.getPosition();
+		final Optional<FreewarNode> source = this.mNetwork.getNodeByCoordinates((int) sourcePos.getX(),
+				(int) sourcePos.getY());
+		if (!source.isPresent()) {
+			return rankedDestinations;
+		}
+
+		// Compute the costs to all reachable nodes at once, using the same
+		// temporary edges as the movement would
+		this.mNetwork.addTemporaryEdges(source.get(), options);
+		final Map<Node, Float> nodeToCost = this.mComputation.computeShortestPathCostsReachable(source.get());
+		this.mNetwork.removeTemporaryEdges();
+
+		for (final Point destination : destinations) {
+			final Optional<FreewarNode> destinationNode = this.mNetwork.getNodeByCoordinates(destination.x,
+					destination.y);
+			if (!destinationNode.isPresent()) {
+				continue;
+			}
+			final Float cost = nodeToCost.get(destinationNode.get());
+			if (cost != null) {
+				rankedDestinations.add(new RankedDestination(destination, cost.floatValue()));
+			}
+		}
+		Collections.sort(rankedDestinations);
+		return rankedDestinations;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -265,6 +332,29 @@ public final class Movement implements IMovement {
 		return this.mMovementTask != null && this.mMovementTask.hasTerminated() && !this.mMovementTask.wasCanceled();
 	}
 
+	/**
+	 * Cancels the current movement task and drops its pending events, like clicks
+	 * on the map, if the driver delays events. The events of the task are tagged
+	 * with the thread of the task. Waits for the task to finish its current step
+	 * first, thus it can not add events after they were dropped.
+	 */
+	private void cancelCurrentMovementTask() {
+		this.mMovementTask.cancelTask();
+		if (this.mMovementTask != Thread.currentThread()) {
+			try {
+				this.mMovementTask.join();
+			} catch (final InterruptedException e) {
+				// Drop the events anyway, the task might still add some
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		final Optional<IDelayedEventQueue> queue = WebDriverUtil.getDelayedEventQueue(this.mDriver);
+		if (queue.isPresent()) {
+			queue.get().cancelEvents(this.mMovementTask);
+		}
+	}
+
 	/**
 	 * Switches to the map frame of <tt>Freewar</tt> and waits until it is loaded.
 	 * It ensures that previous queued events are processed before switching frames.
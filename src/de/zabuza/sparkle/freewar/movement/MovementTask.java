@@ -49,7 +49,7 @@ public final class MovementTask extends Thread {
 	/**
 	 * Whether the task terminated.
 	 */
-	private boolean mHasTerminated;
+	private volatile boolean mHasTerminated;
 	/**
 	 * The object to use for accessing the inventory of the current instance.
 	 */
@@ -70,7 +70,7 @@ public final class MovementTask extends Thread {
 	 * Whether the task was canceled, if not and the task has terminated then it was
 	 * successful.
 	 */
-	private boolean mWasCanceled;
+	private volatile boolean mWasCanceled;
 
 	/**
 	 * Tries to move the player along the given path when started.
@@ -96,7 +96,8 @@ public final class MovementTask extends Thread {
 	}
 
 	/**
-	 * Cancels this task.
+	 * Cancels this task. The task finishes the movement step it currently
+	 * executes and stops afterwards, use {@link #join()} to wait for it.
 	 */
 	public void cancelTask() {
 		this.mWasCanceled = true;
@@ -128,13 +129,17 @@ public final class MovementTask extends Thread {
 			final DirectedWeightedEdge edge = edgeIter.next();
 
 			// Wait for the player to be able to move
-			while (!this.mMovement.canMove() || this.mLocation.getPosition().equals(lastPos)) {
+			while (!this.mWasCanceled
+					&& (!this.mMovement.canMove() || this.mLocation.getPosition().equals(lastPos))) {
 				try {
 					TimeUnit.MILLISECONDS.sleep(MOVE_WAITING_TIMEOUT);
 				} catch (final InterruptedException e) {
 					e.printStackTrace();
 				}
 			}
+			if (this.mWasCanceled) {
+				break;
+			}
 
 			// Check if the player still is at the assumed position
 			final FreewarNode source = (FreewarNode) edge.getSource();
@@ -0,0 +1,134 @@
+package de.zabuza.sparkle.freewar.movement;
+
+import java.awt.Point;
+
+/**
+ * Immutable destination together with the cost of travelling to it from the
+ * current location of the player, as computed by the route planner of
+ * {@link IMovement}, see
+ * {@link IMovement#rankByTravelCost(java.util.Collection, java.util.Set)}.
+ * Destinations are ordered by ascending cost, ties are broken by their
+ * coordinates.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class RankedDestination implements Comparable<RankedDestination> {
+	/**
+	 * The cost of travelling to the destination.
+	 */
+	private final float mCost;
+	/**
+	 * The position of the destination in coordinates.
+	 */
+	private final Point mPosition;
+
+	/**
+	 * Creates a new ranked destination.
+	 * 
+	 * @param position
+	 *            The position of the destination in coordinates
+	 * @param cost
+	 *            The cost of travelling to the destination
+	 */
+	public RankedDestination(final Point position, final float cost) {
+		this.mPosition = new Point(position);
+		this.mCost = cost;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Comparable#compareTo(java.lang.Object)
+	 */
+	@Override
+	public int compareTo(final RankedDestination other) {
+		final int costComparison = Float.compare(this.mCost, other.mCost);
+		if (costComparison != 0) {
+			return costComparison;
+		}
+		final int xComparison = Integer.compare(this.mPosition.x, other.mPosition.x);
+		if (xComparison != 0) {
+			return xComparison;
+		}
+		return Integer.compare(this.mPosition.y, other.mPosition.y);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (!(obj instanceof RankedDestination)) {
+			return false;
+		}
+		final RankedDestination other = (RankedDestination) obj;
+		if (Float.floatToIntBits(this.mCost) != Float.floatToIntBits(other.mCost)) {
+			return false;
+		}
+		if (!this.mPosition.equals(other.mPosition)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the cost of travelling to the destination, see
+	 * {@link de.zabuza.sparkle.freewar.movement.network.NetworkUtil#getCostOfMoveType(de.zabuza.sparkle.freewar.movement.network.EMoveType)
+	 * NetworkUtil#getCostOfMoveType(EMoveType)}.
+	 * 
+	 * @return The cost of travelling to the destination
+	 */
+	public float getCost() {
+		return this.mCost;
+	}
+
+	/**
+	 * Gets the position of the destination.
+	 * 
+	 * @return The position of the destination in coordinates
+	 */
+	public Point getPosition() {
+		return new Point(this.mPosition);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + Float.floatToIntBits(this.mCost);
+		result = prime * result + this.mPosition.hashCode();
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("RankedDestination [position=");
+		builder.append(this.mPosition.x);
+		builder.append("/");
+		builder.append(this.mPosition.y);
+		builder.append(", cost=");
+		builder.append(this.mCost);
+		builder.append("]");
+		return builder.toString();
+	}
+}
@@ -0,0 +1,273 @@
+package de.zabuza.sparkle.freewar.player;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.WebDriver;
+
+import de.zabuza.sparkle.webdriver.IDelayedEventQueue;
+import de.zabuza.sparkle.webdriver.WebDriverUtil;
+import de.zabuza.sparkle.webdriver.intercept.ContextTrackingInterceptor;
+
+/**
+ * Player that caches the state of another player for a given time to live.
+ * All properties are served from the cached {@link PlayerState}, thus repeated
+ * reads within the time to live cost neither a frame switch nor a call to the
+ * browser. The state is taken again once it expired or once an action that
+ * may change it was performed, like attacking, using an item, writing a
+ * letter or moving. Actions are detected by the
+ * {@link ContextTrackingInterceptor} of the driver, see
+ * {@link ContextTrackingInterceptor#getActionVersion()}. While events are
+ * queued for delayed execution the state is not cached either. If the driver
+ * has no such interceptor, only the time to live applies. Changes caused by
+ * other players or by the game itself are not noticed before the state
+ * expired.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class CachingPlayer implements IPlayer {
+	/**
+	 * The action version at the time the cached state was taken.
+	 */
+	private long mCachedActionVersion;
+	/**
+	 * The cached state, <tt>null</tt> if not taken yet or invalidated.
+	 */
+	private PlayerState mCachedState;
+	/**
+	 * The time in nanoseconds at which the cached state was taken.
+	 */
+	private long mCachedTime;
+	/**
+	 * The interceptor that tracks actions of the driver, <tt>null</tt> if the
+	 * driver has none.
+	 */
+	private final ContextTrackingInterceptor mContextTracker;
+	/**
+	 * The driver used by the player whose state is cached.
+	 */
+	private final WebDriver mDriver;
+	/**
+	 * The player whose state is cached.
+	 */
+	private final IPlayer mPlayer;
+	/**
+	 * The time to live of the cached state in nanoseconds.
+	 */
+	private final long mTimeToLive;
+
+	/**
+	 * Creates a new player that caches the state of the given player.
+	 * 
+	 * @param player
+	 *            The player whose state to cache
+	 * @param driver
+	 *            The driver used by the given player, its actions invalidate the
+	 *            cached state
+	 * @param timeToLive
+	 *            The time to live of the cached state in milliseconds
+	 */
+	public CachingPlayer(final IPlayer player, final WebDriver driver, final long timeToLive) {
+		this.mPlayer = player;
+		this.mDriver = driver;
+		this.mContextTracker = WebDriverUtil.getInterceptor(driver, ContextTrackingInterceptor.class).orElse(null);
+		this.mTimeToLive = TimeUnit.MILLISECONDS.toNanos(timeToLive);
+		this.mCachedState = null;
+		this.mCachedTime = 0;
+		this.mCachedActionVersion = 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.player.IPlayer#getAttackPoints()
+	 */
+	@Override
+	public int getAttackPoints() {
+		return getState().getAttackPoints();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.player.IPlayer#getAttackWeapon()
+	 */
+	@Override
+	public String getAttackWeapon() {
+		return getState().getAttackWeapon();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.player.IPlayer#getDefensePoints()
+	 */
+	@Override
+	public int getDefensePoints() {
+		return getState().getDefensePoints();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.player.IPlayer#getDefenseWeapon()
+	 */
+	@Override
+	public String getDefenseWeapon() {
+		return getState().getDefenseWeapon();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.player.IPlayer#getExperiencePoints()
+	 */
+	@Override
+	public int getExperiencePoints() {
+		return getState().getExperiencePoints();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.player.IPlayer#getGold()
+	 */
+	@Override
+	public int getGold() {
+		return getState().getGold();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.player.IPlayer#getIntelligence()
+	 */
+	@Override
+	public int getIntelligence() {
+		return getState().getIntelligence();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.player.IPlayer#getLifePoints()
+	 */
+	@Override
+	public int getLifePoints() {
+		return getState().getLifePoints();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.player.IPlayer#getMaxLifePoints()
+	 */
+	@Override
+	public int getMaxLifePoints() {
+		return getState().getMaxLifePoints();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.player.IPlayer#getName()
+	 */
+	@Override
+	public String getName() {
+		return getState().getName();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.player.IPlayer#getSpeed()
+	 */
+	@Override
+	public int getSpeed() {
+		return getState().getSpeed();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.player.IPlayer#getStatus()
+	 */
+	@Override
+	public String getStatus() {
+		return getState().getStatus();
+	}
+
+	/**
+	 * Invalidates the cached state, for example if it was changed without using
+	 * the driver of this player. The next access takes the state again.
+	 */
+	public synchronized void invalidate() {
+		this.mCachedState = null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.player.IPlayer#snapshot()
+	 */
+	@Override
+	public PlayerState snapshot() {
+		return getState();
+	}
+
+	/**
+	 * Gets the action version of the driver.
+	 * 
+	 * @return The current action version or <tt>0</tt> if the driver does not
+	 *         track actions
+	 */
+	private long getActionVersion() {
+		if (this.mContextTracker == null) {
+			return 0;
+		}
+		return this.mContextTracker.getActionVersion();
+	}
+
+	/**
+	 * Gets the cached state if it is still valid, else takes and caches the
+	 * state again.
+	 * 
+	 * @return The state of the player
+	 */
+	private synchronized PlayerState getState() {
+		final long now = System.nanoTime();
+		final long actionVersion = getActionVersion();
+		if (isCacheValid(now, actionVersion)) {
+			return this.mCachedState;
+		}
+
+		// Remember the version before taking the state, actions performed in
+		// between then invalidate it
+		this.mCachedState = this.mPlayer.snapshot();
+		this.mCachedTime = now;
+		this.mCachedActionVersion = actionVersion;
+		return this.mCachedState;
+	}
+
+	/**
+	 * Whether the cached state is still valid, i.e. it was taken, did not expire
+	 * yet, no action was performed since and there are no queued events.
+	 * 
+	 * @param now
+	 *            The current time in nanoseconds
+	 * @param actionVersion
+	 *            The current action version
+	 * @return <tt>True</tt> if the cached state is valid, <tt>false</tt> if it
+	 *         may be outdated
+	 */
+	private boolean isCacheValid(final long now, final long actionVersion) {
+		if (this.mCachedState == null || now - this.mCachedTime >= this.mTimeToLive
+				|| actionVersion != this.mCachedActionVersion) {
+			return false;
+		}
+
+		final Optional<IDelayedEventQueue> queue = WebDriverUtil.getDelayedEventQueue(this.mDriver);
+		return !queue.isPresent() || queue.get().isEmpty();
+	}
+}
@@ -109,4 +109,14 @@ public interface IPlayer {
 	 *         status.
 	 */
 	public String getStatus();
+
+	/**
+	 * Gets the current state of the player, which holds all properties that are
+	 * also given by the other methods of this interface. Other than calling
+	 * those methods one after another, the state is collected at once and thus
+	 * consistent and considerably faster.
+	 * 
+	 * @return The current state of the player
+	 */
+	public PlayerState snapshot();
 }
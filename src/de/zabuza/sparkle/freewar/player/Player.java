@@ -1,10 +1,18 @@
 package de.zabuza.sparkle.freewar.player;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
 import de.zabuza.sparkle.freewar.frames.EFrame;
@@ -12,6 +20,8 @@ import de.zabuza.sparkle.freewar.frames.IFrameManager;
 import de.zabuza.sparkle.selectors.CSSSelectors;
 import de.zabuza.sparkle.selectors.Patterns;
 import de.zabuza.sparkle.selectors.Splits;
+import de.zabuza.sparkle.webdriver.Scripts;
+import de.zabuza.sparkle.webdriver.WebDriverUtil;
 
 /**
  * Player of a {@link de.zabuza.sparkle.freewar.IFreewarInstance
@@ -21,6 +31,132 @@ import de.zabuza.sparkle.selectors.Splits;
  * 
  */
 public final class Player implements IPlayer {
+	/**
+	 * Pattern for an integer.
+	 */
+	private static final Pattern INTEGER_PATTERN = Pattern.compile(Patterns.INTEGER);
+	/**
+	 * Pattern for extracting the maximal amount of life points.
+	 */
+	private static final Pattern MAX_LIFE_POINTS_PATTERN = Pattern.compile(Patterns.PLAYER_MAX_LIFE_POINTS);
+	/**
+	 * CSS selectors of all elements of the item frame that are needed for the
+	 * state of the player.
+	 */
+	private static final List<String> STATE_SELECTORS = Arrays.asList(CSSSelectors.ITEM_PLAYER_ATTACK_POINTS,
+			CSSSelectors.ITEM_PLAYER_ATTACK_WEAPON, CSSSelectors.ITEM_PLAYER_DEFENSE_POINTS,
+			CSSSelectors.ITEM_PLAYER_DEFENSE_WEAPON, CSSSelectors.ITEM_PLAYER_GOLD,
+			CSSSelectors.ITEM_PLAYER_INTELLIGENCE, CSSSelectors.ITEM_PLAYER_LIFE_POINTS,
+			CSSSelectors.ITEM_PLAYER_MAX_LIFE_POINTS, CSSSelectors.ITEM_PLAYER_NAME_EXPERIENCE,
+			CSSSelectors.ITEM_PLAYER_SPEED, CSSSelectors.ITEM_PLAYER_STATUS);
+
+	/**
+	 * Parses the amount of experience points from the given text of the name
+	 * and experience element.
+	 * 
+	 * @param text
+	 *            The text to parse, may be <tt>null</tt>
+	 * @return The amount of experience points or {@link #NO_VALUE} if unknown
+	 */
+	private static int parseExperiencePoints(final String text) {
+		if (text == null) {
+			return NO_VALUE;
+		}
+		final String[] experienceTexts = text.split(Splits.ITEM_PLAYER_NAME_EXPERIENCE);
+		if (experienceTexts.length > 1) {
+			return parseInteger(experienceTexts[1]);
+		}
+		return NO_VALUE;
+	}
+
+	/**
+	 * Parses the amount of gold from the given text of the gold element.
+	 * 
+	 * @param text
+	 *            The text to parse, may be <tt>null</tt>
+	 * @return The amount of gold or {@link #NO_VALUE} if unknown
+	 */
+	private static int parseGold(final String text) {
+		if (text == null) {
+			return NO_VALUE;
+		}
+		// Remove thousand separator
+		return parseInteger(text.replace(".", ""));
+	}
+
+	/**
+	 * Parses the first integer contained in the given text.
+	 * 
+	 * @param text
+	 *            The text to parse, may be <tt>null</tt>
+	 * @return The first integer or {@link #NO_VALUE} if there is none
+	 */
+	private static int parseInteger(final String text) {
+		if (text == null) {
+			return NO_VALUE;
+		}
+		final Matcher matcher = INTEGER_PATTERN.matcher(text);
+		if (matcher.find()) {
+			return Integer.parseInt(matcher.group());
+		}
+		return NO_VALUE;
+	}
+
+	/**
+	 * Parses the maximal amount of life points from the given text of the life
+	 * points element.
+	 * 
+	 * @param text
+	 *            The text to parse, may be <tt>null</tt>
+	 * @return The maximal amount of life points or {@link #NO_VALUE} if unknown
+	 */
+	private static int parseMaxLifePoints(final String text) {
+		if (text == null) {
+			return NO_VALUE;
+		}
+		final Matcher matcher = MAX_LIFE_POINTS_PATTERN.matcher(text);
+		if (matcher.find()) {
+			return Integer.parseInt(matcher.group(1));
+		}
+		return NO_VALUE;
+	}
+
+	/**
+	 * Parses the name of the player from the given text of the name and
+	 * experience element.
+	 * 
+	 * @param text
+	 *            The text to parse, may be <tt>null</tt>
+	 * @return The name of the player or <tt>null</tt> if unknown
+	 */
+	private static String parseName(final String text) {
+		if (text == null) {
+			return null;
+		}
+		final String[] nameTexts = text.split(Splits.ITEM_PLAYER_NAME_EXPERIENCE);
+		if (nameTexts.length > 0) {
+			return nameTexts[0].trim();
+		}
+		return null;
+	}
+
+	/**
+	 * Parses the name of a weapon from the given text of a weapon element.
+	 * 
+	 * @param text
+	 *            The text to parse, may be <tt>null</tt>
+	 * @return The name of the weapon or {@link #NO_WEAPON} if unknown
+	 */
+	private static String parseWeapon(final String text) {
+		if (text == null) {
+			return NO_WEAPON;
+		}
+		final String[] weaponTexts = text.split(Splits.ITEM_PLAYER_WEAPON);
+		if (weaponTexts.length > 1) {
+			return weaponTexts[1].trim();
+		}
+		return NO_WEAPON;
+	}
 
 	/**
 	 * Web driver the player uses.
@@ -51,16 +187,7 @@ public final class Player implements IPlayer {
 	 */
 	@Override
 	public int getAttackPoints() {
-		switchToItemFrame();
-		final WebElement element = this.mDriver.findElement(By.cssSelector(CSSSelectors.ITEM_PLAYER_ATTACK_POINTS));
-		final String attackPointsText = element.getText();
-		final Matcher matcher = Pattern.compile(Patterns.INTEGER).matcher(attackPointsText);
-		int attackPoints = NO_VALUE;
-		if (matcher.find()) {
-			attackPoints = Integer.parseInt(matcher.group());
-		}
-
-		return attackPoints;
+		return parseInteger(getItemText(CSSSelectors.ITEM_PLAYER_ATTACK_POINTS));
 	}
 
 	/*
@@ -70,14 +197,7 @@ public final class Player implements IPlayer {
 	 */
 	@Override
 	public String getAttackWeapon() {
-		switchToItemFrame();
-		final WebElement element = this.mDriver.findElement(By.cssSelector(CSSSelectors.ITEM_PLAYER_ATTACK_WEAPON));
-		final String[] weaponTexts = element.getText().split(Splits.ITEM_PLAYER_WEAPON);
-		String weaponText = NO_WEAPON;
-		if (weaponTexts.length > 1) {
-			weaponText = weaponTexts[1].trim();
-		}
-		return weaponText;
+		return parseWeapon(getItemText(CSSSelectors.ITEM_PLAYER_ATTACK_WEAPON));
 	}
 
 	/*
@@ -87,16 +207,7 @@ public final class Player implements IPlayer {
 	 */
 	@Override
 	public int getDefensePoints() {
-		switchToItemFrame();
-		final WebElement element = this.mDriver.findElement(By.cssSelector(CSSSelectors.ITEM_PLAYER_DEFENSE_POINTS));
-		final String defensePointsText = element.getText();
-		final Matcher matcher = Pattern.compile(Patterns.INTEGER).matcher(defensePointsText);
-		int defensePoints = NO_VALUE;
-		if (matcher.find()) {
-			defensePoints = Integer.parseInt(matcher.group());
-		}
-
-		return defensePoints;
+		return parseInteger(getItemText(CSSSelectors.ITEM_PLAYER_DEFENSE_POINTS));
 	}
 
 	/*
@@ -106,14 +217,7 @@ public final class Player implements IPlayer {
 	 */
 	@Override
 	public String getDefenseWeapon() {
-		switchToItemFrame();
-		final WebElement element = this.mDriver.findElement(By.cssSelector(CSSSelectors.ITEM_PLAYER_DEFENSE_WEAPON));
-		final String[] weaponTexts = element.getText().split(Splits.ITEM_PLAYER_WEAPON);
-		String weaponText = NO_WEAPON;
-		if (weaponTexts.length > 1) {
-			weaponText = weaponTexts[1].trim();
-		}
-		return weaponText;
+		return parseWeapon(getItemText(CSSSelectors.ITEM_PLAYER_DEFENSE_WEAPON));
 	}
 
 	/*
@@ -123,18 +227,7 @@ public final class Player implements IPlayer {
 	 */
 	@Override
 	public int getExperiencePoints() {
-		switchToItemFrame();
-		final WebElement element = this.mDriver.findElement(By.cssSelector(CSSSelectors.ITEM_PLAYER_NAME_EXPERIENCE));
-		final String[] experienceTexts = element.getText().split(Splits.ITEM_PLAYER_NAME_EXPERIENCE);
-		int experience = NO_VALUE;
-		if (experienceTexts.length > 1) {
-			final String experienceText = experienceTexts[1];
-			final Matcher matcher = Pattern.compile(Patterns.INTEGER).matcher(experienceText);
-			if (matcher.find()) {
-				experience = Integer.parseInt(matcher.group());
-			}
-		}
-		return experience;
+		return parseExperiencePoints(getItemText(CSSSelectors.ITEM_PLAYER_NAME_EXPERIENCE));
 	}
 
 	/*
@@ -144,18 +237,7 @@ public final class Player implements IPlayer {
 	 */
 	@Override
 	public int getGold() {
-		switchToItemFrame();
-		final WebElement element = this.mDriver.findElement(By.cssSelector(CSSSelectors.ITEM_PLAYER_GOLD));
-		String goldText = element.getText();
-		// Remove thousand separator
-		goldText = goldText.replaceAll("\\.", "");
-		final Matcher matcher = Pattern.compile(Patterns.INTEGER).matcher(goldText);
-		int gold = NO_VALUE;
-		if (matcher.find()) {
-			gold = Integer.parseInt(matcher.group());
-		}
-
-		return gold;
+		return parseGold(getItemText(CSSSelectors.ITEM_PLAYER_GOLD));
 	}
 
 	/*
@@ -165,16 +247,7 @@ public final class Player implements IPlayer {
 	 */
 	@Override
 	public int getIntelligence() {
-		switchToItemFrame();
-		final WebElement element = this.mDriver.findElement(By.cssSelector(CSSSelectors.ITEM_PLAYER_INTELLIGENCE));
-		final String intelligenceText = element.getText();
-		final Matcher matcher = Pattern.compile(Patterns.INTEGER).matcher(intelligenceText);
-		int intelligence = NO_VALUE;
-		if (matcher.find()) {
-			intelligence = Integer.parseInt(matcher.group());
-		}
-
-		return intelligence;
+		return parseInteger(getItemText(CSSSelectors.ITEM_PLAYER_INTELLIGENCE));
 	}
 
 	/*
@@ -184,9 +257,7 @@ public final class Player implements IPlayer {
 	 */
 	@Override
 	public int getLifePoints() {
-		switchToItemFrame();
-		final WebElement element = this.mDriver.findElement(By.cssSelector(CSSSelectors.ITEM_PLAYER_LIFE_POINTS));
-		return Integer.parseInt(element.getText());
+		return parseInteger(getItemText(CSSSelectors.ITEM_PLAYER_LIFE_POINTS));
 	}
 
 	/*
@@ -196,16 +267,7 @@ public final class Player implements IPlayer {
 	 */
 	@Override
 	public int getMaxLifePoints() {
-		switchToItemFrame();
-		final WebElement element = this.mDriver.findElement(By.cssSelector(CSSSelectors.ITEM_PLAYER_MAX_LIFE_POINTS));
-		final String lifepointsText = element.getText();
-		final Matcher matcher = Pattern.compile(Patterns.PLAYER_MAX_LIFE_POINTS).matcher(lifepointsText);
-		int maxLifepoints = NO_VALUE;
-		if (matcher.find()) {
-			maxLifepoints = Integer.parseInt(matcher.group(1));
-		}
-
-		return maxLifepoints;
+		return parseMaxLifePoints(getItemText(CSSSelectors.ITEM_PLAYER_MAX_LIFE_POINTS));
 	}
 
 	/*
@@ -215,14 +277,7 @@ public final class Player implements IPlayer {
 	 */
 	@Override
 	public String getName() {
-		switchToItemFrame();
-		final WebElement element = this.mDriver.findElement(By.cssSelector(CSSSelectors.ITEM_PLAYER_NAME_EXPERIENCE));
-		final String[] nameTexts = element.getText().split(Splits.ITEM_PLAYER_NAME_EXPERIENCE);
-		String nameText = null;
-		if (nameTexts.length > 0) {
-			nameText = nameTexts[0].trim();
-		}
-		return nameText;
+		return parseName(getItemText(CSSSelectors.ITEM_PLAYER_NAME_EXPERIENCE));
 	}
 
 	/*
@@ -232,9 +287,7 @@ public final class Player implements IPlayer {
 	 */
 	@Override
 	public int getSpeed() {
-		switchToItemFrame();
-		final WebElement element = this.mDriver.findElement(By.cssSelector(CSSSelectors.ITEM_PLAYER_SPEED));
-		return Integer.parseInt(element.getText());
+		return parseInteger(getItemText(CSSSelectors.ITEM_PLAYER_SPEED));
 	}
 
 	/*
@@ -244,11 +297,92 @@ public final class Player implements IPlayer {
 	 */
 	@Override
 	public String getStatus() {
+		return getItemText(CSSSelectors.ITEM_PLAYER_STATUS);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.freewar.player.IPlayer#snapshot()
+	 */
+	@Override
+	public PlayerState snapshot() {
 		switchToItemFrame();
-		final WebElement element = this.mDriver.findElement(By.cssSelector(CSSSelectors.ITEM_PLAYER_STATUS));
+		final Map<String, String> texts = getItemTexts(STATE_SELECTORS);
+		String status = texts.get(CSSSelectors.ITEM_PLAYER_STATUS);
+		if (status == null) {
+			status = "";
+		}
+		return new PlayerState(parseInteger(texts.get(CSSSelectors.ITEM_PLAYER_ATTACK_POINTS)),
+				parseWeapon(texts.get(CSSSelectors.ITEM_PLAYER_ATTACK_WEAPON)),
+				parseInteger(texts.get(CSSSelectors.ITEM_PLAYER_DEFENSE_POINTS)),
+				parseWeapon(texts.get(CSSSelectors.ITEM_PLAYER_DEFENSE_WEAPON)),
+				parseExperiencePoints(texts.get(CSSSelectors.ITEM_PLAYER_NAME_EXPERIENCE)),
+				parseGold(texts.get(CSSSelectors.ITEM_PLAYER_GOLD)),
+				parseInteger(texts.get(CSSSelectors.ITEM_PLAYER_INTELLIGENCE)),
+				parseInteger(texts.get(CSSSelectors.ITEM_PLAYER_LIFE_POINTS)),
+				parseMaxLifePoints(texts.get(CSSSelectors.ITEM_PLAYER_MAX_LIFE_POINTS)),
+				parseName(texts.get(CSSSelectors.ITEM_PLAYER_NAME_EXPERIENCE)),
+				parseInteger(texts.get(CSSSelectors.ITEM_PLAYER_SPEED)), status);
+	}
+
+	/**
+	 * Reads the item frame and gets the text of the element given by the CSS
+	 * selector.
+	 * 
+	 * @param cssSelector
+	 *            CSS selector of the element
+	 * @return The text of the element
+	 */
+	private String getItemText(final String cssSelector) {
+		final SearchContext itemFrame = this.mFrameManager.readFrame(EFrame.ITEM);
+		final WebElement element = itemFrame.findElement(By.cssSelector(cssSelector));
 		return element.getText();
 	}
 
+	/**
+	 * Gets the texts of the elements of the current frame given by the CSS
+	 * selectors. If the driver is able to execute scripts, all texts are
+	 * collected by one script, see {@link Scripts#TEXTS_OF_ELEMENTS}. Else they
+	 * are read one after another from the item frame, see
+	 * {@link IFrameManager#readFrame(EFrame)}.
+	 * 
+	 * @param cssSelectors
+	 *            CSS selectors of the elements
+	 * @return The text of each element, accessed by its CSS selector. The text
+	 *         is <tt>null</tt> if the element is not present.
+	 */
+	private Map<String, String> getItemTexts(final List<String> cssSelectors) {
+		final Map<String, String> selectorToText = new HashMap<>();
+		final Optional<JavascriptExecutor> executor = WebDriverUtil.getJavascriptExecutor(this.mDriver);
+		if (executor.isPresent()) {
+			try {
+				final Object texts = executor.get().executeScript(Scripts.TEXTS_OF_ELEMENTS, cssSelectors);
+				if (texts instanceof List && ((List<?>) texts).size() == cssSelectors.size()) {
+					final List<?> textList = (List<?>) texts;
+					for (int i = 0; i < cssSelectors.size(); i++) {
+						final Object text = textList.get(i);
+						selectorToText.put(cssSelectors.get(i), text == null ? null : text.toString());
+					}
+					return selectorToText;
+				}
+			} catch (final WebDriverException | UnsupportedOperationException e) {
+				// Request the texts one after another instead
+			}
+		}
+
+		final SearchContext itemFrame = this.mFrameManager.readFrame(EFrame.ITEM);
+		for (final String cssSelector : cssSelectors) {
+			final List<WebElement> elements = itemFrame.findElements(By.cssSelector(cssSelector));
+			String text = null;
+			if (!elements.isEmpty()) {
+				text = elements.get(0).getText();
+			}
+			selectorToText.put(cssSelector, text);
+		}
+		return selectorToText;
+	}
+
 	/**
 	 * Switches to the item frame of <tt>Freewar</tt> and waits until it is loaded.
 	 * It ensures that previous queued events are processed before switching frames.
@@ -0,0 +1,381 @@
+package de.zabuza.sparkle.freewar.player;
+
+/**
+ * Immutable state of the player of a
+ * {@link de.zabuza.sparkle.freewar.IFreewarInstance IFreewarInstance} at one
+ * point in time, as collected by {@link IPlayer#snapshot()}. The values equal
+ * those of the corresponding methods of {@link IPlayer}.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class PlayerState {
+	/**
+	 * The amount of attack points the player has, {@link IPlayer#NO_VALUE} if
+	 * unknown.
+	 */
+	private final int mAttackPoints;
+	/**
+	 * The name of the attack weapon the player holds, {@link IPlayer#NO_WEAPON}
+	 * if unknown or the player holds no attack weapon.
+	 */
+	private final String mAttackWeapon;
+	/**
+	 * The amount of defense points the player has, {@link IPlayer#NO_VALUE} if
+	 * unknown.
+	 */
+	private final int mDefensePoints;
+	/**
+	 * The name of the defense weapon the player holds,
+	 * {@link IPlayer#NO_WEAPON} if unknown or the player holds no defense
+	 * weapon.
+	 */
+	private final String mDefenseWeapon;
+	/**
+	 * The amount of experience points the player has, {@link IPlayer#NO_VALUE}
+	 * if unknown.
+	 */
+	private final int mExperiencePoints;
+	/**
+	 * The amount of gold the player has, {@link IPlayer#NO_VALUE} if unknown.
+	 */
+	private final int mGold;
+	/**
+	 * The amount of intelligence the player has, {@link IPlayer#NO_VALUE} if
+	 * unknown.
+	 */
+	private final int mIntelligence;
+	/**
+	 * The amount of life points the player has, {@link IPlayer#NO_VALUE} if
+	 * unknown.
+	 */
+	private final int mLifePoints;
+	/**
+	 * The maximal amount of life points the player has,
+	 * {@link IPlayer#NO_VALUE} if unknown.
+	 */
+	private final int mMaxLifePoints;
+	/**
+	 * The name of the player, <tt>null</tt> if unknown.
+	 */
+	private final String mName;
+	/**
+	 * The amount of speed the player has, {@link IPlayer#NO_VALUE} if unknown.
+	 */
+	private final int mSpeed;
+	/**
+	 * All statuses the player has, an empty string if the player has no status.
+	 */
+	private final String mStatus;
+
+	/**
+	 * Creates a new state of a player with the given values.
+	 * 
+	 * @param attackPoints
+	 *            The amount of attack points the player has,
+	 *            {@link IPlayer#NO_VALUE} if unknown
+	 * @param attackWeapon
+	 *            The name of the attack weapon the player holds,
+	 *            {@link IPlayer#NO_WEAPON} if unknown or the player holds no
+	 *            attack weapon
+	 * @param defensePoints
+	 *            The amount of defense points the player has,
+	 *            {@link IPlayer#NO_VALUE} if unknown
+	 * @param defenseWeapon
+	 *            The name of the defense weapon the player holds,
+	 *            {@link IPlayer#NO_WEAPON} if unknown or the player holds no
+	 *            defense weapon
+	 * @param experiencePoints
+	 *            The amount of experience points the player has,
+	 *            {@link IPlayer#NO_VALUE} if unknown
+	 * @param gold
+	 *            The amount of gold the player has, {@link IPlayer#NO_VALUE} if
+	 *            unknown
+	 * @param intelligence
+	 *            The amount of intelligence the player has,
+	 *            {@link IPlayer#NO_VALUE} if unknown
+	 * @param lifePoints
+	 *            The amount of life points the player has,
+	 *            {@link IPlayer#NO_VALUE} if unknown
+	 * @param maxLifePoints
+	 *            The maximal amount of life points the player has,
+	 *            {@link IPlayer#NO_VALUE} if unknown
+	 * @param name
+	 *            The name of the player, <tt>null</tt> if unknown
+	 * @param speed
+	 *            The amount of speed the player has, {@link IPlayer#NO_VALUE}
+	 *            if unknown
+	 * @param status
+	 *            All statuses the player has, an empty string if the player has
+	 *            no status
+	 */
+	public PlayerState(final int attackPoints, final String attackWeapon, final int defensePoints,
+			final String defenseWeapon, final int experiencePoints, final int gold, final int intelligence,
+			final int lifePoints, final int maxLifePoints, final String name, final int speed, final String status) {
+		this.mAttackPoints = attackPoints;
+		this.mAttackWeapon = attackWeapon;
+		this.mDefensePoints = defensePoints;
+		this.mDefenseWeapon = defenseWeapon;
+		this.mExperiencePoints = experiencePoints;
+		this.mGold = gold;
+		this.mIntelligence = intelligence;
+		this.mLifePoints = lifePoints;
+		this.mMaxLifePoints = maxLifePoints;
+		this.mName = name;
+		this.mSpeed = speed;
+		this.mStatus = status;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (!(obj instanceof PlayerState)) {
+			return false;
+		}
+		final PlayerState other = (PlayerState) obj;
+		if (this.mAttackPoints != other.mAttackPoints) {
+			return false;
+		}
+		if (this.mAttackWeapon == null) {
+			if (other.mAttackWeapon != null) {
+				return false;
+			}
+		} else if (!this.mAttackWeapon.equals(other.mAttackWeapon)) {
+			return false;
+		}
+		if (this.mDefensePoints != other.mDefensePoints) {
+			return false;
+		}
+		if (this.mDefenseWeapon == null) {
+			if (other.mDefenseWeapon != null) {
+				return false;
+			}
+		} else if (!this.mDefenseWeapon.equals(other.mDefenseWeapon)) {
+			return false;
+		}
+		if (this.mExperiencePoints != other.mExperiencePoints) {
+			return false;
+		}
+		if (this.mGold != other.mGold) {
+			return false;
+		}
+		if (this.mIntelligence != other.mIntelligence) {
+			return false;
+		}
+		if (this.mLifePoints != other.mLifePoints) {
+			return false;
+		}
+		if (this.mMaxLifePoints != other.mMaxLifePoints) {
+			return false;
+		}
+		if (this.mName == null) {
+			if (other.mName != null) {
+				return false;
+			}
+		} else if (!this.mName.equals(other.mName)) {
+			return false;
+		}
+		if (this.mSpeed != other.mSpeed) {
+			return false;
+		}
+		if (this.mStatus == null) {
+			if (other.mStatus != null) {
+				return false;
+			}
+		} else if (!this.mStatus.equals(other.mStatus)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the amount of attack points the player has.
+	 * 
+	 * @return The amount of attack points the player has or
+	 *         {@link IPlayer#NO_VALUE} if unknown
+	 */
+	public int getAttackPoints() {
+		return this.mAttackPoints;
+	}
+
+	/**
+	 * Gets the name of the attack weapon the player holds.
+	 * 
+	 * @return The name of the attack weapon the player holds or
+	 *         {@link IPlayer#NO_WEAPON} if unknown or the player holds no
+	 *         attack weapon
+	 */
+	public String getAttackWeapon() {
+		return this.mAttackWeapon;
+	}
+
+	/**
+	 * Gets the amount of defense points the player has.
+	 * 
+	 * @return The amount of defense points the player has or
+	 *         {@link IPlayer#NO_VALUE} if unknown
+	 */
+	public int getDefensePoints() {
+		return this.mDefensePoints;
+	}
+
+	/**
+	 * Gets the name of the defense weapon the player holds.
+	 * 
+	 * @return The name of the defense weapon the player holds or
+	 *         {@link IPlayer#NO_WEAPON} if unknown or the player holds no
+	 *         defense weapon
+	 */
+	public String getDefenseWeapon() {
+		return this.mDefenseWeapon;
+	}
+
+	/**
+	 * Gets the amount of experience points the player has.
+	 * 
+	 * @return The amount of experience points the player has or
+	 *         {@link IPlayer#NO_VALUE} if unknown
+	 */
+	public int getExperiencePoints() {
+		return this.mExperiencePoints;
+	}
+
+	/**
+	 * Gets the amount of gold the player has.
+	 * 
+	 * @return The amount of gold the player has or {@link IPlayer#NO_VALUE} if
+	 *         unknown
+	 */
+	public int getGold() {
+		return this.mGold;
+	}
+
+	/**
+	 * Gets the amount of intelligence the player has.
+	 * 
+	 * @return The amount of intelligence the player has or
+	 *         {@link IPlayer#NO_VALUE} if unknown
+	 */
+	public int getIntelligence() {
+		return this.mIntelligence;
+	}
+
+	/**
+	 * Gets the amount of life points the player has.
+	 * 
+	 * @return The amount of life points the player has or
+	 *         {@link IPlayer#NO_VALUE} if unknown
+	 */
+	public int getLifePoints() {
+		return this.mLifePoints;
+	}
+
+	/**
+	 * Gets the maximal amount of life points the player has.
+	 * 
+	 * @return The maximal amount of life points the player has or
+	 *         {@link IPlayer#NO_VALUE} if unknown
+	 */
+	public int getMaxLifePoints() {
+		return this.mMaxLifePoints;
+	}
+
+	/**
+	 * Gets the name of the player.
+	 * 
+	 * @return The name of the player or <tt>null</tt> if unknown
+	 */
+	public String getName() {
+		return this.mName;
+	}
+
+	/**
+	 * Gets the amount of speed the player has.
+	 * 
+	 * @return The amount of speed the player has or {@link IPlayer#NO_VALUE} if
+	 *         unknown
+	 */
+	public int getSpeed() {
+		return this.mSpeed;
+	}
+
+	/**
+	 * Gets all statuses the player has.
+	 * 
+	 * @return All statuses the player has or an empty string if the player has
+	 *         no status
+	 */
+	public String getStatus() {
+		return this.mStatus;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + this.mAttackPoints;
+		result = prime * result + ((this.mAttackWeapon == null) ? 0 : this.mAttackWeapon.hashCode());
+		result = prime * result + this.mDefensePoints;
+		result = prime * result + ((this.mDefenseWeapon == null) ? 0 : this.mDefenseWeapon.hashCode());
+		result = prime * result + this.mExperiencePoints;
+		result = prime * result + this.mGold;
+		result = prime * result + this.mIntelligence;
+		result = prime * result + this.mLifePoints;
+		result = prime * result + this.mMaxLifePoints;
+		result = prime * result + ((this.mName == null) ? 0 : this.mName.hashCode());
+		result = prime * result + this.mSpeed;
+		result = prime * result + ((this.mStatus == null) ? 0 : this.mStatus.hashCode());
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("PlayerState [name=");
+		builder.append(this.mName);
+		builder.append(", attackPoints=");
+		builder.append(this.mAttackPoints);
+		builder.append(", attackWeapon=");
+		builder.append(this.mAttackWeapon);
+		builder.append(", defensePoints=");
+		builder.append(this.mDefensePoints);
+		builder.append(", defenseWeapon=");
+		builder.append(this.mDefenseWeapon);
+		builder.append(", experiencePoints=");
+		builder.append(this.mExperiencePoints);
+		builder.append(", gold=");
+		builder.append(this.mGold);
+		builder.append(", intelligence=");
+		builder.append(this.mIntelligence);
+		builder.append(", lifePoints=");
+		builder.append(this.mLifePoints);
+		builder.append(", maxLifePoints=");
+		builder.append(this.mMaxLifePoints);
+		builder.append(", speed=");
+		builder.append(this.mSpeed);
+		builder.append(", status=");
+		builder.append(this.mStatus);
+		builder.append("]");
+		return builder.toString();
+	}
+}
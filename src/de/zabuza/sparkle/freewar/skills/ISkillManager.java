@@ -2,7 +2,10 @@ package de.zabuza.sparkle.freewar.skills;
 
 import java.util.Map;
 
+import org.openqa.selenium.TimeoutException;
+
 import de.zabuza.sparkle.freewar.player.Player;
+import de.zabuza.sparkle.webdriver.Deadline;
 
 /**
  * Interface for objects that manage the skills of a {@link Player}.
@@ -19,6 +22,19 @@ public interface ISkillManager {
 	 */
 	public boolean abortTrainingOfSkill();
 
+	/**
+	 * Aborts the training of the skill that is currently active. All waits of
+	 * the action share the time remaining until the given deadline.
+	 * 
+	 * @param deadline
+	 *            The deadline until which the action has to be finished
+	 * @return <tt>True</tt> if the training was aborted or <tt>false</tt> if not,
+	 *         for example if there was no training active
+	 * @throws TimeoutException
+	 *             Thrown when the deadline passed before the action finished
+	 */
+	public boolean abortTrainingOfSkill(final Deadline deadline) throws TimeoutException;
+
 	/**
 	 * Tries to activate the special skill of the player. The method only supports
 	 * special skills of races that do not need any further arguments.
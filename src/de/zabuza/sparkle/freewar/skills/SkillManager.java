@@ -9,6 +9,8 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
@@ -19,6 +21,7 @@ import de.zabuza.sparkle.selectors.CSSSelectors;
 import de.zabuza.sparkle.selectors.Patterns;
 import de.zabuza.sparkle.selectors.XPaths;
 import de.zabuza.sparkle.wait.EventQueueEmptyWait;
+import de.zabuza.sparkle.webdriver.Deadline;
 
 /**
  * Object that manages the skills of a {@link Player}.
@@ -85,6 +88,23 @@ public final class SkillManager implements ISkillManager {
 		return true;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.freewar.skills.ISkillManager#abortTrainingOfSkill(de.
+	 * zabuza.sparkle.webdriver.Deadline)
+	 */
+	@Override
+	public boolean abortTrainingOfSkill(final Deadline deadline) throws TimeoutException {
+		final Deadline activeDeadline = deadline.activate();
+		try {
+			return abortTrainingOfSkill();
+		} finally {
+			activeDeadline.close();
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -143,8 +163,9 @@ public final class SkillManager implements ISkillManager {
 	@Override
 	public Skill getCurrentlyTrainedSkill() {
 		openSkillMenu();
+		final SearchContext itemFrame = this.mFrameManager.readFrame(EFrame.ITEM);
 
-		final List<WebElement> elements = this.mDriver.findElements(By.xpath(XPaths.ITEM_SKILL_CUR_TRAINED_SKILL));
+		final List<WebElement> elements = itemFrame.findElements(By.xpath(XPaths.ITEM_SKILL_CUR_TRAINED_SKILL));
 		if (elements.isEmpty()) {
 			closeSkillMenu();
 			return null;
@@ -201,7 +222,7 @@ public final class SkillManager implements ISkillManager {
 		final long trainingEndTime = System.currentTimeMillis() + timeAhead;
 
 		// Get maximal level
-		final List<WebElement> trainableSkillsElements = this.mDriver
+		final List<WebElement> trainableSkillsElements = itemFrame
 				.findElements(By.xpath(XPaths.ITEM_SKILL_TRAINABLE_SKILLS));
 		if (trainableSkillsElements.isEmpty()) {
 			closeSkillMenu();
@@ -237,7 +258,8 @@ public final class SkillManager implements ISkillManager {
 
 		// Add trainable skills
 		openSkillMenu();
-		final List<WebElement> trainableSkillsTableElements = this.mDriver
+		final SearchContext itemFrame = this.mFrameManager.readFrame(EFrame.ITEM);
+		final List<WebElement> trainableSkillsTableElements = itemFrame
 				.findElements(By.xpath(XPaths.ITEM_SKILL_TRAINABLE_SKILLS));
 		if (!trainableSkillsTableElements.isEmpty()) {
 			final WebElement trainableTableSkills = trainableSkillsTableElements.iterator().next();
@@ -269,7 +291,7 @@ public final class SkillManager implements ISkillManager {
 		}
 
 		// Add maximized skills
-		final List<WebElement> maximizedSkillsTableElements = this.mDriver
+		final List<WebElement> maximizedSkillsTableElements = itemFrame
 				.findElements(By.xpath(XPaths.ITEM_SKILL_MAXIMIZED_SKILLS));
 		if (!maximizedSkillsTableElements.isEmpty()) {
 			final WebElement maximizedTableSkills = maximizedSkillsTableElements.iterator().next();
@@ -305,9 +327,9 @@ public final class SkillManager implements ISkillManager {
 	 */
 	@Override
 	public boolean isSkillMenuOpened() {
-		switchToItemFrame();
+		final SearchContext itemFrame = this.mFrameManager.readFrame(EFrame.ITEM);
 		// The menu is opened if its presence selector is present
-		return !this.mDriver.findElements(By.xpath(XPaths.ITEM_SKILL_MENU_OPENED)).isEmpty();
+		return !itemFrame.findElements(By.xpath(XPaths.ITEM_SKILL_MENU_OPENED)).isEmpty();
 	}
 
 	/*
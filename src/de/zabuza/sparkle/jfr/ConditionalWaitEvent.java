@@ -0,0 +1,55 @@
+package de.zabuza.sparkle.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Implementation of {@link IConditionalWaitEvent} that is recorded by the Java
+ * Flight Recorder. It is only created by {@link FlightEvents} if the runtime
+ * provides the flight recorder.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+@Name("de.zabuza.sparkle.ConditionalWait")
+@Label("Conditional Wait")
+@Category({ "Sparkle", "Waits" })
+@Description("Wait for a condition, like the presence of an element")
+public final class ConditionalWaitEvent extends Event implements IConditionalWaitEvent {
+	/**
+	 * The key that identifies the kind of the wait.
+	 */
+	@Name("kind")
+	@Label("Kind")
+	private String mKind;
+	/**
+	 * The outcome of the wait, one of the outcomes of
+	 * {@link IConditionalWaitEvent}.
+	 */
+	@Name("outcome")
+	@Label("Outcome")
+	private String mOutcome;
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.jfr.IConditionalWaitEvent#setKind(java.lang.String)
+	 */
+	@Override
+	public void setKind(final String kind) {
+		this.mKind = kind;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.jfr.IConditionalWaitEvent#setOutcome(java.lang.String)
+	 */
+	@Override
+	public void setOutcome(final String outcome) {
+		this.mOutcome = outcome;
+	}
+}
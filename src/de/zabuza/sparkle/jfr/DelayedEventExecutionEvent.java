@@ -0,0 +1,96 @@
+package de.zabuza.sparkle.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Implementation of {@link IDelayedEventExecutionEvent} that is recorded by
+ * the Java Flight Recorder. It is only created by {@link FlightEvents} if the
+ * runtime provides the flight recorder. The stack trace is not recorded as it
+ * only shows the scheduler.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+@Name("de.zabuza.sparkle.DelayedEventExecution")
+@Label("Delayed Event Execution")
+@Category({ "Sparkle", "Delayed Events" })
+@Description("Execution of an event of a delayed event queue")
+@StackTrace(false)
+public final class DelayedEventExecutionEvent extends Event implements IDelayedEventExecutionEvent {
+	/**
+	 * The name of the class of the executed event.
+	 */
+	@Name("eventType")
+	@Label("Event Type")
+	private String mEventType;
+	/**
+	 * Whether the execution failed with an exception.
+	 */
+	@Name("failed")
+	@Label("Failed")
+	private boolean mFailed;
+	/**
+	 * The priority of the executed event.
+	 */
+	@Name("priority")
+	@Label("Priority")
+	private String mPriority;
+	/**
+	 * The latency between adding the event to the queue and executing it in
+	 * nanoseconds.
+	 */
+	@Name("queueLatency")
+	@Label("Queue Latency")
+	@Timespan(Timespan.NANOSECONDS)
+	private long mQueueLatency;
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.jfr.IDelayedEventExecutionEvent#setEventType(java.lang.
+	 * String)
+	 */
+	@Override
+	public void setEventType(final String eventType) {
+		this.mEventType = eventType;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.jfr.IDelayedEventExecutionEvent#setFailed(boolean)
+	 */
+	@Override
+	public void setFailed(final boolean failed) {
+		this.mFailed = failed;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.jfr.IDelayedEventExecutionEvent#setPriority(java.lang.
+	 * String)
+	 */
+	@Override
+	public void setPriority(final String priority) {
+		this.mPriority = priority;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.jfr.IDelayedEventExecutionEvent#setQueueLatency(long)
+	 */
+	@Override
+	public void setQueueLatency(final long queueLatency) {
+		this.mQueueLatency = queueLatency;
+	}
+}
@@ -0,0 +1,180 @@
+package de.zabuza.sparkle.jfr;
+
+/**
+ * Event that is never recorded. It is used by {@link FlightEvents} if the
+ * runtime does not provide the flight recorder. As it has no state, a single
+ * instance serves all kinds of events.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class DisabledFlightEvent implements IConditionalWaitEvent, IDelayedEventExecutionEvent,
+		IFrameSwitchEvent, IStaleRefreshEvent, ITrapRejectionEvent {
+	/**
+	 * The instance that serves all kinds of events.
+	 */
+	public static final DisabledFlightEvent INSTANCE = new DisabledFlightEvent();
+
+	/**
+	 * Creates a new event that is never recorded. Use {@link #INSTANCE} instead.
+	 */
+	private DisabledFlightEvent() {
+		// Use the instance
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.jfr.IFlightEvent#begin()
+	 */
+	@Override
+	public void begin() {
+		// Nothing to time
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.jfr.IFlightEvent#commit()
+	 */
+	@Override
+	public void commit() {
+		// Nothing to record
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.jfr.IFlightEvent#end()
+	 */
+	@Override
+	public void end() {
+		// Nothing to time
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.jfr.IStaleRefreshEvent#setAttempts(int)
+	 */
+	@Override
+	public void setAttempts(final int attempts) {
+		// Nothing to record
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.jfr.IDelayedEventExecutionEvent#setEventType(java.lang.
+	 * String)
+	 */
+	@Override
+	public void setEventType(final String eventType) {
+		// Nothing to record
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.jfr.IDelayedEventExecutionEvent#setFailed(boolean)
+	 */
+	@Override
+	public void setFailed(final boolean failed) {
+		// Nothing to record
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.jfr.IFrameSwitchEvent#setFrame(java.lang.String)
+	 */
+	@Override
+	public void setFrame(final String frame) {
+		// Nothing to record
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.jfr.IConditionalWaitEvent#setKind(java.lang.String)
+	 */
+	@Override
+	public void setKind(final String kind) {
+		// Nothing to record
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.jfr.IStaleRefreshEvent#setOperation(java.lang.String)
+	 */
+	@Override
+	public void setOperation(final String operation) {
+		// Nothing to record
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.jfr.IConditionalWaitEvent#setOutcome(java.lang.String)
+	 */
+	@Override
+	public void setOutcome(final String outcome) {
+		// Nothing to record
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.jfr.IDelayedEventExecutionEvent#setPriority(java.lang.
+	 * String)
+	 */
+	@Override
+	public void setPriority(final String priority) {
+		// Nothing to record
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.jfr.IDelayedEventExecutionEvent#setQueueLatency(long)
+	 */
+	@Override
+	public void setQueueLatency(final long queueLatency) {
+		// Nothing to record
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.jfr.IStaleRefreshEvent#setRecovered(boolean)
+	 */
+	@Override
+	public void setRecovered(final boolean recovered) {
+		// Nothing to record
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.jfr.IFrameSwitchEvent#setSkipped(boolean)
+	 */
+	@Override
+	public void setSkipped(final boolean skipped) {
+		// Nothing to record
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.jfr.IFlightEvent#shouldCommit()
+	 */
+	@Override
+	public boolean shouldCommit() {
+		return false;
+	}
+}
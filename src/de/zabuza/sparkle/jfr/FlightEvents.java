@@ -0,0 +1,104 @@
+package de.zabuza.sparkle.jfr;
+
+/**
+ * Utility class that creates the events the API records with the Java Flight
+ * Recorder. The classes of recordable events are only loaded if the runtime
+ * provides the flight recorder, which is the case since Java 11 and Java 8
+ * update 262. On other runtimes events that are never recorded are created
+ * instead, thus the API works without the flight recorder.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class FlightEvents {
+	/**
+	 * The name of the class all events of the flight recorder extend.
+	 */
+	private static final String FLIGHT_RECORDER_EVENT_CLASS = "jdk.jfr.Event";
+	/**
+	 * Whether the runtime provides the flight recorder.
+	 */
+	private static final boolean IS_FLIGHT_RECORDER_AVAILABLE = isFlightRecorderAvailable();
+
+	/**
+	 * Creates an event of a wait for a condition.
+	 * 
+	 * @return The created event
+	 */
+	public static IConditionalWaitEvent createConditionalWaitEvent() {
+		if (!IS_FLIGHT_RECORDER_AVAILABLE) {
+			return DisabledFlightEvent.INSTANCE;
+		}
+		return new ConditionalWaitEvent();
+	}
+
+	/**
+	 * Creates an event of the execution of a delayed event.
+	 * 
+	 * @return The created event
+	 */
+	public static IDelayedEventExecutionEvent createDelayedEventExecutionEvent() {
+		if (!IS_FLIGHT_RECORDER_AVAILABLE) {
+			return DisabledFlightEvent.INSTANCE;
+		}
+		return new DelayedEventExecutionEvent();
+	}
+
+	/**
+	 * Creates an event of switching to a frame.
+	 * 
+	 * @return The created event
+	 */
+	public static IFrameSwitchEvent createFrameSwitchEvent() {
+		if (!IS_FLIGHT_RECORDER_AVAILABLE) {
+			return DisabledFlightEvent.INSTANCE;
+		}
+		return new FrameSwitchEvent();
+	}
+
+	/**
+	 * Creates an event of recovering from a staled element reference.
+	 * 
+	 * @return The created event
+	 */
+	public static IStaleRefreshEvent createStaleRefreshEvent() {
+		if (!IS_FLIGHT_RECORDER_AVAILABLE) {
+			return DisabledFlightEvent.INSTANCE;
+		}
+		return new StaleRefreshEvent();
+	}
+
+	/**
+	 * Creates an event of rejecting an operation on a bot trap.
+	 * 
+	 * @return The created event
+	 */
+	public static ITrapRejectionEvent createTrapRejectionEvent() {
+		if (!IS_FLIGHT_RECORDER_AVAILABLE) {
+			return DisabledFlightEvent.INSTANCE;
+		}
+		return new TrapRejectionEvent();
+	}
+
+	/**
+	 * Whether the runtime provides the flight recorder.
+	 * 
+	 * @return <tt>True</tt> if the flight recorder is available, <tt>false</tt>
+	 *         if not
+	 */
+	private static boolean isFlightRecorderAvailable() {
+		try {
+			Class.forName(FLIGHT_RECORDER_EVENT_CLASS, false, FlightEvents.class.getClassLoader());
+			return true;
+		} catch (final ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private FlightEvents() {
+
+	}
+}
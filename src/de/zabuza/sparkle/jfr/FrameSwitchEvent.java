@@ -0,0 +1,54 @@
+package de.zabuza.sparkle.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Implementation of {@link IFrameSwitchEvent} that is recorded by the Java
+ * Flight Recorder. It is only created by {@link FlightEvents} if the runtime
+ * provides the flight recorder.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+@Name("de.zabuza.sparkle.FrameSwitch")
+@Label("Frame Switch")
+@Category({ "Sparkle", "Frames" })
+@Description("Switch to a frame of Freewar")
+public final class FrameSwitchEvent extends Event implements IFrameSwitchEvent {
+	/**
+	 * The name of the frame to switch to.
+	 */
+	@Name("frame")
+	@Label("Frame")
+	private String mFrame;
+	/**
+	 * Whether the switch was skipped since the driver still was in the frame.
+	 */
+	@Name("skipped")
+	@Label("Skipped")
+	private boolean mSkipped;
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.jfr.IFrameSwitchEvent#setFrame(java.lang.String)
+	 */
+	@Override
+	public void setFrame(final String frame) {
+		this.mFrame = frame;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.jfr.IFrameSwitchEvent#setSkipped(boolean)
+	 */
+	@Override
+	public void setSkipped(final boolean skipped) {
+		this.mSkipped = skipped;
+	}
+}
@@ -0,0 +1,40 @@
+package de.zabuza.sparkle.jfr;
+
+/**
+ * Flight recorder event of a wait for a condition, as done by
+ * {@link de.zabuza.sparkle.wait.AConditionalWait AConditionalWait}. The
+ * duration of the event is the duration of the wait.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public interface IConditionalWaitEvent extends IFlightEvent {
+	/**
+	 * Outcome of a wait that failed with an unexpected exception.
+	 */
+	public static final String OUTCOME_FAILED = "failed";
+	/**
+	 * Outcome of a wait whose condition resolved to <tt>true</tt>.
+	 */
+	public static final String OUTCOME_RESOLVED = "resolved";
+	/**
+	 * Outcome of a wait whose condition did not resolve in time.
+	 */
+	public static final String OUTCOME_TIMED_OUT = "timed out";
+
+	/**
+	 * Sets the key that identifies the kind of the wait.
+	 * 
+	 * @param kind
+	 *            The key of the kind of the wait
+	 */
+	public void setKind(final String kind);
+
+	/**
+	 * Sets the outcome of the wait.
+	 * 
+	 * @param outcome
+	 *            The outcome of the wait, one of the outcomes of this interface
+	 */
+	public void setOutcome(final String outcome);
+}
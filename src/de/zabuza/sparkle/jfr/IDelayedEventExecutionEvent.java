@@ -0,0 +1,45 @@
+package de.zabuza.sparkle.jfr;
+
+/**
+ * Flight recorder event of the execution of a delayed event by a
+ * {@link de.zabuza.sparkle.webdriver.DelayedEventExecutor
+ * DelayedEventExecutor}. The duration of the event is the duration of the
+ * execution, the latency between adding the delayed event to the queue and
+ * executing it is recorded separately.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public interface IDelayedEventExecutionEvent extends IFlightEvent {
+	/**
+	 * Sets the name of the class of the executed event.
+	 * 
+	 * @param eventType
+	 *            The name of the class of the executed event
+	 */
+	public void setEventType(final String eventType);
+
+	/**
+	 * Sets whether the execution failed with an exception.
+	 * 
+	 * @param failed
+	 *            <tt>True</tt> if the execution failed, <tt>false</tt> if not
+	 */
+	public void setFailed(final boolean failed);
+
+	/**
+	 * Sets the priority of the executed event.
+	 * 
+	 * @param priority
+	 *            The priority of the executed event
+	 */
+	public void setPriority(final String priority);
+
+	/**
+	 * Sets the latency between adding the event to the queue and executing it.
+	 * 
+	 * @param queueLatency
+	 *            The latency in nanoseconds
+	 */
+	public void setQueueLatency(final long queueLatency);
+}
@@ -0,0 +1,38 @@
+package de.zabuza.sparkle.jfr;
+
+/**
+ * Event that can be recorded by the Java Flight Recorder. Events are created
+ * using {@link FlightEvents}, which only creates recordable events if the
+ * runtime provides the flight recorder. The duration of an event lasts from
+ * {@link #begin()} to {@link #end()}, its fields should only be set if
+ * {@link #shouldCommit()} allows it.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public interface IFlightEvent {
+	/**
+	 * Starts the timing of the event.
+	 */
+	public void begin();
+
+	/**
+	 * Records the event if it is enabled and passes the thresholds of the
+	 * recording.
+	 */
+	public void commit();
+
+	/**
+	 * Ends the timing of the event.
+	 */
+	public void end();
+
+	/**
+	 * Whether the event would be recorded by {@link #commit()}. Setting the
+	 * fields of the event can be skipped if not.
+	 * 
+	 * @return <tt>True</tt> if the event would be recorded, <tt>false</tt> if
+	 *         not
+	 */
+	public boolean shouldCommit();
+}
@@ -0,0 +1,29 @@
+package de.zabuza.sparkle.jfr;
+
+/**
+ * Flight recorder event of switching to a frame of <tt>Freewar</tt>, as done
+ * by the {@link de.zabuza.sparkle.freewar.frames.FrameManager FrameManager}.
+ * The duration of the event covers waiting for queued events and for the
+ * frame to load.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public interface IFrameSwitchEvent extends IFlightEvent {
+	/**
+	 * Sets the name of the frame to switch to.
+	 * 
+	 * @param frame
+	 *            The name of the frame to switch to
+	 */
+	public void setFrame(final String frame);
+
+	/**
+	 * Sets whether the switch was skipped since the driver still was in the
+	 * frame.
+	 * 
+	 * @param skipped
+	 *            <tt>True</tt> if the switch was skipped, <tt>false</tt> if not
+	 */
+	public void setSkipped(final boolean skipped);
+}
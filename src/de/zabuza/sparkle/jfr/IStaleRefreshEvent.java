@@ -0,0 +1,38 @@
+package de.zabuza.sparkle.jfr;
+
+/**
+ * Flight recorder event of recovering from a staled element reference, as done
+ * by the
+ * {@link de.zabuza.sparkle.webdriver.intercept.StaleRefreshInterceptor
+ * StaleRefreshInterceptor}. The duration of the event covers all retries of
+ * relocating the element.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public interface IStaleRefreshEvent extends IFlightEvent {
+	/**
+	 * Sets the amount of tries to relocate the element.
+	 * 
+	 * @param attempts
+	 *            The amount of tries
+	 */
+	public void setAttempts(final int attempts);
+
+	/**
+	 * Sets the operation that revealed the staled reference.
+	 * 
+	 * @param operation
+	 *            The name of the operation
+	 */
+	public void setOperation(final String operation);
+
+	/**
+	 * Sets whether the element could be relocated.
+	 * 
+	 * @param recovered
+	 *            <tt>True</tt> if the element was relocated, <tt>false</tt> if
+	 *            not
+	 */
+	public void setRecovered(final boolean recovered);
+}
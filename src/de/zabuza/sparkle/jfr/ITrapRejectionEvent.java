@@ -0,0 +1,21 @@
+package de.zabuza.sparkle.jfr;
+
+/**
+ * Flight recorder event of rejecting an operation on an element that seems to
+ * be a bot trap, as done by the
+ * {@link de.zabuza.sparkle.webdriver.intercept.AntiTrapInterceptor
+ * AntiTrapInterceptor}. The duration of the event covers the examination of
+ * the element.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public interface ITrapRejectionEvent extends IFlightEvent {
+	/**
+	 * Sets the operation that was rejected.
+	 * 
+	 * @param operation
+	 *            The name of the operation
+	 */
+	public void setOperation(final String operation);
+}
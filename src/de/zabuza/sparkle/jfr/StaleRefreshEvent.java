@@ -0,0 +1,70 @@
+package de.zabuza.sparkle.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Implementation of {@link IStaleRefreshEvent} that is recorded by the Java
+ * Flight Recorder. It is only created by {@link FlightEvents} if the runtime
+ * provides the flight recorder.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+@Name("de.zabuza.sparkle.StaleRefresh")
+@Label("Stale Refresh")
+@Category({ "Sparkle", "Elements" })
+@Description("Recovery from a staled element reference by relocating the element")
+public final class StaleRefreshEvent extends Event implements IStaleRefreshEvent {
+	/**
+	 * The amount of tries to relocate the element.
+	 */
+	@Name("attempts")
+	@Label("Attempts")
+	private int mAttempts;
+	/**
+	 * The operation that revealed the staled reference.
+	 */
+	@Name("operation")
+	@Label("Operation")
+	private String mOperation;
+	/**
+	 * Whether the element could be relocated.
+	 */
+	@Name("recovered")
+	@Label("Recovered")
+	private boolean mRecovered;
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.jfr.IStaleRefreshEvent#setAttempts(int)
+	 */
+	@Override
+	public void setAttempts(final int attempts) {
+		this.mAttempts = attempts;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.jfr.IStaleRefreshEvent#setOperation(java.lang.String)
+	 */
+	@Override
+	public void setOperation(final String operation) {
+		this.mOperation = operation;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.jfr.IStaleRefreshEvent#setRecovered(boolean)
+	 */
+	@Override
+	public void setRecovered(final boolean recovered) {
+		this.mRecovered = recovered;
+	}
+}
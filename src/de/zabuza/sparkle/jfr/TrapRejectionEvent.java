@@ -0,0 +1,38 @@
+package de.zabuza.sparkle.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Implementation of {@link ITrapRejectionEvent} that is recorded by the Java
+ * Flight Recorder. It is only created by {@link FlightEvents} if the runtime
+ * provides the flight recorder.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+@Name("de.zabuza.sparkle.TrapRejection")
+@Label("Trap Rejection")
+@Category({ "Sparkle", "Elements" })
+@Description("Rejection of an operation on an element that seems to be a bot trap")
+public final class TrapRejectionEvent extends Event implements ITrapRejectionEvent {
+	/**
+	 * The operation that was rejected.
+	 */
+	@Name("operation")
+	@Label("Operation")
+	private String mOperation;
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.jfr.ITrapRejectionEvent#setOperation(java.lang.String)
+	 */
+	@Override
+	public void setOperation(final String operation) {
+		this.mOperation = operation;
+	}
+}
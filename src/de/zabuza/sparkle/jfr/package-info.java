@@ -0,0 +1,8 @@
+/**
+ * This package contains the events the API records with the Java Flight
+ * Recorder, like waits, frame switches and executions of delayed events.
+ * Events are created by {@link de.zabuza.sparkle.jfr.FlightEvents
+ * FlightEvents}, which only loads the classes that depend on the flight
+ * recorder if the runtime provides it.
+ */
+package de.zabuza.sparkle.jfr;
\ No newline at end of file
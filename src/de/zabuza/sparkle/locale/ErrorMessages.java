@@ -2,12 +2,22 @@ package de.zabuza.sparkle.locale;
 
 import org.openqa.selenium.StaleElementReferenceException;
 
+import de.zabuza.sparkle.Sparkle;
 import de.zabuza.sparkle.freewar.StayLoggedInService;
 import de.zabuza.sparkle.freewar.chat.Chat;
+import de.zabuza.sparkle.freewar.inventory.IInventoryListener;
 import de.zabuza.sparkle.freewar.inventory.services.magicsphere.MagicSphere;
 import de.zabuza.sparkle.freewar.movement.network.NetworkUtil;
-import de.zabuza.sparkle.webdriver.DelayedEventExecutor;
-import de.zabuza.sparkle.webdriver.StaleRefresherWebElement;
+import de.zabuza.sparkle.wait.AConditionalWait;
+import de.zabuza.sparkle.wait.APresenceWait;
+import de.zabuza.sparkle.wait.FrameReadyWait;
+import de.zabuza.sparkle.wait.TimedWait;
+import de.zabuza.sparkle.webdriver.Deadline;
+import de.zabuza.sparkle.webdriver.IDelayedEventQueue;
+import de.zabuza.sparkle.webdriver.LocalDocumentDriver;
+import de.zabuza.sparkle.webdriver.delay.ThroughputDelayPolicy;
+import de.zabuza.sparkle.webdriver.intercept.InterceptingWebDriver;
+import de.zabuza.sparkle.webdriver.intercept.StaleRefreshInterceptor;
 
 /**
  * Utility class that provides error messages for the API.
@@ -16,6 +26,11 @@ import de.zabuza.sparkle.webdriver.StaleRefresherWebElement;
  * 
  */
 public final class ErrorMessages {
+	/**
+	 * Thrown when a {@link ThroughputDelayPolicy} is created with an amount of
+	 * actions per minute that is not positive.
+	 */
+	public static final String ACTIONS_PER_MINUTE_ILLEGAL = "The amount of actions per minute must be positive.";
 	/**
 	 * Thrown when an illegal coordinate was given that does not correspond to a
 	 * blue sphere teleportation destination in {@link MagicSphere}.
@@ -30,15 +45,55 @@ public final class ErrorMessages {
 	 * Thrown when a {@link Chat} tries to process an invalid message.
 	 */
 	public static final String CHAT_MESSAGE_INVALID = "The chat message is invalid.";
+	/**
+	 * Thrown when the condition of an {@link AConditionalWait} did not resolve
+	 * in time.
+	 */
+	public static final String CONDITIONAL_WAIT_TIMEOUT = "The condition was not met in time: ";
 	/**
 	 * Thrown when trying to get the move type of a given unsupported cost in
 	 * {@link NetworkUtil}.
 	 */
 	public final static String COST_MOVE_TYPE_ILLEGAL = "The given cost is not supported by this method.";
 	/**
-	 * Thrown when a {@link DelayedEventExecutor} gets interrupted while sleeping.
+	 * Thrown when the active {@link Deadline} of a thread has passed.
+	 */
+	public static final String DEADLINE_PASSED = "The deadline of the operation has passed.";
+	/**
+	 * Thrown when an element, waited for by an {@link APresenceWait}, did not
+	 * become present in time.
+	 */
+	public static final String ELEMENT_PRESENCE_WAIT_TIMEOUT = "The element did not become present in time.";
+	/**
+	 * Thrown when waiting for the events of a {@link IDelayedEventQueue} to be
+	 * processed was interrupted.
+	 */
+	public static final String EVENT_QUEUE_WAIT_INTERRUPTED = "Waiting for the event queue to be processed was interrupted.";
+	/**
+	 * Thrown when the events of a {@link IDelayedEventQueue} were not processed in
+	 * time.
+	 */
+	public static final String EVENT_QUEUE_WAIT_TIMEOUT = "The event queue was not processed in time.";
+	/**
+	 * Thrown when a {@link FrameReadyWait} timed out, followed by the name of
+	 * the frame.
 	 */
-	public static final String DELAYED_EVENT_EXECUTOR_INTERRUPTED = "The delayed event executor was interrupted while sleeping.";
+	public static final String FRAME_READY_WAIT_TIMEOUT = "The frame did not become ready in time: ";
+	/**
+	 * Reported when an {@link IInventoryListener} failed to handle a change of
+	 * the inventory.
+	 */
+	public static final String INVENTORY_LISTENER_FAILED = "A listener failed to handle a change of the inventory.";
+	/**
+	 * Thrown when a {@link LocalDocumentDriver} could not parse the source of a
+	 * document.
+	 */
+	public static final String LOCAL_DOCUMENT_NOT_PARSED = "The source of the document could not be parsed.";
+	/**
+	 * Reported when {@link Sparkle} could not publish the metrics of an
+	 * instance over JMX.
+	 */
+	public static final String METRICS_NOT_PUBLISHED = "The metrics of the instance could not be published over JMX.";
 	/**
 	 * Thrown when trying to get the cost of a given unsupported move type in
 	 * {@link NetworkUtil}.
@@ -50,7 +105,18 @@ public final class ErrorMessages {
 	 */
 	public final static String MOVE_TYPE_EXECUTION_ILLEGAL = "The given move type or situation is not supported by this method.";
 	/**
-	 * Thrown when a {@link StaleRefresherWebElement} tries to resolve a
+	 * Thrown when a script is executed by an {@link InterceptingWebDriver} whose
+	 * wrapped driver is not able to execute scripts.
+	 */
+	public static final String SCRIPT_EXECUTION_UNSUPPORTED = "The driver is not able to execute scripts.";
+	/**
+	 * Thrown when a {@link StaleRefreshInterceptor} tries to resolve a
+	 * {@link StaleElementReferenceException} but the frame or window of the
+	 * element is gone.
+	 */
+	public static final String STALE_REFRESHER_FRAME_GONE = "Element is in a staled state and its frame or window is gone.";
+	/**
+	 * Thrown when a {@link StaleRefreshInterceptor} tries to resolve a
 	 * {@link StaleElementReferenceException} but could not succeed.
 	 */
 	public static final String STALE_REFRESHER_STALED_STATE_NOT_SOLVED = "Element is in a staled state. Could not resolve the issue.";
@@ -58,6 +124,10 @@ public final class ErrorMessages {
 	 * Thrown when a {@link StayLoggedInService} gets interrupted while sleeping.
 	 */
 	public static final String STAY_LOGGED_IN_SERVICE_INTERRUPTED = "The stay logged in service was interrupted while sleeping.";
+	/**
+	 * Thrown when a {@link TimedWait} was interrupted while pausing.
+	 */
+	public static final String TIMED_WAIT_INTERRUPTED = "The timed wait was interrupted while pausing.";
 
 	/**
 	 * Utility class. No implementation.
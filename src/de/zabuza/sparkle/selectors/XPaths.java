@@ -18,6 +18,11 @@ public final class XPaths {
 	 * given item.
 	 */
 	public static final String ITEM_INVENTORY_ITEM_ACTIVATE_ANCHOR_PRE = "//p[@class='listitemrow']//b[contains(text(), '";
+	/**
+	 * Selector that corresponds to an anchor which activates an item, relative to
+	 * the element that holds the name of the item.
+	 */
+	public static final String ITEM_INVENTORY_ITEM_ACTIVATE_ANCHOR_SIBLING = "following-sibling::a[contains(@href, 'action=activate')]";
 	/**
 	 * The post-part of a selector that corresponds to an anchor which activates a
 	 * given equipped item.
@@ -1,14 +1,35 @@
 package de.zabuza.sparkle.wait;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.NotFoundException;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.ExpectedCondition;
-import org.openqa.selenium.support.ui.WebDriverWait;
+
+import de.zabuza.sparkle.jfr.FlightEvents;
+import de.zabuza.sparkle.jfr.IConditionalWaitEvent;
+import de.zabuza.sparkle.locale.ErrorMessages;
+import de.zabuza.sparkle.webdriver.Deadline;
+import de.zabuza.sparkle.webdriver.ExponentialBackoff;
 
 /**
  * Abstract class for waiting for a given condition. By using
  * {@link #waitUntilCondition()} the method returns as soon as the condition
- * given by {@link #getCondition()} resolves to <tt>true</tt>.
+ * given by {@link #getCondition()} resolves to <tt>true</tt>.<br>
+ * <br>
+ * The durations of waits are recorded per driver and per kind of wait, see
+ * {@link #getStatistics(WebDriver)}. A wait that timed out is recorded as if
+ * it took at least the timeout it used, thus the timeout widens after each
+ * timeout. Once enough durations are known, the polling interval and the
+ * timeout adapt to them. The condition is polled quickly at first and less
+ * often later on, and the timeout shrinks to the 99.9th percentile of the
+ * durations plus headroom, but not below {@link #MIN_TIMEOUT}. It never exceeds
+ * the timeout given at construction, nor the time remaining until the active
+ * {@link Deadline} of the thread.
  * 
  * @author Zabuza {@literal <zabuza.dev@gmail.com>}
  *
@@ -22,11 +43,85 @@ public abstract class AConditionalWait<V> {
 	 * until a {@link TimeoutException} is thrown.
 	 */
 	protected static final int STANDARD_TIMEOUT = 6;
+	/**
+	 * The initial polling interval in milliseconds if not enough durations are
+	 * known.
+	 */
+	private static final long DEFAULT_INITIAL_POLLING_INTERVAL = 50;
+	/**
+	 * The statistics of each driver, accessed by the driver.
+	 */
+	private static final Map<WebDriver, WaitStatistics> DRIVER_TO_STATISTICS = new WeakHashMap<>();
+	/**
+	 * The maximal polling interval in milliseconds.
+	 */
+	private static final long MAX_POLLING_INTERVAL = 500;
+	/**
+	 * The minimal polling interval in milliseconds.
+	 */
+	private static final long MIN_POLLING_INTERVAL = 10;
+	/**
+	 * The minimal adapted timeout in milliseconds. It protects against single
+	 * slow waits after a series of fast ones.
+	 */
+	private static final long MIN_TIMEOUT = TimeUnit.SECONDS.toMillis(STANDARD_TIMEOUT) / 3;
+	/**
+	 * The amount of durations that need to be known before the polling interval
+	 * and the timeout adapt to them.
+	 */
+	private static final int MIN_SAMPLES = 20;
+	/**
+	 * The factor the 99.9th percentile of the durations is multiplied with to
+	 * get the adapted timeout.
+	 */
+	private static final long TIMEOUT_FACTOR = 2;
+	/**
+	 * The headroom in milliseconds that is added to the adapted timeout.
+	 */
+	private static final long TIMEOUT_HEADROOM = 1_000;
+
+	/**
+	 * Clamps the given value to the given bounds.
+	 * 
+	 * @param value
+	 *            The value to clamp
+	 * @param lowerBound
+	 *            The lower bound
+	 * @param upperBound
+	 *            The upper bound, must not be less than the lower bound
+	 * @return The clamped value
+	 */
+	private static long clamp(final long value, final long lowerBound, final long upperBound) {
+		return Math.max(lowerBound, Math.min(value, upperBound));
+	}
+
+	/**
+	 * Gets the statistics about the durations of the waits that used the given
+	 * driver.
+	 * 
+	 * @param driver
+	 *            The driver to get the statistics of
+	 * @return The statistics of the given driver
+	 */
+	public static WaitStatistics getStatistics(final WebDriver driver) {
+		synchronized (DRIVER_TO_STATISTICS) {
+			WaitStatistics statistics = DRIVER_TO_STATISTICS.get(driver);
+			if (statistics == null) {
+				statistics = new WaitStatistics();
+				DRIVER_TO_STATISTICS.put(driver, statistics);
+			}
+			return statistics;
+		}
+	}
 
 	/**
 	 * Web driver to use for waiting.
 	 */
-	private final WebDriverWait mWait;
+	private final WebDriver mDriver;
+	/**
+	 * The maximal timeout in milliseconds.
+	 */
+	private final long mMaxTimeout;
 
 	/**
 	 * Creates a new conditional wait object that uses a given web driver and the
@@ -46,21 +141,83 @@ public abstract class AConditionalWait<V> {
 	 * @param driver
 	 *            Web driver to use for waiting
 	 * @param timeOutInSeconds
-	 *            Timeout in seconds to wait for the condition to resolve to
-	 *            <tt>true</tt> until a {@link TimeoutException} is thrown.
+	 *            Maximal timeout in seconds to wait for the condition to resolve
+	 *            to <tt>true</tt> until a {@link TimeoutException} is thrown.
 	 */
 	public AConditionalWait(final WebDriver driver, final long timeOutInSeconds) {
-		this.mWait = new WebDriverWait(driver, timeOutInSeconds);
+		this.mDriver = driver;
+		this.mMaxTimeout = TimeUnit.SECONDS.toMillis(timeOutInSeconds);
 	}
 
 	/**
 	 * Waits for the condition given by {@link #getCondition()} and returns as soon
-	 * as it resolves to <tt>true</tt>.
+	 * as it resolves to <tt>true</tt>. The wait is recorded as
+	 * {@link IConditionalWaitEvent} by the flight recorder.
 	 * 
 	 * @return The object specified by {@link ExpectedCondition}.
 	 */
 	public V waitUntilCondition() {
-		return this.mWait.until(getCondition());
+		final IConditionalWaitEvent event = FlightEvents.createConditionalWaitEvent();
+		event.begin();
+		final long start = System.nanoTime();
+		String outcome = IConditionalWaitEvent.OUTCOME_FAILED;
+		try {
+			final V value = awaitCondition();
+			outcome = IConditionalWaitEvent.OUTCOME_RESOLVED;
+			return value;
+		} catch (final TimeoutException e) {
+			outcome = IConditionalWaitEvent.OUTCOME_TIMED_OUT;
+			recordTimeout(System.nanoTime() - start);
+			throw e;
+		} finally {
+			event.end();
+			if (event.shouldCommit()) {
+				event.setKind(getStatisticsKey());
+				event.setOutcome(outcome);
+				event.commit();
+			}
+		}
+	}
+
+	/**
+	 * Waits for the condition given by {@link #getCondition()} and returns as soon
+	 * as it resolves to <tt>true</tt>, by polling the condition. Subclasses which
+	 * resolve waits on their own override this method. It is called by
+	 * {@link #waitUntilCondition()} and should not be called directly.
+	 * 
+	 * @return The object specified by {@link ExpectedCondition}.
+	 */
+	protected V awaitCondition() {
+		final long start = System.nanoTime();
+		final Optional<WaitDurations> durations = getKnownDurations();
+		long initialPollingInterval = DEFAULT_INITIAL_POLLING_INTERVAL;
+		long maxPollingInterval = MAX_POLLING_INTERVAL;
+		if (durations.isPresent()) {
+			// Poll quickly around the typical duration, less often for slow waits
+			initialPollingInterval = clamp(durations.get().getPercentile(50) / 4, MIN_POLLING_INTERVAL,
+					DEFAULT_INITIAL_POLLING_INTERVAL);
+			maxPollingInterval = clamp(durations.get().getPercentile(90) / 2, initialPollingInterval,
+					MAX_POLLING_INTERVAL);
+		}
+
+		final ExponentialBackoff backoff = new ExponentialBackoff(initialPollingInterval, maxPollingInterval,
+				getTimeout());
+		final ExpectedCondition<V> condition = getCondition();
+		NotFoundException lastException = null;
+		do {
+			try {
+				final V value = condition.apply(this.mDriver);
+				if (value != null && !Boolean.FALSE.equals(value)) {
+					recordDuration(System.nanoTime() - start);
+					return value;
+				}
+			} catch (final NotFoundException e) {
+				// Not present yet, try again later
+				lastException = e;
+			}
+		} while (backoff.awaitNextAttempt());
+
+		throw new TimeoutException(ErrorMessages.CONDITIONAL_WAIT_TIMEOUT + condition, lastException);
 	}
 
 	/**
@@ -70,4 +227,84 @@ public abstract class AConditionalWait<V> {
 	 * @return The condition this object should wait for
 	 */
 	protected abstract ExpectedCondition<V> getCondition();
+
+	/**
+	 * Gets the key that identifies the kind of this wait in the statistics. Waits
+	 * of the same kind are expected to take similar durations. By default the
+	 * key is the name of the class of the wait.
+	 * 
+	 * @return The key of the kind of this wait
+	 */
+	protected String getStatisticsKey() {
+		return getClass().getName();
+	}
+
+	/**
+	 * Gets the timeout to use for this wait. It is adapted to the known
+	 * durations of this kind of wait, but never exceeds the maximal timeout
+	 * given at construction, nor the time remaining until the active
+	 * {@link Deadline} of the thread.
+	 * 
+	 * @return The timeout in milliseconds
+	 */
+	protected long getTimeout() {
+		return Deadline.limitTimeout(getAdaptedTimeout());
+	}
+
+	/**
+	 * Records the duration of a successful wait of this kind. Subclasses which
+	 * resolve waits on their own should call this method once they succeeded.
+	 * Waits that timed out are recorded by {@link #waitUntilCondition()}.
+	 * 
+	 * @param duration
+	 *            The duration of the wait in nanoseconds
+	 */
+	protected void recordDuration(final long duration) {
+		getStatistics(this.mDriver).record(getStatisticsKey(), duration);
+	}
+
+	/**
+	 * Gets the timeout adapted to the known durations of this kind of wait,
+	 * without considering the active {@link Deadline} of the thread. It is at
+	 * least {@link #MIN_TIMEOUT}, but never exceeds the maximal timeout given at
+	 * construction.
+	 * 
+	 * @return The adapted timeout in milliseconds
+	 */
+	private long getAdaptedTimeout() {
+		final Optional<WaitDurations> durations = getKnownDurations();
+		if (!durations.isPresent()) {
+			return this.mMaxTimeout;
+		}
+		final long adaptedTimeout = durations.get().getPercentile(99.9) * TIMEOUT_FACTOR + TIMEOUT_HEADROOM;
+		return clamp(adaptedTimeout, Math.min(MIN_TIMEOUT, this.mMaxTimeout), this.mMaxTimeout);
+	}
+
+	/**
+	 * Gets the durations of this kind of wait, if enough of them are known to
+	 * adapt to them.
+	 * 
+	 * @return The durations of this kind of wait, if enough are known
+	 */
+	private Optional<WaitDurations> getKnownDurations() {
+		final Optional<WaitDurations> durations = getStatistics(this.mDriver).getDurations(getStatisticsKey());
+		if (durations.isPresent() && durations.get().getAmount() >= MIN_SAMPLES) {
+			return durations;
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Records a wait of this kind that timed out. As its actual duration is
+	 * unknown, it is recorded with at least the adapted timeout it used. The
+	 * 99.9th percentile of the durations thereby grows, which widens the timeout
+	 * of the next waits. A wait that was cut short by the active {@link Deadline}
+	 * thus does not shrink the timeout.
+	 * 
+	 * @param duration
+	 *            The time in nanoseconds the wait took until it timed out
+	 */
+	private void recordTimeout(final long duration) {
+		recordDuration(Math.max(duration, TimeUnit.MILLISECONDS.toNanos(getAdaptedTimeout())));
+	}
 }
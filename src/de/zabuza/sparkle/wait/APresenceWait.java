@@ -0,0 +1,148 @@
+package de.zabuza.sparkle.wait;
+
+import java.util.Optional;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import de.zabuza.sparkle.locale.ErrorMessages;
+import de.zabuza.sparkle.webdriver.Scripts;
+import de.zabuza.sparkle.webdriver.WebDriverUtil;
+
+/**
+ * Abstract class for waiting until an element is present. Start waiting using
+ * the {@link #waitUntilCondition()} method. If the driver is able to execute
+ * scripts, the wait blocks in one asynchronous script that observes changes of
+ * the document, see {@link Scripts#ELEMENT_PRESENCE}, instead of polling the
+ * presence of the element. Else, or if the script fails, the presence is
+ * polled. The durations are recorded per kind of lookup and value.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public abstract class APresenceWait extends AConditionalWait<WebElement> {
+	/**
+	 * Condition to wait for when polling.
+	 */
+	private final ExpectedCondition<WebElement> mCondition;
+	/**
+	 * The driver to wait for the element of.
+	 */
+	private final WebDriver mDriver;
+	/**
+	 * Locator of the element to wait for.
+	 */
+	private final By mLocator;
+	/**
+	 * The kind of lookup the script uses to look up the element, one of the
+	 * lookups of {@link Scripts}.
+	 */
+	private final String mLookup;
+	/**
+	 * The value the script uses to look up the element.
+	 */
+	private final String mLookupValue;
+
+	/**
+	 * Creates a new presence wait object that uses a given web driver and the
+	 * default timeout of {@link #STANDARD_TIMEOUT}.
+	 * 
+	 * @param driver
+	 *            Driver to use for waiting
+	 * @param locator
+	 *            Locator of the element to wait for its presence
+	 * @param lookup
+	 *            The kind of lookup that corresponds to the locator, one of the
+	 *            lookups of {@link Scripts}
+	 * @param lookupValue
+	 *            The value used by the locator
+	 */
+	public APresenceWait(final WebDriver driver, final By locator, final String lookup, final String lookupValue) {
+		super(driver);
+		this.mDriver = driver;
+		this.mLocator = locator;
+		this.mLookup = lookup;
+		this.mLookupValue = lookupValue;
+		this.mCondition = ExpectedConditions.presenceOfElementLocated(locator);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.wait.AConditionalWait#awaitCondition()
+	 */
+	@Override
+	protected WebElement awaitCondition() {
+		final long start = System.nanoTime();
+		final Boolean isPresent = awaitPresence();
+		if (Boolean.FALSE.equals(isPresent)) {
+			throw new TimeoutException(ErrorMessages.ELEMENT_PRESENCE_WAIT_TIMEOUT);
+		}
+		if (Boolean.TRUE.equals(isPresent)) {
+			try {
+				final WebElement element = this.mDriver.findElement(this.mLocator);
+				recordDuration(System.nanoTime() - start);
+				return element;
+			} catch (final NoSuchElementException e) {
+				// The script matched differently or the element disappeared
+			}
+		}
+
+		// Fall back to polling the presence of the element
+		return super.awaitCondition();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.wait.AConditionalWait#getCondition()
+	 */
+	@Override
+	protected ExpectedCondition<WebElement> getCondition() {
+		return this.mCondition;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.wait.AConditionalWait#getStatisticsKey()
+	 */
+	@Override
+	protected String getStatisticsKey() {
+		return super.getStatisticsKey() + ":" + this.mLookup + "=" + this.mLookupValue;
+	}
+
+	/**
+	 * Waits until the element is present by using an injected script.
+	 * 
+	 * @return <tt>True</tt> if the element is present, <tt>false</tt> if it did
+	 *         not become present in time and <tt>null</tt> if the driver is not
+	 *         able to execute the script or the script failed
+	 */
+	private Boolean awaitPresence() {
+		final Optional<JavascriptExecutor> executor = WebDriverUtil.getJavascriptExecutor(this.mDriver);
+		if (!executor.isPresent()) {
+			return null;
+		}
+
+		try {
+			final Object isPresent = executor.get().executeAsyncScript(Scripts.ELEMENT_PRESENCE, this.mLookup,
+					this.mLookupValue, Long.valueOf(getTimeout()));
+			if (isPresent instanceof Boolean) {
+				return (Boolean) isPresent;
+			}
+			return null;
+		} catch (final WebDriverException | UnsupportedOperationException e) {
+			// Unsupported scripts, script timeouts and documents that unload
+			// while waiting are handled by polling
+			return null;
+		}
+	}
+}
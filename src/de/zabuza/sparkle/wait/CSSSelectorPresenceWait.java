@@ -2,9 +2,8 @@ package de.zabuza.sparkle.wait;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedCondition;
-import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import de.zabuza.sparkle.webdriver.Scripts;
 
 /**
  * Class for waiting until an element, given by a CSS selector, is present.
@@ -13,12 +12,7 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
  * @author Zabuza {@literal <zabuza.dev@gmail.com>}
  *
  */
-public class CSSSelectorPresenceWait extends AConditionalWait<WebElement> {
-	/**
-	 * Condition to wait for.
-	 */
-	private final ExpectedCondition<WebElement> mCondition;
-
+public class CSSSelectorPresenceWait extends APresenceWait {
 	/**
 	 * Creates a new instance of this object using a given web driver and CSS
 	 * selector.
@@ -30,17 +24,6 @@ public class CSSSelectorPresenceWait extends AConditionalWait<WebElement> {
 	 *            presence
 	 */
 	public CSSSelectorPresenceWait(final WebDriver driver, final String cssSelector) {
-		super(driver);
-		this.mCondition = ExpectedConditions.presenceOfElementLocated(By.cssSelector(cssSelector));
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see de.zabuza.sparkle.wait.AConditionalWait#getCondition()
-	 */
-	@Override
-	protected ExpectedCondition<WebElement> getCondition() {
-		return this.mCondition;
+		super(driver, By.cssSelector(cssSelector), Scripts.LOOKUP_CSS_SELECTOR, cssSelector);
 	}
 }
@@ -1,14 +1,26 @@
 package de.zabuza.sparkle.wait;
 
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 
+import de.zabuza.sparkle.locale.ErrorMessages;
 import de.zabuza.sparkle.wait.conditions.EventQueueEmptyCondition;
+import de.zabuza.sparkle.webdriver.Deadline;
+import de.zabuza.sparkle.webdriver.IDelayedEventQueue;
+import de.zabuza.sparkle.webdriver.WebDriverUtil;
 
 /**
  * Class for waiting until the event queue of a given web driver is empty. Start
- * waiting using the {@link #waitUntilCondition()} method.
+ * waiting using the {@link #waitUntilCondition()} method. If the driver delays
+ * events, the wait blocks on the completion of all events added until then
+ * instead of polling the queue. The wait ends at the active {@link Deadline}
+ * of the thread at the latest.
  * 
  * @author Zabuza {@literal <zabuza.dev@gmail.com>}
  *
@@ -23,6 +35,10 @@ public final class EventQueueEmptyWait extends AConditionalWait<Boolean> {
 	 * Condition to wait for.
 	 */
 	private final ExpectedCondition<Boolean> mCondition;
+	/**
+	 * The driver to wait for its event queue to be empty.
+	 */
+	private final WebDriver mDriver;
 
 	/**
 	 * Creates a new instance of this object using a given web driver.
@@ -32,9 +48,36 @@ public final class EventQueueEmptyWait extends AConditionalWait<Boolean> {
 	 */
 	public EventQueueEmptyWait(final WebDriver driver) {
 		super(driver, EVENT_QUEUE_EMPTY_TIMEOUT);
+		this.mDriver = driver;
 		this.mCondition = new EventQueueEmptyCondition();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.wait.AConditionalWait#awaitCondition()
+	 */
+	@Override
+	protected Boolean awaitCondition() {
+		final Optional<IDelayedEventQueue> queue = WebDriverUtil.getDelayedEventQueue(this.mDriver);
+		if (!queue.isPresent()) {
+			return super.awaitCondition();
+		}
+
+		try {
+			final long timeout = Deadline.limitTimeout(TimeUnit.SECONDS.toMillis(EVENT_QUEUE_EMPTY_TIMEOUT));
+			queue.get().getCompletionOfAddedEvents().get(timeout, TimeUnit.MILLISECONDS);
+		} catch (final ExecutionException | CancellationException e) {
+			// The events were processed, even if not successful
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new TimeoutException(ErrorMessages.EVENT_QUEUE_WAIT_INTERRUPTED, e);
+		} catch (final java.util.concurrent.TimeoutException e) {
+			throw new TimeoutException(ErrorMessages.EVENT_QUEUE_WAIT_TIMEOUT, e);
+		}
+		return Boolean.TRUE;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -0,0 +1,118 @@
+package de.zabuza.sparkle.wait;
+
+import java.util.Optional;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import de.zabuza.sparkle.locale.ErrorMessages;
+import de.zabuza.sparkle.webdriver.Scripts;
+import de.zabuza.sparkle.webdriver.WebDriverUtil;
+
+/**
+ * Class for waiting until a given frame has loaded, indicated by an element,
+ * given by a CSS selector, that is present in the frame. The wait must be
+ * started in the document that contains the frame, using the
+ * {@link #waitUntilCondition()} method. It switches to the frame before it
+ * returns. If the driver is able to execute scripts, the wait is resolved by
+ * the browser as soon as the frame loads, see {@link Scripts#FRAME_READY}. If
+ * the frame does not become ready in time, a {@link TimeoutException} is
+ * thrown right away. Only if the driver is not able to execute scripts or the
+ * script fails, the presence of the element is waited for in the frame
+ * instead.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class FrameReadyWait extends CSSSelectorPresenceWait {
+	/**
+	 * CSS selector that corresponds to the element that indicates that the
+	 * frame has loaded.
+	 */
+	private final String mCssSelector;
+	/**
+	 * The driver to wait for the frame of.
+	 */
+	private final WebDriver mDriver;
+	/**
+	 * Name of the frame to wait for.
+	 */
+	private final String mFrameName;
+
+	/**
+	 * Creates a new instance of this object using a given web driver, frame name
+	 * and CSS selector.
+	 * 
+	 * @param driver
+	 *            Driver to use for waiting, must be in the document that
+	 *            contains the frame
+	 * @param frameName
+	 *            Name of the frame to wait for
+	 * @param cssSelector
+	 *            CSS selector that corresponds to an element that, when
+	 *            present, indicates that the frame has loaded
+	 */
+	public FrameReadyWait(final WebDriver driver, final String frameName, final String cssSelector) {
+		super(driver, cssSelector);
+		this.mDriver = driver;
+		this.mFrameName = frameName;
+		this.mCssSelector = cssSelector;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.wait.AConditionalWait#awaitCondition()
+	 */
+	@Override
+	protected WebElement awaitCondition() {
+		final long start = System.nanoTime();
+		final Boolean isReady = awaitFrameReady();
+		if (Boolean.FALSE.equals(isReady)) {
+			throw new TimeoutException(ErrorMessages.FRAME_READY_WAIT_TIMEOUT + this.mFrameName);
+		}
+		this.mDriver.switchTo().frame(this.mFrameName);
+		if (Boolean.TRUE.equals(isReady)) {
+			final WebElement element = this.mDriver.findElement(By.cssSelector(this.mCssSelector));
+			recordDuration(System.nanoTime() - start);
+			return element;
+		}
+
+		// Fall back to waiting for the presence of the element
+		return super.awaitCondition();
+	}
+
+	/**
+	 * Waits until the frame is ready by using an injected script.
+	 * 
+	 * @return <tt>True</tt> if the frame is ready, <tt>false</tt> if it does not
+	 *         exist or did not become ready in time and <tt>null</tt> if the
+	 *         driver is not able to execute the script or the script failed
+	 */
+	private Boolean awaitFrameReady() {
+		final Optional<JavascriptExecutor> executor = WebDriverUtil.getJavascriptExecutor(this.mDriver);
+		if (!executor.isPresent()) {
+			return null;
+		}
+
+		try {
+			final Object isReady = executor.get().executeAsyncScript(Scripts.FRAME_READY, this.mFrameName,
+					this.mCssSelector, Long.valueOf(getTimeout()));
+			if (isReady instanceof Boolean) {
+				return (Boolean) isReady;
+			}
+			return null;
+		} catch (final ScriptTimeoutException e) {
+			// The browser did not answer in time either
+			return Boolean.FALSE;
+		} catch (final WebDriverException | UnsupportedOperationException e) {
+			// Unsupported scripts are handled by waiting for the element instead
+			return null;
+		}
+	}
+}
@@ -2,9 +2,8 @@ package de.zabuza.sparkle.wait;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedCondition;
-import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import de.zabuza.sparkle.webdriver.Scripts;
 
 /**
  * Class for waiting until an element, given its name, is present. Start waiting
@@ -13,12 +12,7 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
  * @author Zabuza {@literal <zabuza.dev@gmail.com>}
  *
  */
-public class NamePresenceWait extends AConditionalWait<WebElement> {
-	/**
-	 * Condition to wait for.
-	 */
-	private final ExpectedCondition<WebElement> mCondition;
-
+public class NamePresenceWait extends APresenceWait {
 	/**
 	 * Creates a new instance of this object using a given web driver and name.
 	 * 
@@ -28,17 +22,6 @@ public class NamePresenceWait extends AConditionalWait<WebElement> {
 	 *            Name of the element to wait for its presence
 	 */
 	public NamePresenceWait(final WebDriver driver, final String name) {
-		super(driver);
-		this.mCondition = ExpectedConditions.presenceOfElementLocated(By.name(name));
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see de.zabuza.sparkle.wait.AConditionalWait#getCondition()
-	 */
-	@Override
-	protected ExpectedCondition<WebElement> getCondition() {
-		return this.mCondition;
+		super(driver, By.name(name), Scripts.LOOKUP_NAME, name);
 	}
 }
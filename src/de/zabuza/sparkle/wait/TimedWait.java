@@ -1,36 +1,61 @@
 package de.zabuza.sparkle.wait;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 
+import de.zabuza.sparkle.locale.ErrorMessages;
 import de.zabuza.sparkle.wait.conditions.TimedCondition;
+import de.zabuza.sparkle.webdriver.SharedEventScheduler;
 
 /**
  * Class for waiting until a given period of time has passed. Start waiting
- * using the {@link #waitUntilCondition()} method.
+ * using the {@link #waitUntilCondition()} method, or {@link #schedule()} to not
+ * block. The pause is scheduled on a scheduler, by default the one shared with
+ * delayed events, see {@link SharedEventScheduler}. It neither uses the driver
+ * nor occupies a thread of the scheduler while waiting. If the scheduler does
+ * not end the pause, for example because it was shut down, the wait pauses on
+ * the current thread instead.
  * 
  * @author Zabuza {@literal <zabuza.dev@gmail.com>}
  *
  */
 public class TimedWait extends AConditionalWait<Boolean> {
 	/**
-	 * Factor to convert seconds to milliseconds, if multiplied with.
+	 * Task that ends the pause once it is executed by the scheduler.
 	 */
-	private static final int SECONDS_TO_MILLIS = 1000;
+	private static final Callable<Boolean> END_OF_PAUSE = new Callable<Boolean>() {
+		@Override
+		public Boolean call() {
+			return Boolean.TRUE;
+		}
+	};
 	/**
-	 * Offset to the given time period, for which the condition should wait to pass,
-	 * when a {@TimeoutException} should be thrown.
+	 * Time in milliseconds the scheduler may be late with ending the pause
+	 * before the wait stops waiting for it.
 	 */
-	private static final int TIMEOUT_OFFSET = 2;
+	private static final long SCHEDULING_TOLERANCE = 100;
 
 	/**
 	 * Condition to wait for.
 	 */
-	private final ExpectedCondition<Boolean> mCondition;
+	private final TimedCondition mCondition;
+	/**
+	 * The scheduler to schedule the end of the pause on.
+	 */
+	private final ScheduledExecutorService mScheduler;
 
 	/**
 	 * Creates a new instance of this object with a given web driver and time to
-	 * wait for.
+	 * wait for. The pause is scheduled on the shared default scheduler.
 	 * 
 	 * @param driver
 	 *            Driver to use for waiting
@@ -38,8 +63,59 @@ public class TimedWait extends AConditionalWait<Boolean> {
 	 *            Time period in milliseconds to wait for it to pass
 	 */
 	public TimedWait(final WebDriver driver, final long timeToWait) {
-		super(driver, (timeToWait / SECONDS_TO_MILLIS) + TIMEOUT_OFFSET);
+		this(driver, timeToWait, SharedEventScheduler.getDefaultScheduler());
+	}
+
+	/**
+	 * Creates a new instance of this object with a given web driver, time to wait
+	 * for and scheduler.
+	 * 
+	 * @param driver
+	 *            Driver to use for waiting
+	 * @param timeToWait
+	 *            Time period in milliseconds to wait for it to pass
+	 * @param scheduler
+	 *            The scheduler to schedule the end of the pause on, for example
+	 *            the one used for delayed events
+	 */
+	public TimedWait(final WebDriver driver, final long timeToWait, final ScheduledExecutorService scheduler) {
+		super(driver);
 		this.mCondition = new TimedCondition(timeToWait);
+		this.mScheduler = scheduler;
+	}
+
+	/**
+	 * Starts the pause without blocking.
+	 * 
+	 * @return A future that completes with <tt>true</tt> once the time period has
+	 *         passed
+	 * @throws RejectedExecutionException
+	 *             If the scheduler was shut down
+	 */
+	public Future<Boolean> schedule() throws RejectedExecutionException {
+		return this.mScheduler.schedule(END_OF_PAUSE, this.mCondition.getRemainingTime(), TimeUnit.MILLISECONDS);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.wait.AConditionalWait#awaitCondition()
+	 */
+	@Override
+	protected Boolean awaitCondition() {
+		try {
+			final Future<Boolean> pause = schedule();
+			return pause.get(this.mCondition.getRemainingTime() + SCHEDULING_TOLERANCE, TimeUnit.MILLISECONDS);
+		} catch (final RejectedExecutionException | ExecutionException | CancellationException e) {
+			// The scheduler was shut down and does not end the pause
+			return pauseOnCurrentThread();
+		} catch (final java.util.concurrent.TimeoutException e) {
+			// The scheduler did not end the pause, but the time period has passed
+			return Boolean.TRUE;
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new TimeoutException(ErrorMessages.TIMED_WAIT_INTERRUPTED, e);
+		}
 	}
 
 	/*
@@ -51,4 +127,21 @@ public class TimedWait extends AConditionalWait<Boolean> {
 	protected ExpectedCondition<Boolean> getCondition() {
 		return this.mCondition;
 	}
+
+	/**
+	 * Pauses the current thread until the time period has passed.
+	 * 
+	 * @return <tt>True</tt>, as the time period has passed
+	 * @throws TimeoutException
+	 *             If the current thread was interrupted while pausing
+	 */
+	private Boolean pauseOnCurrentThread() throws TimeoutException {
+		try {
+			Thread.sleep(this.mCondition.getRemainingTime());
+			return Boolean.TRUE;
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new TimeoutException(ErrorMessages.TIMED_WAIT_INTERRUPTED, e);
+		}
+	}
 }
@@ -0,0 +1,100 @@
+package de.zabuza.sparkle.wait;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The durations of the most recent waits of one kind. Waits that timed out are
+ * kept with at least the timeout they used. Only a bounded amount of durations
+ * is kept, older durations are replaced by newer ones. The object is
+ * thread-safe.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class WaitDurations {
+	/**
+	 * The amount of recorded durations, including those that were replaced.
+	 */
+	private long mAmountOfRecords;
+	/**
+	 * The kept durations in nanoseconds, used as ring buffer.
+	 */
+	private final long[] mDurations;
+
+	/**
+	 * Creates new empty durations that keep the given amount of most recent
+	 * durations.
+	 * 
+	 * @param capacity
+	 *            The amount of most recent durations to keep, must be positive
+	 */
+	public WaitDurations(final int capacity) {
+		this.mDurations = new long[capacity];
+		this.mAmountOfRecords = 0;
+	}
+
+	/**
+	 * Gets the amount of durations currently kept.
+	 * 
+	 * @return The amount of durations currently kept
+	 */
+	public synchronized int getAmount() {
+		return (int) Math.min(this.mAmountOfRecords, this.mDurations.length);
+	}
+
+	/**
+	 * Gets the given percentile of the kept durations, using the nearest-rank
+	 * method.
+	 * 
+	 * @param percentile
+	 *            The percentile to get, between <tt>0</tt> exclusive and
+	 *            <tt>100</tt> inclusive
+	 * @return The percentile in milliseconds or <tt>0</tt> if no durations are
+	 *         kept
+	 */
+	public synchronized long getPercentile(final double percentile) {
+		final int amount = getAmount();
+		if (amount == 0) {
+			return 0;
+		}
+
+		final long[] sortedDurations = Arrays.copyOf(this.mDurations, amount);
+		Arrays.sort(sortedDurations);
+		final int rank = (int) Math.ceil(percentile / 100 * amount);
+		final int index = Math.min(Math.max(rank - 1, 0), amount - 1);
+		return TimeUnit.NANOSECONDS.toMillis(sortedDurations[index]);
+	}
+
+	/**
+	 * Records the duration of a wait. If the capacity is reached, the oldest
+	 * duration is replaced.
+	 * 
+	 * @param duration
+	 *            The duration of the wait in nanoseconds
+	 */
+	public synchronized void record(final long duration) {
+		this.mDurations[(int) (this.mAmountOfRecords % this.mDurations.length)] = duration;
+		this.mAmountOfRecords++;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public synchronized String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("[amount=");
+		builder.append(getAmount());
+		builder.append(", p50=");
+		builder.append(getPercentile(50));
+		builder.append(", p90=");
+		builder.append(getPercentile(90));
+		builder.append(", p99.9=");
+		builder.append(getPercentile(99.9));
+		builder.append("]");
+		return builder.toString();
+	}
+}
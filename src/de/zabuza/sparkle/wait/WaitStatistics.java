@@ -0,0 +1,87 @@
+package de.zabuza.sparkle.wait;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Statistics about the durations of waits of one web driver. Each
+ * kind of wait, for example the wait for a given element, is identified by a
+ * key and has its own {@link WaitDurations}. As a driver is logged into one
+ * world at a time and the keys identify the frames and elements waited for,
+ * the statistics reflect how fast a given world answers for a given frame.
+ * The statistics are thread-safe.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class WaitStatistics {
+	/**
+	 * The amount of most recent durations kept for each kind of wait.
+	 */
+	private static final int CAPACITY = 256;
+
+	/**
+	 * The durations of each kind of wait, accessed by their keys.
+	 */
+	private final Map<String, WaitDurations> mKeyToDurations;
+
+	/**
+	 * Creates new empty statistics.
+	 */
+	public WaitStatistics() {
+		this.mKeyToDurations = new TreeMap<>();
+	}
+
+	/**
+	 * Gets the durations of the kind of wait with the given key.
+	 * 
+	 * @param key
+	 *            The key of the kind of wait
+	 * @return The durations of the kind of wait, if any were recorded
+	 */
+	public synchronized Optional<WaitDurations> getDurations(final String key) {
+		return Optional.ofNullable(this.mKeyToDurations.get(key));
+	}
+
+	/**
+	 * Records the duration of a wait of the kind with the given key. Waits that
+	 * timed out are recorded with at least the timeout they used.
+	 * 
+	 * @param key
+	 *            The key of the kind of wait
+	 * @param duration
+	 *            The duration of the wait in nanoseconds
+	 */
+	public void record(final String key, final long duration) {
+		WaitDurations durations;
+		synchronized (this) {
+			durations = this.mKeyToDurations.get(key);
+			if (durations == null) {
+				durations = new WaitDurations(CAPACITY);
+				this.mKeyToDurations.put(key, durations);
+			}
+		}
+		durations.record(duration);
+	}
+
+	/**
+	 * Resets the statistics by removing all recorded durations.
+	 */
+	public synchronized void reset() {
+		this.mKeyToDurations.clear();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public synchronized String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("WaitStatistics ");
+		builder.append(this.mKeyToDurations);
+		return builder.toString();
+	}
+}
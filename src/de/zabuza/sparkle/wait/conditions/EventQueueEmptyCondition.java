@@ -1,10 +1,12 @@
 package de.zabuza.sparkle.wait.conditions;
 
+import java.util.Optional;
+
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 
-import de.zabuza.sparkle.webdriver.DelayedWebDriver;
-import de.zabuza.sparkle.webdriver.IWrapsWebDriver;
+import de.zabuza.sparkle.webdriver.IDelayedEventQueue;
+import de.zabuza.sparkle.webdriver.WebDriverUtil;
 
 /**
  * Condition that outputs whether the event queue of a given web driver is empty
@@ -22,15 +24,9 @@ public final class EventQueueEmptyCondition implements ExpectedCondition<Boolean
 	 */
 	@Override
 	public Boolean apply(final WebDriver driver) {
-		WebDriver rawDriver = driver;
-		// Search the delayed web driver
-		while (!(rawDriver instanceof DelayedWebDriver) && rawDriver instanceof IWrapsWebDriver) {
-			rawDriver = ((IWrapsWebDriver) rawDriver).getRawDriver();
-		}
-
-		if (rawDriver instanceof DelayedWebDriver) {
-			final DelayedWebDriver driverAsDelayed = (DelayedWebDriver) rawDriver;
-			return Boolean.valueOf(driverAsDelayed.isEventQueueEmpty());
+		final Optional<IDelayedEventQueue> queue = WebDriverUtil.getDelayedEventQueue(driver);
+		if (queue.isPresent()) {
+			return Boolean.valueOf(queue.get().isEmpty());
 		}
 		return Boolean.TRUE;
 	}
@@ -1,11 +1,15 @@
 package de.zabuza.sparkle.wait.conditions;
 
+import java.util.concurrent.TimeUnit;
+
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 
 /**
  * Condition that outputs whether a given time period has passed. The timer
- * automatically starts by the first time {@link #apply(WebDriver)} is called.
+ * automatically starts by the first time {@link #apply(WebDriver)} or
+ * {@link #getRemainingTime()} is called. The condition does not use the driver,
+ * instead of polling it the remaining time can be used to schedule a task.
  * 
  * @author Zabuza {@literal <zabuza.dev@gmail.com>}
  *
@@ -16,7 +20,8 @@ public class TimedCondition implements ExpectedCondition<Boolean> {
 	 */
 	private boolean mConditionActivated;
 	/**
-	 * A system time stamp from that point where the timer has started.
+	 * A time stamp, as given by {@link System#nanoTime()}, from that point where
+	 * the timer has started.
 	 */
 	private long mTimeStampStarted;
 	/**
@@ -26,7 +31,8 @@ public class TimedCondition implements ExpectedCondition<Boolean> {
 
 	/**
 	 * Creates a new instance of this object with a given time to wait. The timer
-	 * automatically starts by the first time {@link #apply(WebDriver)} is called.
+	 * automatically starts by the first time {@link #apply(WebDriver)} or
+	 * {@link #getRemainingTime()} is called.
 	 * 
 	 * @param timeToWait
 	 *            Time period to wait for to pass, in milliseconds
@@ -44,11 +50,23 @@ public class TimedCondition implements ExpectedCondition<Boolean> {
 	 */
 	@Override
 	public Boolean apply(final WebDriver driver) {
+		return Boolean.valueOf(getRemainingTime() <= 0);
+	}
+
+	/**
+	 * Gets the time remaining until the time period has passed. Starts the timer
+	 * if it has not started yet.
+	 * 
+	 * @return The remaining time in milliseconds, <tt>0</tt> if the period has
+	 *         passed
+	 */
+	public synchronized long getRemainingTime() {
 		if (!this.mConditionActivated) {
-			this.mTimeStampStarted = System.currentTimeMillis();
+			this.mTimeStampStarted = System.nanoTime();
 			this.mConditionActivated = true;
 		}
-		return Boolean.valueOf(System.currentTimeMillis() - this.mTimeStampStarted > this.mTimeToWait);
+		final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.mTimeStampStarted);
+		return Math.max(0, this.mTimeToWait - elapsed);
 	}
 
 }
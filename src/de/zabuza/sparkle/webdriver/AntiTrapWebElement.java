@@ -1,233 +0,0 @@
-package de.zabuza.sparkle.webdriver;
-
-import java.util.LinkedList;
-import java.util.List;
-
-import org.openqa.selenium.By;
-import org.openqa.selenium.Dimension;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.Point;
-import org.openqa.selenium.Rectangle;
-import org.openqa.selenium.WebDriverException;
-import org.openqa.selenium.WebElement;
-
-/**
- * Wrapper for web element objects to execute events only if they do not lead
- * into bot traps.
- * 
- * @author Zabuza {@literal <zabuza.dev@gmail.com>}
- *
- */
-public final class AntiTrapWebElement implements WebElement {
-
-	/**
-	 * Web element to wrap for anti trap event execution.
-	 */
-	private final WebElement mElement;
-
-	/**
-	 * Creates a new instance of this object with a given web element object.
-	 * 
-	 * @param element
-	 *            Web element object to wrap for anti trap event execution
-	 */
-	public AntiTrapWebElement(final WebElement element) {
-		this.mElement = element;
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see org.openqa.selenium.WebElement#clear()
-	 */
-	@Override
-	public void clear() {
-		ensureIsNoBotTrap();
-		this.mElement.clear();
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see org.openqa.selenium.WebElement#click()
-	 */
-	@Override
-	public void click() {
-		ensureIsNoBotTrap();
-		this.mElement.click();
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see org.openqa.selenium.WebElement#findElement(org.openqa.selenium.By)
-	 */
-	@Override
-	public WebElement findElement(final By by) {
-		ensureIsNoBotTrap();
-		return new AntiTrapWebElement(this.mElement.findElement(by));
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see org.openqa.selenium.WebElement#findElements(org.openqa.selenium.By)
-	 */
-	@Override
-	public List<WebElement> findElements(final By by) {
-		ensureIsNoBotTrap();
-		final List<WebElement> elements = this.mElement.findElements(by);
-		final List<WebElement> antiTrapElements = new LinkedList<>();
-		for (final WebElement element : elements) {
-			antiTrapElements.add(new AntiTrapWebElement(element));
-		}
-
-		return antiTrapElements;
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see org.openqa.selenium.WebElement#getAttribute(java.lang.String)
-	 */
-	@Override
-	public String getAttribute(final String name) {
-		return this.mElement.getAttribute(name);
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see org.openqa.selenium.WebElement#getCssValue(java.lang.String)
-	 */
-	@Override
-	public String getCssValue(final String propertyName) {
-		return this.mElement.getCssValue(propertyName);
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see org.openqa.selenium.WebElement#getLocation()
-	 */
-	@Override
-	public Point getLocation() {
-		return this.mElement.getLocation();
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see org.openqa.selenium.WebElement#getRect()
-	 */
-	@Override
-	public Rectangle getRect() {
-		return this.mElement.getRect();
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see org.openqa.selenium.TakesScreenshot#getScreenshotAs(org.openqa.selenium.
-	 * OutputType)
-	 */
-	@Override
-	public <X> X getScreenshotAs(final OutputType<X> target) throws WebDriverException {
-		return this.mElement.getScreenshotAs(target);
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see org.openqa.selenium.WebElement#getSize()
-	 */
-	@Override
-	public Dimension getSize() {
-		return this.mElement.getSize();
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see org.openqa.selenium.WebElement#getTagName()
-	 */
-	@Override
-	public String getTagName() {
-		return this.mElement.getTagName();
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see org.openqa.selenium.WebElement#getText()
-	 */
-	@Override
-	public String getText() {
-		return this.mElement.getText();
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see org.openqa.selenium.WebElement#isDisplayed()
-	 */
-	@Override
-	public boolean isDisplayed() {
-		return this.mElement.isDisplayed();
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see org.openqa.selenium.WebElement#isEnabled()
-	 */
-	@Override
-	public boolean isEnabled() {
-		return this.mElement.isEnabled();
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see org.openqa.selenium.WebElement#isSelected()
-	 */
-	@Override
-	public boolean isSelected() {
-		return this.mElement.isSelected();
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see org.openqa.selenium.WebElement#sendKeys(java.lang.CharSequence[])
-	 */
-	@Override
-	public void sendKeys(final CharSequence... keysToSend) {
-		ensureIsNoBotTrap();
-		this.mElement.sendKeys(keysToSend);
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see org.openqa.selenium.WebElement#submit()
-	 */
-	@Override
-	public void submit() {
-		ensureIsNoBotTrap();
-		this.mElement.submit();
-	}
-
-	/**
-	 * Examines the element and ensures that it is no bot trap.
-	 * 
-	 * @throws TrapElementException
-	 *             Thrown when the element seems to be a bot trap
-	 */
-	private void ensureIsNoBotTrap() throws TrapElementException {
-		if (!this.mElement.isDisplayed() || !this.mElement.isEnabled()) {
-			throw new TrapElementException();
-		}
-	}
-
-}
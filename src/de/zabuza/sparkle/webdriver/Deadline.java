@@ -0,0 +1,202 @@
+package de.zabuza.sparkle.webdriver;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import de.zabuza.sparkle.locale.ErrorMessages;
+
+/**
+ * Point in time until which an operation has to be finished. A deadline can be
+ * activated for the current thread, using {@link #activate()}, which limits the
+ * timeouts of all waits performed by the thread to the remaining time, see
+ * {@link #limitTimeout(long)}. Compound operations thereby share one budget
+ * instead of adding up the timeouts of their waits. Activations nest, the
+ * earliest active deadline wins. Events queued by the thread on an
+ * {@link IDelayedEventQueue} execute under the same deadline. The activation must be closed afterwards:
+ * 
+ * <pre>
+ * final Deadline activeDeadline = new Deadline(10, TimeUnit.SECONDS).activate();
+ * try {
+ * 	instance.getSkillManager().abortTrainingOfSkill();
+ * } finally {
+ * 	activeDeadline.close();
+ * }
+ * </pre>
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class Deadline implements AutoCloseable {
+	/**
+	 * The deadline that is currently active for each thread.
+	 */
+	private static final ThreadLocal<Deadline> ACTIVE_DEADLINE = new ThreadLocal<>();
+
+	/**
+	 * Gets the deadline that is currently active for the current thread.
+	 * 
+	 * @return The active deadline of the current thread, if present
+	 */
+	public static Optional<Deadline> getActiveDeadline() {
+		return Optional.ofNullable(ACTIVE_DEADLINE.get());
+	}
+
+	/**
+	 * Limits the given timeout to the time remaining until the active deadline
+	 * of the current thread, if present.
+	 * 
+	 * @param timeout
+	 *            The timeout to limit in milliseconds
+	 * @return The limited timeout in milliseconds, not negative
+	 */
+	public static long limitTimeout(final long timeout) {
+		final Deadline deadline = ACTIVE_DEADLINE.get();
+		if (deadline == null) {
+			return timeout;
+		}
+		return Math.min(timeout, deadline.getRemainingTime());
+	}
+
+	/**
+	 * Ensures that the active deadline of the current thread, if present, has
+	 * not passed yet.
+	 * 
+	 * @throws TimeoutException
+	 *             Thrown when the active deadline has passed
+	 */
+	public static void requireNotPassed() throws TimeoutException {
+		final Deadline deadline = ACTIVE_DEADLINE.get();
+		if (deadline != null && deadline.hasPassed()) {
+			throw new TimeoutException(ErrorMessages.DEADLINE_PASSED);
+		}
+	}
+
+	/**
+	 * Ensures that the active deadline of the current thread, if present, has
+	 * not passed yet. If it has passed, the events the current thread queued on
+	 * the given driver are cancelled, since the operation they belong to is
+	 * abandoned, see {@link IDelayedEventQueue#cancelEvents(Object)}.
+	 * 
+	 * @param driver
+	 *            The driver the current thread operates on
+	 * @throws TimeoutException
+	 *             Thrown when the active deadline has passed
+	 */
+	public static void requireNotPassed(final WebDriver driver) throws TimeoutException {
+		try {
+			requireNotPassed();
+		} catch (final TimeoutException e) {
+			final Optional<IDelayedEventQueue> queue = WebDriverUtil.getDelayedEventQueue(driver);
+			if (queue.isPresent()) {
+				queue.get().cancelEvents(Thread.currentThread());
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * The time stamp, as given by {@link System#nanoTime()}, of the deadline.
+	 */
+	private final long mExpiration;
+	/**
+	 * Whether this object is an activation which needs to be closed.
+	 */
+	private boolean mIsActivation;
+	/**
+	 * The deadline that was active before this activation, <tt>null</tt> if
+	 * there was none or this object is no activation.
+	 */
+	private final Deadline mPrevious;
+
+	/**
+	 * Creates a new deadline which expires after the given timeout, starting
+	 * now. The deadline is not active until {@link #activate()} is used.
+	 * 
+	 * @param timeout
+	 *            The time until the deadline expires
+	 * @param unit
+	 *            The unit of the timeout
+	 */
+	public Deadline(final long timeout, final TimeUnit unit) {
+		this(System.nanoTime() + unit.toNanos(timeout), null, false);
+	}
+
+	/**
+	 * Creates a new deadline which expires at the given time stamp.
+	 * 
+	 * @param expiration
+	 *            The time stamp, as given by {@link System#nanoTime()}, of the
+	 *            deadline
+	 * @param previous
+	 *            The deadline that was active before this activation,
+	 *            <tt>null</tt> if there was none or this object is no activation
+	 * @param isActivation
+	 *            Whether this object is an activation which needs to be closed
+	 */
+	private Deadline(final long expiration, final Deadline previous, final boolean isActivation) {
+		this.mExpiration = expiration;
+		this.mPrevious = previous;
+		this.mIsActivation = isActivation;
+	}
+
+	/**
+	 * Activates this deadline for the current thread until the returned
+	 * activation is closed. If an earlier deadline is already active, the
+	 * earlier deadline stays in effect.
+	 * 
+	 * @return The activation, which must be closed by the current thread once
+	 *         the operation has finished
+	 */
+	public Deadline activate() {
+		final Deadline previous = ACTIVE_DEADLINE.get();
+		long expiration = this.mExpiration;
+		if (previous != null && previous.mExpiration - expiration < 0) {
+			expiration = previous.mExpiration;
+		}
+
+		final Deadline activation = new Deadline(expiration, previous, true);
+		ACTIVE_DEADLINE.set(activation);
+		return activation;
+	}
+
+	/**
+	 * Deactivates this activation and restores the deadline that was active
+	 * before. Does nothing if this object is no activation or was already
+	 * closed.
+	 */
+	@Override
+	public void close() {
+		if (!this.mIsActivation) {
+			return;
+		}
+		this.mIsActivation = false;
+
+		if (this.mPrevious != null) {
+			ACTIVE_DEADLINE.set(this.mPrevious);
+		} else {
+			ACTIVE_DEADLINE.remove();
+		}
+	}
+
+	/**
+	 * Gets the time remaining until this deadline expires.
+	 * 
+	 * @return The remaining time in milliseconds, <tt>0</tt> if the deadline has
+	 *         passed
+	 */
+	public long getRemainingTime() {
+		return Math.max(0, TimeUnit.NANOSECONDS.toMillis(this.mExpiration - System.nanoTime()));
+	}
+
+	/**
+	 * Whether this deadline has passed.
+	 * 
+	 * @return <tt>True</tt> if the deadline has passed, <tt>false</tt> if not
+	 */
+	public boolean hasPassed() {
+		return this.mExpiration - System.nanoTime() <= 0;
+	}
+}
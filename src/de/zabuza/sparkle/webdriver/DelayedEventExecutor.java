@@ -1,82 +1,223 @@
 package de.zabuza.sparkle.webdriver;
 
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.LinkedList;
-import java.util.Queue;
-import java.util.Random;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import org.openqa.selenium.NoSuchElementException;
-import org.openqa.selenium.StaleElementReferenceException;
-import org.openqa.selenium.TimeoutException;
-
-import de.zabuza.sparkle.locale.ErrorMessages;
+import de.zabuza.sparkle.jfr.FlightEvents;
+import de.zabuza.sparkle.jfr.IDelayedEventExecutionEvent;
+import de.zabuza.sparkle.webdriver.delay.DelayStatistics;
+import de.zabuza.sparkle.webdriver.delay.GaussianDelayPolicy;
+import de.zabuza.sparkle.webdriver.delay.IDelayPolicy;
+import de.zabuza.sparkle.webdriver.event.EEventPriority;
+import de.zabuza.sparkle.webdriver.event.ICoalescingRule;
 import de.zabuza.sparkle.webdriver.event.IDelayableEvent;
+import de.zabuza.sparkle.webdriver.event.NavigationCoalescingRule;
 
 /**
- * Thread that delayedly executes previous added events. The delay between
- * events is randomly generated by a normal distribution function. The executor
- * can be started using {@link #start()} and stopped using
- * {@link #stopExecution()}. Once stopped, it should not be used again.<br>
- * <br>
- * The standard delay between each event is {@link #STANDARD_DELAY}, upon that a
- * delay between {@link #RND_DELAY_MIN} and {@link #RND_DELAY_MAX} is added.
- * <br>
- * Whereas the standard deviation is {@link #RND_DELAY_AVERAGE}, thus about 75%
- * of all delays are between {@link #RND_DELAY_MIN} and
- * {@link #RND_DELAY_AVERAGE}.
+ * Executor that delayedly executes previous added events. The delays between
+ * events are determined by an {@link IDelayPolicy}, by default a
+ * {@link GaussianDelayPolicy} which generates human-like delays by a normal
+ * distribution function. The executor does not own a thread. It times its
+ * events on a given scheduler and hands them over to a given executor once
+ * their delay passed, both can be shared with other executors. As events block
+ * on the browser, the scheduler is never blocked by them. Events of the same
+ * executor are always executed one after another. Each event is put into
+ * the lane of its {@link EEventPriority}, events of more urgent lanes are
+ * executed first while events of the same lane are executed in the order they
+ * were added. Added events that are made obsolete by the directly pending event
+ * get coalesced with it, by default using a {@link NavigationCoalescingRule}.
+ * The planned and actual delays of executed events are recorded in
+ * {@link DelayStatistics}. Events can be added together with the method of the
+ * API that caused them, which is available while they are executed, see
+ * {@link #getCallerOfExecutingEvent()}. The executor can be stopped using
+ * {@link #stopExecution()}. Once stopped, it should not be used again.
  * 
  * @author Zabuza {@literal <zabuza.dev@gmail.com>}
  *
  */
-public final class DelayedEventExecutor extends Thread implements IDelayedEventQueue {
+public final class DelayedEventExecutor implements IDelayedEventQueue, Runnable {
+	/**
+	 * The event the current thread is executing, if any.
+	 */
+	private static final ThreadLocal<QueuedEvent> EXECUTING_EVENT = new ThreadLocal<>();
 
 	/**
-	 * The standard deviation of the normal distribution function. Thus about 75% of
-	 * all delays are between {@link #RND_DELAY_MIN} and this value.
+	 * Gets the method of the API that added the event which the current thread
+	 * is executing.
+	 * 
+	 * @return The method of the API that added the executing event, if the
+	 *         current thread executes an event and its caller is known
 	 */
-	private final static long RND_DELAY_AVERAGE = 1_500;
+	public static Optional<String> getCallerOfExecutingEvent() {
+		final QueuedEvent queuedEvent = EXECUTING_EVENT.get();
+		if (queuedEvent == null) {
+			return Optional.empty();
+		}
+		return queuedEvent.getCaller();
+	}
+
 	/**
-	 * The maximal delay of the normal distribution function.
+	 * The rules used for coalescing added events with pending events. Access is
+	 * synchronized on this object.
 	 */
-	private final static long RND_DELAY_MAX = 5_000;
+	private final List<ICoalescingRule> mCoalescingRules;
 	/**
-	 * The minimal delay of the normal distribution function.
+	 * The policy that determines the delays between events.
 	 */
-	private final static long RND_DELAY_MIN = 0;
+	private volatile IDelayPolicy mDelayPolicy;
 	/**
-	 * The standard delay which is added between all events.
+	 * Statistics about the planned and actual delays of executed events.
 	 */
-	private final static long STANDARD_DELAY = 100;
-
+	private final DelayStatistics mDelayStatistics;
 	/**
-	 * If all held events are executed.
+	 * The executor that executes the events.
 	 */
-	private boolean mAllEventsExecuted;
+	private final Executor mEventExecutor;
 	/**
-	 * The event queue used for executing events.
+	 * The event queues used for executing events, one lane for each priority.
+	 * Access is synchronized on this object.
 	 */
-	private final Queue<IDelayableEvent> mEventQueue;
+	private final Map<EEventPriority, Deque<QueuedEvent>> mEventLanes;
 	/**
-	 * The random generator used for generating delays.
+	 * The thread that is currently executing an event or <tt>null</tt> if there
+	 * is no such thread.
 	 */
-	private final Random mRnd;
+	private volatile Thread mExecutingThread;
 	/**
-	 * If the thread should stop execution. Once stopped, it should not be used
+	 * Whether a run of this executor is currently scheduled or running. Access is
+	 * synchronized on this object.
+	 */
+	private boolean mIsScheduled;
+	/**
+	 * The time stamp, as given by {@link System#nanoTime()}, of when the last
+	 * event finished execution. Access is synchronized on this object.
+	 */
+	private long mLastExecutionTime;
+	/**
+	 * The amount of events that were added but not processed yet.
+	 */
+	private final AtomicInteger mPendingEvents;
+	/**
+	 * The time stamp, as given by {@link System#nanoTime()}, at which the
+	 * scheduled run of this executor was planned. Access is synchronized on this
+	 * object.
+	 */
+	private long mPlannedExecutionTime;
+	/**
+	 * The event that is currently executing or <tt>null</tt> if there is no such
+	 * event. Access is synchronized on this object.
+	 */
+	private QueuedEvent mRunningEvent;
+	/**
+	 * The scheduler that times the events.
+	 */
+	private final ScheduledExecutorService mScheduler;
+	/**
+	 * The currently scheduled run of this executor or <tt>null</tt> if there is
+	 * no such run. Access is synchronized on this object.
+	 */
+	private ScheduledFuture<?> mScheduledRun;
+	/**
+	 * If the executor should stop execution. Once stopped, it should not be used
 	 * again.
 	 */
-	private boolean mStopExecution;
+	private volatile boolean mStopExecution;
 
 	/**
-	 * Creates a new delayed event executor. It can be started using
-	 * {@link #start()} and stopped using {@link #stopExecution()}. Once stopped, it
-	 * should not be used again. Events can be added using
-	 * {@link #addEvent(IDelayableEvent)}, the executor will delayedly execute added
-	 * events.
+	 * Creates a new delayed event executor that times its events on the shared
+	 * scheduler given by {@link SharedEventScheduler#getDefaultScheduler()} and
+	 * executes them on the shared executor given by
+	 * {@link SharedEventScheduler#getDefaultEventExecutor()}. It can
+	 * be stopped using {@link #stopExecution()}. Once stopped, it should not be
+	 * used again. Events can be added using {@link #addEvent(IDelayableEvent)}, the
+	 * executor will delayedly execute added events.
 	 */
 	public DelayedEventExecutor() {
-		this.mRnd = new Random();
-		this.mEventQueue = new LinkedList<>();
+		this(SharedEventScheduler.getDefaultScheduler(), new GaussianDelayPolicy());
+	}
+
+	/**
+	 * Creates a new delayed event executor that times its events on the given
+	 * scheduler, delayed by the given policy, and executes them on the shared
+	 * executor given by {@link SharedEventScheduler#getDefaultEventExecutor()}.
+	 * It can be stopped using {@link #stopExecution()}. Once stopped, it should
+	 * not be used again. Events can be added using
+	 * {@link #addEvent(IDelayableEvent)}, the executor will delayedly execute
+	 * added events.
+	 * 
+	 * @param scheduler
+	 *            The scheduler to time the events on, it may be shared with other
+	 *            executors
+	 * @param policy
+	 *            The policy that determines the delays between events
+	 */
+	public DelayedEventExecutor(final ScheduledExecutorService scheduler, final IDelayPolicy policy) {
+		this(scheduler, SharedEventScheduler.getDefaultEventExecutor(), policy);
+	}
+
+	/**
+	 * Creates a new delayed event executor that times its events on the given
+	 * scheduler, delayed by the given policy, and executes them on the given
+	 * executor. It can be stopped using {@link #stopExecution()}. Once stopped,
+	 * it should not be used again. Events can be added using
+	 * {@link #addEvent(IDelayableEvent)}, the executor will delayedly execute
+	 * added events.
+	 * 
+	 * @param scheduler
+	 *            The scheduler to time the events on, it may be shared with other
+	 *            executors
+	 * @param eventExecutor
+	 *            The executor to execute the events on, it may be shared with
+	 *            other executors. It should not limit its amount of threads, as
+	 *            events block on the browser.
+	 * @param policy
+	 *            The policy that determines the delays between events
+	 */
+	public DelayedEventExecutor(final ScheduledExecutorService scheduler, final Executor eventExecutor,
+			final IDelayPolicy policy) {
+		this.mScheduler = scheduler;
+		this.mEventExecutor = eventExecutor;
+		this.mDelayPolicy = policy;
+		this.mDelayStatistics = new DelayStatistics();
+		this.mEventLanes = new EnumMap<>(EEventPriority.class);
+		for (final EEventPriority priority : EEventPriority.values()) {
+			this.mEventLanes.put(priority, new LinkedList<>());
+		}
+		this.mCoalescingRules = new ArrayList<>();
+		this.mCoalescingRules.add(new NavigationCoalescingRule());
+		this.mPendingEvents = new AtomicInteger(0);
+		this.mRunningEvent = null;
+		this.mExecutingThread = null;
+		this.mLastExecutionTime = System.nanoTime();
+		this.mPlannedExecutionTime = this.mLastExecutionTime;
+		this.mScheduledRun = null;
+		this.mIsScheduled = false;
 		this.mStopExecution = false;
-		this.mAllEventsExecuted = true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.IDelayedEventQueue#addCoalescingRule(de.zabuza.
+	 * sparkle.webdriver.event.ICoalescingRule)
+	 */
+	@Override
+	public synchronized void addCoalescingRule(final ICoalescingRule rule) {
+		this.mCoalescingRules.add(rule);
 	}
 
 	/*
@@ -87,9 +228,132 @@ public final class DelayedEventExecutor extends Thread implements IDelayedEventQ
 	 * .webdriver.event.IDelayableEvent)
 	 */
 	@Override
-	public void addEvent(final IDelayableEvent event) {
-		this.mAllEventsExecuted = false;
-		this.mEventQueue.add(event);
+	public CompletableFuture<Void> addEvent(final IDelayableEvent event) {
+		return addEvent(event, Thread.currentThread());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.IDelayedEventQueue#addEvent(de.zabuza.sparkle
+	 * .webdriver.event.IDelayableEvent, java.lang.Object)
+	 */
+	@Override
+	public CompletableFuture<Void> addEvent(final IDelayableEvent event, final Object tag) {
+		return addEvent(event, tag, null);
+	}
+
+	/**
+	 * Adds a given delayable event with a given tag to the event queue, like
+	 * {@link #addEvent(IDelayableEvent, Object)}, and remembers the method of the
+	 * API that caused it. The method is available while the event is executed,
+	 * see {@link #getCallerOfExecutingEvent()}.
+	 * 
+	 * @param event
+	 *            Event to add
+	 * @param tag
+	 *            The tag of the event, not <tt>null</tt>
+	 * @param caller
+	 *            The method of the API that caused the event, <tt>null</tt> if
+	 *            unknown
+	 * @return A future that completes once the given event was executed, see
+	 *         {@link #addEvent(IDelayableEvent, Object)}
+	 */
+	public synchronized CompletableFuture<Void> addEvent(final IDelayableEvent event, final Object tag,
+			final String caller) {
+		final QueuedEvent queuedEvent = new QueuedEvent(event, tag, caller);
+		if (this.mStopExecution) {
+			queuedEvent.getCompletion().cancel(false);
+			return queuedEvent.getCompletion();
+		}
+
+		// Drop the event if the directly pending event makes it obsolete
+		final Deque<QueuedEvent> lane = this.mEventLanes.get(event.getPriority());
+		final QueuedEvent pendingEvent = lane.peekLast();
+		if (pendingEvent != null && pendingEvent.getTag().equals(tag)) {
+			for (final ICoalescingRule rule : this.mCoalescingRules) {
+				if (rule.canCoalesce(pendingEvent.getEvent(), event)) {
+					return pendingEvent.getCompletion();
+				}
+			}
+		}
+
+		this.mPendingEvents.incrementAndGet();
+		lane.add(queuedEvent);
+
+		if (!this.mIsScheduled) {
+			scheduleNextRun();
+		} else if (event.getPriority() == EEventPriority.URGENT && this.mScheduledRun != null
+				&& this.mScheduledRun.cancel(false)) {
+			// The run did not start yet, reschedule it to skip the random delay
+			scheduleNextRun();
+		}
+		return queuedEvent.getCompletion();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.IDelayedEventQueue#cancelEvents(java.lang.
+	 * Object)
+	 */
+	@Override
+	public synchronized int cancelEvents(final Object tag) {
+		int amountOfCancelledEvents = 0;
+		for (final Deque<QueuedEvent> lane : this.mEventLanes.values()) {
+			final Iterator<QueuedEvent> eventIter = lane.iterator();
+			while (eventIter.hasNext()) {
+				final QueuedEvent queuedEvent = eventIter.next();
+				if (queuedEvent.getTag().equals(tag)) {
+					eventIter.remove();
+					this.mPendingEvents.decrementAndGet();
+					queuedEvent.getCompletion().cancel(false);
+					amountOfCancelledEvents++;
+				}
+			}
+		}
+		return amountOfCancelledEvents;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.IDelayedEventQueue#getCompletionOfAddedEvents()
+	 */
+	@Override
+	public synchronized CompletableFuture<Void> getCompletionOfAddedEvents() {
+		// Pending events can be cancelled individually by their tag, thus the
+		// latest event of a lane may finish before the events in front of it
+		final List<CompletableFuture<Void>> completions = new ArrayList<>();
+		for (final Deque<QueuedEvent> lane : this.mEventLanes.values()) {
+			for (final QueuedEvent pendingEvent : lane) {
+				completions.add(pendingEvent.getCompletion());
+			}
+		}
+		if (this.mRunningEvent != null) {
+			completions.add(this.mRunningEvent.getCompletion());
+		}
+
+		if (completions.isEmpty()) {
+			return CompletableFuture.completedFuture(null);
+		}
+		if (completions.size() == 1) {
+			return completions.get(0);
+		}
+		return CompletableFuture.allOf(completions.toArray(new CompletableFuture<?>[completions.size()]));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.webdriver.IDelayedEventQueue#getDelayStatistics()
+	 */
+	@Override
+	public DelayStatistics getDelayStatistics() {
+		return this.mDelayStatistics;
 	}
 
 	/*
@@ -99,76 +363,255 @@ public final class DelayedEventExecutor extends Thread implements IDelayedEventQ
 	 */
 	@Override
 	public boolean isEmpty() {
-		return this.mEventQueue.isEmpty() && this.mAllEventsExecuted;
+		return this.mPendingEvents.get() == 0;
 	}
 
 	/*
 	 * (non-Javadoc)
 	 * 
-	 * @see java.lang.Thread#run()
+	 * @see de.zabuza.sparkle.webdriver.IDelayedEventQueue#isExecutingEvent()
+	 */
+	@Override
+	public boolean isExecutingEvent() {
+		return this.mExecutingThread == Thread.currentThread();
+	}
+
+	/**
+	 * Executes the next event of the most urgent non-empty lane, if present, and
+	 * schedules the following run after the delay given by the policy if there
+	 * are remaining events. This method is called by the event executor and
+	 * should not be called directly.
 	 */
 	@Override
 	public void run() {
-		this.mStopExecution = false;
-		while (!this.mStopExecution) {
-			final IDelayableEvent event = this.mEventQueue.poll();
-			try {
-				if (event != null) {
-					event.execute();
-					if (!this.mAllEventsExecuted && this.mEventQueue.isEmpty()) {
-						this.mAllEventsExecuted = true;
-					}
-					sleep(getRandomDelay());
-				}
-				sleep(STANDARD_DELAY);
-			} catch (final InterruptedException e) {
-				if (!this.mStopExecution) {
-					// Not interrupted for stopping
-					System.err.println(ErrorMessages.DELAYED_EVENT_EXECUTOR_INTERRUPTED);
-				}
-			} catch (final StaleElementReferenceException | TimeoutException | NoSuchElementException e) {
-				// Log the exception but continue
-				e.printStackTrace();
-			} finally {
-				// Check again in every case
-				if (!this.mAllEventsExecuted && this.mEventQueue.isEmpty()) {
-					this.mAllEventsExecuted = true;
-				}
+		final QueuedEvent queuedEvent;
+		synchronized (this) {
+			if (this.mStopExecution) {
+				this.mIsScheduled = false;
+				this.mScheduledRun = null;
+				cancelRemainingEvents();
+				return;
+			}
+			queuedEvent = pollNextEvent();
+			this.mRunningEvent = queuedEvent;
+			if (queuedEvent != null) {
+				recordDelay(queuedEvent);
+			}
+		}
+		if (queuedEvent != null) {
+			executeEvent(queuedEvent);
+		}
+
+		synchronized (this) {
+			this.mRunningEvent = null;
+			// The next event must wait for the delay to pass after this event,
+			// events that were cancelled meanwhile do not cause a delay
+			if (queuedEvent != null) {
+				this.mLastExecutionTime = System.nanoTime();
+			}
+
+			this.mIsScheduled = false;
+			this.mScheduledRun = null;
+			if (this.mStopExecution) {
+				cancelRemainingEvents();
+			} else if (this.mPendingEvents.get() > 0) {
+				scheduleNextRun();
 			}
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.IDelayedEventQueue#setDelayPolicy(de.zabuza.
+	 * sparkle.webdriver.delay.IDelayPolicy)
+	 */
+	@Override
+	public void setDelayPolicy(final IDelayPolicy policy) {
+		this.mDelayPolicy = policy;
+	}
+
 	/**
-	 * Stops the execution of the thread. Once stopped, the object should not be
-	 * used anymore.
+	 * Stops the execution of the executor. Events that were not executed yet get
+	 * cancelled. Once stopped, the object should not be used anymore.
 	 */
-	public void stopExecution() {
+	public synchronized void stopExecution() {
 		this.mStopExecution = true;
+		if (!this.mIsScheduled) {
+			cancelRemainingEvents();
+		} else if (this.mScheduledRun != null && this.mScheduledRun.cancel(false)) {
+			// The run did not start yet, thus it will not cancel the events
+			this.mIsScheduled = false;
+			this.mScheduledRun = null;
+			cancelRemainingEvents();
+		}
+	}
 
-		// Wake up thread if currently sleeping
-		interrupt();
+	/**
+	 * Cancels all events that were not executed yet. Must be called while holding
+	 * the lock of this object.
+	 */
+	private void cancelRemainingEvents() {
+		QueuedEvent queuedEvent = pollNextEvent();
+		while (queuedEvent != null) {
+			this.mPendingEvents.decrementAndGet();
+			queuedEvent.getCompletion().cancel(false);
+			queuedEvent = pollNextEvent();
+		}
+	}
+
+	/**
+	 * Hands the scheduled run of this executor over to the event executor, as
+	 * its delay passed. If the event executor does not accept the run, all
+	 * remaining events get cancelled. This method is called by an
+	 * {@link EventDispatchTask} on the scheduler.
+	 */
+	void dispatchRun() {
+		try {
+			this.mEventExecutor.execute(this);
+		} catch (final RejectedExecutionException e) {
+			// Event executor was shut down, the events will never be executed
+			synchronized (this) {
+				this.mIsScheduled = false;
+				this.mScheduledRun = null;
+				cancelRemainingEvents();
+			}
+		}
+	}
+
+	/**
+	 * Executes the given event and completes its future accordingly. Exceptions
+	 * thrown by the event are logged and passed to the future, the executor
+	 * continues with the next event in every case. The execution is recorded as
+	 * {@link IDelayedEventExecutionEvent} by the flight recorder.
+	 * 
+	 * @param queuedEvent
+	 *            The event to execute
+	 */
+	private void executeEvent(final QueuedEvent queuedEvent) {
+		final IDelayedEventExecutionEvent executionEvent = FlightEvents.createDelayedEventExecutionEvent();
+		executionEvent.begin();
+		final long queueLatency = System.nanoTime() - queuedEvent.getCreationTime();
+		RuntimeException failure = null;
+		this.mExecutingThread = Thread.currentThread();
+		EXECUTING_EVENT.set(queuedEvent);
+		// The event belongs to the operation of the adding thread, which shares
+		// its budget
+		final Optional<Deadline> deadline = queuedEvent.getDeadline();
+		Deadline activeDeadline = null;
+		if (deadline.isPresent()) {
+			activeDeadline = deadline.get().activate();
+		}
+		try {
+			queuedEvent.getEvent().execute();
+		} catch (final RuntimeException e) {
+			// Log the exception but continue
+			e.printStackTrace();
+			failure = e;
+		} finally {
+			if (activeDeadline != null) {
+				activeDeadline.close();
+			}
+			EXECUTING_EVENT.remove();
+			this.mExecutingThread = null;
+		}
+
+		executionEvent.end();
+		if (executionEvent.shouldCommit()) {
+			executionEvent.setEventType(queuedEvent.getEvent().getClass().getSimpleName());
+			executionEvent.setPriority(queuedEvent.getEvent().getPriority().name());
+			executionEvent.setQueueLatency(queueLatency);
+			executionEvent.setFailed(failure != null);
+			executionEvent.commit();
+		}
+
+		// Update the state before waking up waiting threads
+		this.mPendingEvents.decrementAndGet();
+		if (failure == null) {
+			queuedEvent.getCompletion().complete(null);
+		} else {
+			queuedEvent.getCompletion().completeExceptionally(failure);
+		}
+	}
+
+	/**
+	 * Gets the most urgent lane that contains events. Must be called while holding
+	 * the lock of this object.
+	 * 
+	 * @return The most urgent lane that contains events or <tt>null</tt> if all
+	 *         lanes are empty
+	 */
+	private Deque<QueuedEvent> getNextLane() {
+		for (final EEventPriority priority : EEventPriority.values()) {
+			final Deque<QueuedEvent> lane = this.mEventLanes.get(priority);
+			if (!lane.isEmpty()) {
+				return lane;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Retrieves and removes the next event to execute, taken from the most urgent
+	 * lane that contains events. Must be called while holding the lock of this
+	 * object.
+	 * 
+	 * @return The next event to execute or <tt>null</tt> if all lanes are empty
+	 */
+	private QueuedEvent pollNextEvent() {
+		final Deque<QueuedEvent> lane = getNextLane();
+		if (lane == null) {
+			return null;
+		}
+		return lane.poll();
 	}
 
 	/**
-	 * Generates a random delay using a normal distribution function.
+	 * Records the planned and actual delay of the given event, which is about to
+	 * be executed, in the statistics. Must be called while holding the lock of
+	 * this object.
 	 * 
-	 * @return A random delay in milliseconds between {@link #RND_DELAY_MIN} and
-	 *         {@link #RND_DELAY_MAX}. Where {@link #RND_DELAY_AVERAGE} is the
-	 *         standard deviation, thus about 75% of all generated values are
-	 *         between {@link #RND_DELAY_MIN} and {@link #RND_DELAY_AVERAGE}.
+	 * @param queuedEvent
+	 *            The event that is about to be executed
+	 */
+	private void recordDelay(final QueuedEvent queuedEvent) {
+		// The delay starts once the event was added and the previous finished
+		final long delayStart = Math.max(this.mLastExecutionTime, queuedEvent.getCreationTime());
+		final long plannedDelay = Math.max(0, this.mPlannedExecutionTime - delayStart);
+		final long actualDelay = Math.max(0, System.nanoTime() - delayStart);
+		this.mDelayStatistics.record(plannedDelay, actualDelay);
+	}
+
+	/**
+	 * Schedules the next run of this executor on the scheduler, respecting the
+	 * delay to the previous event given by the policy for the next event. Once
+	 * the delay passed, the run is handed over to the event executor. Must be
+	 * called while holding the lock of this object. If the scheduler does not
+	 * accept the run, all remaining events get cancelled.
 	 */
-	private long getRandomDelay() {
-		// Generate gaussd(min(|x|, RND_DELAY_MAX), RND_DELAY_MIN,
-		// RND_DELAY_AVERAGE) with gaussd(x, mean, sigma) being the
-		// gaussian distribution. This returns a number in [RND_DELAY_MIN,
-		// RND_DELAY_MAX] with RND_DELAY_AVERAGE being the standard deviation
-		// where [RND_DELAY_MIN, RND_DELAY_AVERAGE] has a percentage
-		// of about 75%.
-		final double gaussian = Math.abs(this.mRnd.nextGaussian());
-		final double deviation = gaussian * RND_DELAY_AVERAGE + RND_DELAY_MIN;
-		final long delay = (long) Math.floor(Math.min(deviation, RND_DELAY_MAX));
+	private void scheduleNextRun() {
+		final long now = System.nanoTime();
+		final Deque<QueuedEvent> lane = getNextLane();
+		if (lane != null) {
+			final long plannedDelay = this.mDelayPolicy.getDelay(lane.peek().getEvent());
+			this.mPlannedExecutionTime = Math.max(now,
+					this.mLastExecutionTime + TimeUnit.MILLISECONDS.toNanos(plannedDelay));
+		} else {
+			this.mPlannedExecutionTime = now;
+		}
 
-		return delay;
+		final long delay = this.mPlannedExecutionTime - now;
+		try {
+			this.mScheduledRun = this.mScheduler.schedule(new EventDispatchTask(this), delay,
+					TimeUnit.NANOSECONDS);
+			this.mIsScheduled = true;
+		} catch (final RejectedExecutionException e) {
+			// Scheduler was shut down, the events will never be executed
+			this.mIsScheduled = false;
+			this.mScheduledRun = null;
+			cancelRemainingEvents();
+		}
 	}
 
 }
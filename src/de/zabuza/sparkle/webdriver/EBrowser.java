@@ -15,6 +15,11 @@ public enum EBrowser {
 	 * Firefox browser.
 	 */
 	FIREFOX,
+	/**
+	 * Headless <tt>HtmlUnit</tt> browser that runs inside the JVM, see
+	 * {@link HeadlessWebDriver}.
+	 */
+	HTMLUNIT,
 	/**
 	 * Internet explorer browser.
 	 */
@@ -0,0 +1,38 @@
+package de.zabuza.sparkle.webdriver;
+
+/**
+ * Task that hands the next run of a {@link DelayedEventExecutor} over to the
+ * executor that executes its events. It is scheduled on the scheduler of the
+ * delayed event executor once the delay of the next event passed, thus the
+ * scheduler only times events and never blocks on their execution.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class EventDispatchTask implements Runnable {
+	/**
+	 * The delayed event executor whose next run to hand over.
+	 */
+	private final DelayedEventExecutor mDelayedEventExecutor;
+
+	/**
+	 * Creates a new task that hands the next run of the given delayed event
+	 * executor over to the executor that executes its events.
+	 * 
+	 * @param delayedEventExecutor
+	 *            The delayed event executor whose next run to hand over
+	 */
+	public EventDispatchTask(final DelayedEventExecutor delayedEventExecutor) {
+		this.mDelayedEventExecutor = delayedEventExecutor;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Runnable#run()
+	 */
+	@Override
+	public void run() {
+		this.mDelayedEventExecutor.dispatchRun();
+	}
+}
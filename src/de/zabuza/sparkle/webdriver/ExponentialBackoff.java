@@ -0,0 +1,70 @@
+package de.zabuza.sparkle.webdriver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Backoff for retrying an operation. The waiting time starts with an initial
+ * delay and doubles after each attempt, up to a maximal delay. All attempts
+ * together are bound by a total deadline which starts when the object is
+ * created.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class ExponentialBackoff {
+	/**
+	 * The time stamp, as given by {@link System#nanoTime()}, after which no more
+	 * attempts are made.
+	 */
+	private final long mDeadline;
+	/**
+	 * The maximal delay between two attempts in milliseconds.
+	 */
+	private final long mMaxDelay;
+	/**
+	 * The delay before the next attempt in milliseconds.
+	 */
+	private long mNextDelay;
+
+	/**
+	 * Creates a new backoff whose deadline starts now.
+	 * 
+	 * @param initialDelay
+	 *            The delay before the first retry in milliseconds
+	 * @param maxDelay
+	 *            The maximal delay between two attempts in milliseconds
+	 * @param timeout
+	 *            The total time in milliseconds after which no more attempts are
+	 *            made
+	 */
+	public ExponentialBackoff(final long initialDelay, final long maxDelay, final long timeout) {
+		this.mNextDelay = initialDelay;
+		this.mMaxDelay = maxDelay;
+		this.mDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+	}
+
+	/**
+	 * Waits before the next attempt. The delay is shortened to not exceed the
+	 * deadline. If the thread gets interrupted while waiting, the interrupt flag
+	 * is restored and no more attempts should be made.
+	 * 
+	 * @return <tt>True</tt> if another attempt should be made, <tt>false</tt> if
+	 *         the deadline has passed or the thread was interrupted
+	 */
+	public boolean awaitNextAttempt() {
+		final long remaining = TimeUnit.NANOSECONDS.toMillis(this.mDeadline - System.nanoTime());
+		if (remaining <= 0) {
+			return false;
+		}
+
+		final long delay = Math.min(this.mNextDelay, remaining);
+		this.mNextDelay = Math.min(this.mNextDelay * 2, this.mMaxDelay);
+		try {
+			Thread.sleep(delay);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		return true;
+	}
+}
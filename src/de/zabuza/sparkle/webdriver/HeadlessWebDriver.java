@@ -0,0 +1,66 @@
+package de.zabuza.sparkle.webdriver;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.openqa.selenium.remote.DesiredCapabilities;
+
+import com.gargoylesoftware.htmlunit.WebClientOptions;
+
+/**
+ * Headless web driver that runs the <tt>HtmlUnit</tt> engine inside the JVM
+ * instead of starting a browser process. JavaScript is enabled by default.
+ * Downloading style sheets and images can be skipped by setting the capability
+ * {@link #CAPABILITY_SKIP_STYLES_AND_IMAGES} to <tt>true</tt>, which makes
+ * loading pages cheaper. However, elements that are hidden by style sheets are
+ * then no longer recognized as hidden, which weakens the detection of bot
+ * traps.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class HeadlessWebDriver extends HtmlUnitDriver {
+	/**
+	 * Name of the boolean capability that determines whether downloading style
+	 * sheets and images is skipped.
+	 */
+	public static final String CAPABILITY_SKIP_STYLES_AND_IMAGES = "sparkle.skipStylesAndImages";
+
+	/**
+	 * Creates the default capabilities of this driver. They enable JavaScript and
+	 * do not skip style sheets and images.
+	 * 
+	 * @return The default capabilities of this driver
+	 */
+	public static DesiredCapabilities createDefaultCapabilities() {
+		final DesiredCapabilities capabilities = DesiredCapabilities.htmlUnit();
+		capabilities.setJavascriptEnabled(true);
+		capabilities.setCapability(CAPABILITY_SKIP_STYLES_AND_IMAGES, false);
+		return capabilities;
+	}
+
+	/**
+	 * Creates a new headless driver with the default capabilities, see
+	 * {@link #createDefaultCapabilities()}.
+	 */
+	public HeadlessWebDriver() {
+		this(createDefaultCapabilities());
+	}
+
+	/**
+	 * Creates a new headless driver with the given capabilities.
+	 * 
+	 * @param capabilities
+	 *            The capabilities to use, see
+	 *            {@link #CAPABILITY_SKIP_STYLES_AND_IMAGES} for an additional
+	 *            capability
+	 */
+	public HeadlessWebDriver(final Capabilities capabilities) {
+		super(capabilities);
+
+		final WebClientOptions options = getWebClient().getOptions();
+		if (Boolean.TRUE.equals(capabilities.getCapability(CAPABILITY_SKIP_STYLES_AND_IMAGES))) {
+			options.setCssEnabled(false);
+			options.setDownloadImages(false);
+		}
+	}
+}
@@ -1,5 +1,10 @@
 package de.zabuza.sparkle.webdriver;
 
+import java.util.concurrent.CompletableFuture;
+
+import de.zabuza.sparkle.webdriver.delay.DelayStatistics;
+import de.zabuza.sparkle.webdriver.delay.IDelayPolicy;
+import de.zabuza.sparkle.webdriver.event.ICoalescingRule;
 import de.zabuza.sparkle.webdriver.event.IDelayableEvent;
 
 /**
@@ -10,12 +15,74 @@ import de.zabuza.sparkle.webdriver.event.IDelayableEvent;
  */
 public interface IDelayedEventQueue {
 	/**
-	 * Adds a given delayable event to the event queue.
+	 * Adds a rule that decides whether added events are made obsolete by pending
+	 * events. An added event is only coalesced with the event that was added
+	 * directly before it to the same lane, if both have the same tag and the
+	 * event is still pending.
+	 * 
+	 * @param rule
+	 *            The rule to add
+	 */
+	public void addCoalescingRule(final ICoalescingRule rule);
+
+	/**
+	 * Adds a given delayable event to the event queue. The event is queued in the
+	 * lane given by {@link IDelayableEvent#getPriority()}. The event is tagged with
+	 * the current thread, thus it can be cancelled using
+	 * {@link #cancelEvents(Object)} with the thread that added it.
+	 * 
+	 * @param event
+	 *            Event to add
+	 * @return A future that completes once the given event was executed. It
+	 *         completes exceptionally if the execution failed and is cancelled if
+	 *         the event got dropped before it was executed.
+	 */
+	public CompletableFuture<Void> addEvent(final IDelayableEvent event);
+
+	/**
+	 * Adds a given delayable event with a given tag to the event queue. The event
+	 * is queued in the lane given by {@link IDelayableEvent#getPriority()}. The tag
+	 * can be used to cancel the event using {@link #cancelEvents(Object)}.
 	 * 
 	 * @param event
 	 *            Event to add
+	 * @param tag
+	 *            The tag of the event, not <tt>null</tt>
+	 * @return A future that completes once the given event was executed. It
+	 *         completes exceptionally if the execution failed and is cancelled if
+	 *         the event got dropped before it was executed. If the event was
+	 *         coalesced with a pending event, the future of the pending event is
+	 *         returned.
+	 */
+	public CompletableFuture<Void> addEvent(final IDelayableEvent event, final Object tag);
+
+	/**
+	 * Cancels all pending events with the given tag. Events that are already
+	 * executing are not affected.
+	 * 
+	 * @param tag
+	 *            The tag of the events to cancel
+	 * @return The amount of events that were cancelled
 	 */
-	public void addEvent(final IDelayableEvent event);
+	public int cancelEvents(final Object tag);
+
+	/**
+	 * Gets statistics about the planned and actual delays of the events executed
+	 * by this queue.
+	 * 
+	 * @return Statistics about the delays of executed events
+	 */
+	public DelayStatistics getDelayStatistics();
+
+	/**
+	 * Gets a future that completes once all events, that were added to the queue
+	 * until now, have been processed. Events that get added afterwards are not
+	 * considered.
+	 * 
+	 * @return A future that completes once all events added until now have been
+	 *         processed
+	 */
+	public CompletableFuture<Void> getCompletionOfAddedEvents();
 
 	/**
 	 * Returns whether the event queue is empty.
@@ -23,4 +90,23 @@ public interface IDelayedEventQueue {
 	 * @return <tt>True</tt> if the event queue is empty, <tt>false</tt> if not
 	 */
 	public boolean isEmpty();
+
+	/**
+	 * Returns whether the current thread is executing an event of this queue.
+	 * Actions that are issued while executing an event belong to that event and
+	 * should not be delayed again.
+	 * 
+	 * @return <tt>True</tt> if the current thread is executing an event of this
+	 *         queue, <tt>false</tt> if not
+	 */
+	public boolean isExecutingEvent();
+
+	/**
+	 * Sets the policy that determines the delays between events. The policy is
+	 * used for all executions that are scheduled afterwards.
+	 * 
+	 * @param policy
+	 *            The policy to set
+	 */
+	public void setDelayPolicy(final IDelayPolicy policy);
 }
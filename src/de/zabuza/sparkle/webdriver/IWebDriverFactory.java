@@ -0,0 +1,46 @@
+package de.zabuza.sparkle.webdriver;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Interface for factories that create web drivers ready to be used by the API,
+ * including all wrappers like interceptors. Starting the browser and wrapping
+ * it are separate steps, thus a started browser can be wrapped again with
+ * fresh wrappers when it is reused.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public interface IWebDriverFactory {
+	/**
+	 * Creates a web driver that uses the given browser. It is the same as
+	 * wrapping a driver started by {@link #startWebDriver(EBrowser)} using
+	 * {@link #wrapWebDriver(WebDriver)}.
+	 * 
+	 * @param browser
+	 *            Browser to use for the driver
+	 * @return Web driver that uses the given browser
+	 */
+	public WebDriver createWebDriver(final EBrowser browser);
+
+	/**
+	 * Starts a web driver that uses the given browser, without any wrappers.
+	 * 
+	 * @param browser
+	 *            Browser to use for the driver
+	 * @return The started web driver, not wrapped yet
+	 */
+	public WebDriver startWebDriver(final EBrowser browser);
+
+	/**
+	 * Wraps the given started web driver such that it is ready to be used by the
+	 * API. Each call creates new wrappers, which do not share any state with
+	 * wrappers created before.
+	 * 
+	 * @param driver
+	 *            The started web driver to wrap, as given by
+	 *            {@link #startWebDriver(EBrowser)}
+	 * @return The wrapped web driver
+	 */
+	public WebDriver wrapWebDriver(final WebDriver driver);
+}
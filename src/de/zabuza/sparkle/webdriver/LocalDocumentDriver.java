@@ -0,0 +1,77 @@
+package de.zabuza.sparkle.webdriver;
+
+import java.io.IOException;
+import java.net.URL;
+
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+import com.gargoylesoftware.htmlunit.StringWebResponse;
+import com.gargoylesoftware.htmlunit.WebClientOptions;
+
+import de.zabuza.sparkle.locale.ErrorMessages;
+
+/**
+ * Driver that parses documents inside the JVM, using the <tt>HtmlUnit</tt>
+ * engine. It is given the source of a document that was fetched from another
+ * driver, see {@link #parse(String, URL)}, and then answers searches for
+ * elements of that document with all kinds of {@link org.openqa.selenium.By
+ * By}, without any further call to the other driver. Scripts, style sheets and
+ * images of the document are neither loaded nor executed, and referenced
+ * frames are not loaded either, see {@link OfflineWebConnection}. Styles
+ * declared inside the document apply, thus texts of elements hidden by them
+ * are not visible, like in a browser. Elements that are only hidden by style
+ * sheets or scripts appear as visible unless the source marks them hidden, as
+ * done by {@link Scripts#SOURCE_OF_DOCUMENT}.<br>
+ * <br>
+ * Elements found by this driver only reflect the document at the time it was
+ * fetched. They are meant for reading, for example their texts and
+ * attributes. Actions like clicks have no effect on the other driver and must
+ * use elements found by it instead.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class LocalDocumentDriver extends HtmlUnitDriver {
+
+	/**
+	 * Creates a new driver that has not parsed a document yet.
+	 */
+	public LocalDocumentDriver() {
+		super(false);
+
+		final WebClientOptions options = getWebClient().getOptions();
+		// Styles decide about the visibility of elements, hidden texts must not
+		// be read
+		options.setCssEnabled(true);
+		options.setDownloadImages(false);
+		options.setThrowExceptionOnFailingStatusCode(false);
+		options.setThrowExceptionOnScriptError(false);
+		getWebClient().setWebConnection(new OfflineWebConnection());
+	}
+
+	/**
+	 * Parses the given source of a document, replacing the previously parsed
+	 * document. The returned context is this driver, thus contexts returned
+	 * before then answer searches for the new document, and elements found
+	 * before become stale.
+	 * 
+	 * @param source
+	 *            The <tt>HTML</tt> source of the document
+	 * @param url
+	 *            The URL of the document, used to resolve relative links
+	 * @return The search context that answers searches for elements of the
+	 *         parsed document
+	 * @throws WebDriverException
+	 *             If the source could not be parsed
+	 */
+	public SearchContext parse(final String source, final URL url) throws WebDriverException {
+		try {
+			getWebClient().loadWebResponseInto(new StringWebResponse(source, url), getCurrentWindow());
+		} catch (final IOException e) {
+			throw new WebDriverException(ErrorMessages.LOCAL_DOCUMENT_NOT_PARSED, e);
+		}
+		return this;
+	}
+}
@@ -0,0 +1,41 @@
+package de.zabuza.sparkle.webdriver;
+
+import com.gargoylesoftware.htmlunit.StringWebResponse;
+import com.gargoylesoftware.htmlunit.WebConnection;
+import com.gargoylesoftware.htmlunit.WebRequest;
+import com.gargoylesoftware.htmlunit.WebResponse;
+
+/**
+ * Connection for the <tt>HtmlUnit</tt> engine that never accesses the network.
+ * Each request is answered with an empty document. It is used by the
+ * {@link LocalDocumentDriver} such that parsing a document does not load the
+ * frames it references, which would be requested without the session of the
+ * browser the document was fetched from.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class OfflineWebConnection implements WebConnection {
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.AutoCloseable#close()
+	 */
+	@Override
+	public void close() {
+		// Nothing to close
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.gargoylesoftware.htmlunit.WebConnection#getResponse(com.gargoylesoftware
+	 * .htmlunit.WebRequest)
+	 */
+	@Override
+	public WebResponse getResponse(final WebRequest request) {
+		return new StringWebResponse("", request.getUrl());
+	}
+}
@@ -0,0 +1,46 @@
+package de.zabuza.sparkle.webdriver;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Task that resets a driver which was released to a {@link WebDriverPool} and
+ * adds it to the idle drivers of the pool afterwards, see
+ * {@link WebDriverPool#release(WebDriver)}.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class PooledDriverResetTask implements Runnable {
+	/**
+	 * The started driver to reset, without any wrappers.
+	 */
+	private final WebDriver mDriver;
+	/**
+	 * The pool the driver was released to.
+	 */
+	private final WebDriverPool mPool;
+
+	/**
+	 * Creates a new task that resets the given driver which was released to the
+	 * given pool.
+	 * 
+	 * @param pool
+	 *            The pool the driver was released to
+	 * @param driver
+	 *            The started driver to reset, without any wrappers
+	 */
+	public PooledDriverResetTask(final WebDriverPool pool, final WebDriver driver) {
+		this.mPool = pool;
+		this.mDriver = driver;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Runnable#run()
+	 */
+	@Override
+	public void run() {
+		this.mPool.resetDriver(this.mDriver);
+	}
+}
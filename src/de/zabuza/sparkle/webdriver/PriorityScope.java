@@ -0,0 +1,108 @@
+package de.zabuza.sparkle.webdriver;
+
+import de.zabuza.sparkle.webdriver.event.EEventPriority;
+import de.zabuza.sparkle.webdriver.intercept.DelayInterceptor;
+
+/**
+ * Priority with which the actions of a thread are delayed. A priority can be
+ * activated for the current thread, using {@link #activate(EEventPriority)},
+ * which lets a {@link DelayInterceptor} queue all events issued by the thread
+ * in the lane of that priority. Critical actions, like healing or escaping,
+ * thereby skip the events that are queued in less urgent lanes. Activations
+ * nest, the innermost activation wins. The activation must be closed
+ * afterwards:
+ * 
+ * <pre>
+ * final PriorityScope activeScope = PriorityScope.activate(EEventPriority.URGENT);
+ * try {
+ * 	instance.getInventory().activateItem(item);
+ * } finally {
+ * 	activeScope.close();
+ * }
+ * </pre>
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ * 
+ */
+public final class PriorityScope implements AutoCloseable {
+	/**
+	 * The scope that is currently active for each thread.
+	 */
+	private static final ThreadLocal<PriorityScope> ACTIVE_SCOPE = new ThreadLocal<>();
+
+	/**
+	 * Activates the given priority for the current thread until the returned
+	 * activation is closed.
+	 * 
+	 * @param priority
+	 *            The priority to queue the events of the current thread with
+	 * @return The activation, which must be closed by the current thread once
+	 *         the actions have been issued
+	 */
+	public static PriorityScope activate(final EEventPriority priority) {
+		final PriorityScope activation = new PriorityScope(priority, ACTIVE_SCOPE.get());
+		ACTIVE_SCOPE.set(activation);
+		return activation;
+	}
+
+	/**
+	 * Gets the priority that is currently active for the current thread.
+	 * 
+	 * @return The active priority of the current thread,
+	 *         {@link EEventPriority#NORMAL} if there is none
+	 */
+	public static EEventPriority getActivePriority() {
+		final PriorityScope scope = ACTIVE_SCOPE.get();
+		if (scope == null) {
+			return EEventPriority.NORMAL;
+		}
+		return scope.mPriority;
+	}
+
+	/**
+	 * Whether this activation is still open and needs to be closed.
+	 */
+	private boolean mIsActivation;
+	/**
+	 * The scope that was active before this activation, <tt>null</tt> if there
+	 * was none.
+	 */
+	private final PriorityScope mPrevious;
+	/**
+	 * The priority of this scope.
+	 */
+	private final EEventPriority mPriority;
+
+	/**
+	 * Creates a new activation of the given priority.
+	 * 
+	 * @param priority
+	 *            The priority of this scope
+	 * @param previous
+	 *            The scope that was active before this activation,
+	 *            <tt>null</tt> if there was none
+	 */
+	private PriorityScope(final EEventPriority priority, final PriorityScope previous) {
+		this.mPriority = priority;
+		this.mPrevious = previous;
+		this.mIsActivation = true;
+	}
+
+	/**
+	 * Deactivates this activation and restores the scope that was active before.
+	 * Does nothing if this activation was already closed.
+	 */
+	@Override
+	public void close() {
+		if (!this.mIsActivation) {
+			return;
+		}
+		this.mIsActivation = false;
+
+		if (this.mPrevious != null) {
+			ACTIVE_SCOPE.set(this.mPrevious);
+		} else {
+			ACTIVE_SCOPE.remove();
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package de.zabuza.sparkle.webdriver;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import de.zabuza.sparkle.webdriver.event.IDelayableEvent;
+
+/**
+ * Event that was added to an {@link IDelayedEventQueue} together with its tag,
+ * the method of the API that added it, the {@link Deadline} that was active for
+ * the adding thread and the future that tracks its completion. The future
+ * completes once the event was executed.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class QueuedEvent {
+	/**
+	 * The method of the API that added the event, <tt>null</tt> if unknown.
+	 */
+	private final String mCaller;
+	/**
+	 * Future that completes once the event was executed.
+	 */
+	private final CompletableFuture<Void> mCompletion;
+	/**
+	 * The time stamp, as given by {@link System#nanoTime()}, of when the event
+	 * was queued.
+	 */
+	private final long mCreationTime;
+	/**
+	 * The deadline that was active for the thread that added the event,
+	 * <tt>null</tt> if there was none.
+	 */
+	private final Deadline mDeadline;
+	/**
+	 * The event to execute.
+	 */
+	private final IDelayableEvent mEvent;
+	/**
+	 * The tag of the event, used for cancellation.
+	 */
+	private final Object mTag;
+
+	/**
+	 * Creates a new queued event for the given event. It remembers the deadline
+	 * that is currently active for the calling thread, if present.
+	 * 
+	 * @param event
+	 *            The event to execute
+	 * @param tag
+	 *            The tag of the event, used for cancellation
+	 * @param caller
+	 *            The method of the API that added the event, <tt>null</tt> if
+	 *            unknown
+	 */
+	public QueuedEvent(final IDelayableEvent event, final Object tag, final String caller) {
+		this.mEvent = event;
+		this.mTag = tag;
+		this.mCaller = caller;
+		this.mCompletion = new CompletableFuture<>();
+		this.mCreationTime = System.nanoTime();
+		this.mDeadline = Deadline.getActiveDeadline().orElse(null);
+	}
+
+	/**
+	 * Gets the method of the API that added the event.
+	 * 
+	 * @return The method of the API that added the event, if known
+	 */
+	public Optional<String> getCaller() {
+		return Optional.ofNullable(this.mCaller);
+	}
+
+	/**
+	 * Gets the future that completes once the event was executed. It completes
+	 * exceptionally if the execution of the event failed and is cancelled if the
+	 * event gets dropped before execution.
+	 * 
+	 * @return The future that completes once the event was executed
+	 */
+	public CompletableFuture<Void> getCompletion() {
+		return this.mCompletion;
+	}
+
+	/**
+	 * Gets the time stamp of when the event was queued.
+	 * 
+	 * @return The time stamp, as given by {@link System#nanoTime()}, of when the
+	 *         event was queued
+	 */
+	public long getCreationTime() {
+		return this.mCreationTime;
+	}
+
+	/**
+	 * Gets the deadline that was active for the thread that added the event.
+	 * 
+	 * @return The deadline that was active for the thread that added the event,
+	 *         if present
+	 */
+	public Optional<Deadline> getDeadline() {
+		return Optional.ofNullable(this.mDeadline);
+	}
+
+	/**
+	 * Gets the event to execute.
+	 * 
+	 * @return The event to execute
+	 */
+	public IDelayableEvent getEvent() {
+		return this.mEvent;
+	}
+
+	/**
+	 * Gets the tag of the event, used for cancellation.
+	 * 
+	 * @return The tag of the event
+	 */
+	public Object getTag() {
+		return this.mTag;
+	}
+}
@@ -0,0 +1,47 @@
+package de.zabuza.sparkle.webdriver;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Factory for the daemon threads of schedulers created by
+ * {@link SharedEventScheduler}. Threads are named after the given prefix
+ * followed by a running number.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class SchedulerThreadFactory implements ThreadFactory {
+	/**
+	 * The prefix of the names of created threads.
+	 */
+	private final String mNamePrefix;
+	/**
+	 * The number of the next thread to create.
+	 */
+	private final AtomicInteger mNextThreadNumber;
+
+	/**
+	 * Creates a new factory for daemon threads whose names start with the given
+	 * prefix.
+	 * 
+	 * @param namePrefix
+	 *            The prefix of the names of created threads
+	 */
+	public SchedulerThreadFactory(final String namePrefix) {
+		this.mNamePrefix = namePrefix;
+		this.mNextThreadNumber = new AtomicInteger(1);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.concurrent.ThreadFactory#newThread(java.lang.Runnable)
+	 */
+	@Override
+	public Thread newThread(final Runnable runnable) {
+		final Thread thread = new Thread(runnable, this.mNamePrefix + this.mNextThreadNumber.getAndIncrement());
+		thread.setDaemon(true);
+		return thread;
+	}
+}
@@ -0,0 +1,289 @@
+package de.zabuza.sparkle.webdriver;
+
+/**
+ * Utility class that provides JavaScript snippets which are injected into the
+ * browser to combine multiple web driver calls into one round trip.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class Scripts {
+	/**
+	 * Action passed to {@link #TRAP_CHECK_AND_ACTION} to clear the element.
+	 */
+	public static final String ACTION_CLEAR = "clear";
+	/**
+	 * Action passed to {@link #TRAP_CHECK_AND_ACTION} to click the element.
+	 */
+	public static final String ACTION_CLICK = "click";
+	/**
+	 * Action passed to {@link #TRAP_CHECK_AND_ACTION} to only check the element.
+	 */
+	public static final String ACTION_NONE = "";
+	/**
+	 * Action passed to {@link #TRAP_CHECK_AND_ACTION} to submit the form of the
+	 * element.
+	 */
+	public static final String ACTION_SUBMIT = "submit";
+	/**
+	 * Interval in milliseconds in which asynchronous scripts additionally check
+	 * their condition within the browser, in case the events they listen to are
+	 * held up or not fired at all.
+	 */
+	public static final int CHECK_INTERVAL = 100;
+	/**
+	 * Script that clears the local and the session storage of the current
+	 * document. Documents that do not offer storage are ignored.
+	 */
+	public static final String CLEAR_STORAGE = "try {"
+			+ "window.localStorage.clear();"
+			+ "window.sessionStorage.clear();"
+			+ "} catch (e) {}";
+	/**
+	 * Asynchronous script that waits until an element is present in the current
+	 * document. The element is looked up by the kind of lookup given as first
+	 * argument, one of {@link #LOOKUP_CSS_SELECTOR}, {@link #LOOKUP_NAME} and
+	 * {@link #LOOKUP_PARTIAL_LINK_TEXT}, using the value given as second
+	 * argument. Instead of polling, the script registers a
+	 * <tt>MutationObserver</tt> and looks the element up again whenever the
+	 * document changes, and additionally every {@link #CHECK_INTERVAL}
+	 * milliseconds. The third argument is the timeout in milliseconds. The
+	 * script passes <tt>true</tt> to its callback if the element is present,
+	 * <tt>false</tt> if the timeout elapsed and <tt>null</tt> if the browser
+	 * does not support observing the document.
+	 */
+	public static final String ELEMENT_PRESENCE = "var lookup = arguments[0];"
+			+ "var value = arguments[1];"
+			+ "var timeout = arguments[2];"
+			+ "var callback = arguments[arguments.length - 1];"
+			+ "function isPresent() {"
+			+ "if (lookup === 'cssSelector') { return document.querySelector(value) !== null; }"
+			+ "if (lookup === 'name') { return document.getElementsByName(value).length > 0; }"
+			+ "if (lookup === 'partialLinkText') {"
+			+ "var anchors = document.getElementsByTagName('a');"
+			+ "for (var i = 0; i < anchors.length; i++) {"
+			+ "if (anchors[i].textContent.indexOf(value) !== -1) { return true; }"
+			+ "}"
+			+ "}"
+			+ "return false;"
+			+ "}"
+			+ "if (isPresent()) { callback(true); return; }"
+			+ "if (typeof MutationObserver !== 'function') { callback(null); return; }"
+			+ "var isDone = false;"
+			+ "var timer = null;"
+			+ "var checker = null;"
+			+ "var observer = new MutationObserver(function() { if (isPresent()) { finish(true); } });"
+			+ "function finish(result) {"
+			+ "if (isDone) { return; }"
+			+ "isDone = true;"
+			+ "observer.disconnect();"
+			+ "clearTimeout(timer);"
+			+ "clearInterval(checker);"
+			+ "callback(result);"
+			+ "}"
+			+ "observer.observe(document, { childList: true, subtree: true, attributes: true, characterData: true });"
+			+ "timer = setTimeout(function() { finish(false); }, timeout);"
+			+ "checker = setInterval(function() { if (isPresent()) { finish(true); } }, " + CHECK_INTERVAL + ");";
+	/**
+	 * Asynchronous script that waits until the frame, whose name or id is given
+	 * as first argument, has loaded a document containing an element that
+	 * matches the CSS selector given as second argument. It must be executed in
+	 * the document that contains the frame. Each load of the frame advances a
+	 * load generation counter which is attached to the frame element and thus
+	 * survives the documents of the frame. The wait resolves as soon as the
+	 * counter advances and the element is present, or right away if the current
+	 * document of the frame is already ready. Documents whose load is held up
+	 * are additionally checked every {@link #CHECK_INTERVAL} milliseconds. The
+	 * third argument is the timeout in milliseconds. The script passes
+	 * <tt>true</tt> to its callback if the frame is ready, <tt>false</tt> if the
+	 * frame does not exist or the timeout elapsed.
+	 */
+	public static final String FRAME_READY = "var frameName = arguments[0];"
+			+ "var selector = arguments[1];"
+			+ "var timeout = arguments[2];"
+			+ "var callback = arguments[arguments.length - 1];"
+			+ "var frame = null;"
+			+ "var frames = document.querySelectorAll('frame, iframe');"
+			+ "for (var i = 0; i < frames.length && frame === null; i++) {"
+			+ "if (frames[i].name === frameName || frames[i].id === frameName) { frame = frames[i]; }"
+			+ "}"
+			+ "if (frame === null) { callback(false); return; }"
+			+ "if (typeof frame.sparkleLoadGeneration !== 'number') {"
+			+ "frame.sparkleLoadGeneration = 0;"
+			+ "frame.addEventListener('load', function() { frame.sparkleLoadGeneration++; });"
+			+ "}"
+			+ "function isReady() {"
+			+ "try { var doc = frame.contentDocument;"
+			+ "return doc !== null && doc.readyState !== 'loading' && doc.querySelector(selector) !== null;"
+			+ "} catch (e) { return false; }"
+			+ "}"
+			+ "if (isReady()) { callback(true); return; }"
+			+ "var generation = frame.sparkleLoadGeneration;"
+			+ "var isDone = false;"
+			+ "var timer = null;"
+			+ "var checker = null;"
+			+ "function finish(result) {"
+			+ "if (isDone) { return; }"
+			+ "isDone = true;"
+			+ "frame.removeEventListener('load', onLoad);"
+			+ "clearTimeout(timer);"
+			+ "clearInterval(checker);"
+			+ "callback(result);"
+			+ "}"
+			+ "function onLoad() {"
+			+ "if (frame.sparkleLoadGeneration > generation && isReady()) { finish(true); }"
+			+ "}"
+			+ "frame.addEventListener('load', onLoad);"
+			+ "timer = setTimeout(function() { finish(false); }, timeout);"
+			+ "checker = setInterval(function() { if (isReady()) { finish(true); } }, " + CHECK_INTERVAL + ");";
+	/**
+	 * Script that collects the items of the inventory at once. The first
+	 * argument is the CSS selector of the names of unequipped items, the second
+	 * argument the CSS selector of the names of equipped items, the third
+	 * argument the relative xPath of the anchor that activates an item, starting
+	 * at the element of its name, and the fourth argument the CSS selector of
+	 * the anchor that opens the inventory. The fifth argument is the name of the
+	 * frame of the top-level document that holds the inventory, or an empty
+	 * string to use the current document. It returns a list that holds, for
+	 * each item in the order they are listed, unequipped items first, a list
+	 * with its trimmed visible name, whether it is equipped and whether it can
+	 * be activated. It returns <tt>null</tt> if the frame does not exist, did
+	 * not load completely yet or the inventory is closed.
+	 */
+	public static final String INVENTORY_ITEMS = "var activation = arguments[2];"
+			+ "var doc = document;"
+			+ "if (arguments[4] !== '') {"
+			+ "var frame = window.top.frames[arguments[4]];"
+			+ "if (!frame) { return null; }"
+			+ "doc = frame.document;"
+			+ "}"
+			+ "if (doc.readyState !== 'complete' || doc.querySelector(arguments[3]) !== null) { return null; }"
+			+ "var items = [];"
+			+ "function collect(selector, isEquipped) {"
+			+ "var elements = doc.querySelectorAll(selector);"
+			+ "for (var i = 0; i < elements.length; i++) {"
+			+ "var name = elements[i].innerText;"
+			+ "if (typeof name !== 'string') { name = elements[i].textContent; }"
+			+ "var anchor = doc.evaluate(activation, elements[i], null,"
+			+ "XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+			+ "items.push([name.trim(), isEquipped, anchor !== null]);"
+			+ "}"
+			+ "}"
+			+ "collect(arguments[0], false);"
+			+ "collect(arguments[1], true);"
+			+ "return items;";
+	/**
+	 * Lookup passed to {@link #ELEMENT_PRESENCE} to look elements up by a CSS
+	 * selector.
+	 */
+	public static final String LOOKUP_CSS_SELECTOR = "cssSelector";
+	/**
+	 * Lookup passed to {@link #ELEMENT_PRESENCE} to look elements up by their
+	 * name.
+	 */
+	public static final String LOOKUP_NAME = "name";
+	/**
+	 * Lookup passed to {@link #ELEMENT_PRESENCE} to look anchors up by a part
+	 * of their text.
+	 */
+	public static final String LOOKUP_PARTIAL_LINK_TEXT = "partialLinkText";
+	/**
+	 * Function <tt>isNoTrap(element)</tt> that returns whether the given element
+	 * is displayed and enabled. It approximates
+	 * {@link org.openqa.selenium.WebElement#isDisplayed() isDisplayed()} and
+	 * {@link org.openqa.selenium.WebElement#isEnabled() isEnabled()}.
+	 */
+	private static final String FUNCTION_IS_NO_TRAP = "function isNoTrap(e) {"
+			+ "if (e.disabled === true) { return false; }"
+			+ "for (var n = e; n && n.nodeType === 1; n = n.parentNode) {"
+			+ "var s = window.getComputedStyle(n);"
+			+ "if (s.display === 'none' || s.opacity === '0') { return false; }"
+			+ "}"
+			+ "if (window.getComputedStyle(e).visibility !== 'visible') { return false; }"
+			+ "var r = e.getBoundingClientRect();"
+			+ "if (r.width > 0 || r.height > 0) { return true; }"
+			// Elements without an extent are displayed if a child has an extent
+			+ "var children = e.getElementsByTagName('*');"
+			+ "for (var i = 0; i < children.length; i++) {"
+			+ "var c = children[i].getBoundingClientRect();"
+			+ "if (c.width > 0 || c.height > 0) { return true; }"
+			+ "}"
+			+ "return false;"
+			+ "}";
+	/**
+	 * Script that gets the source of the current document. It returns a list
+	 * whose first entry is the URL of the document and whose second entry is the
+	 * <tt>HTML</tt> source of its root element. Elements that are hidden in the
+	 * browser, for example by style sheets, are hidden by an inline style in
+	 * the source, such that their visibility does not depend on the style sheets
+	 * of the document. As scripts are enabled, <tt>noscript</tt> elements are
+	 * hidden as well.
+	 */
+	public static final String SOURCE_OF_DOCUMENT = "var root = document.documentElement;"
+			+ "var copy = root.cloneNode(true);"
+			+ "var elements = root.getElementsByTagName('*');"
+			+ "var copies = copy.getElementsByTagName('*');"
+			+ "for (var i = 0; i < elements.length && i < copies.length; i++) {"
+			+ "var style = window.getComputedStyle(elements[i]);"
+			+ "if (style.display === 'none' || elements[i].tagName.toLowerCase() === 'noscript') {"
+			+ "copies[i].style.setProperty('display', 'none', 'important');"
+			+ "} else if (style.visibility !== 'visible') {"
+			+ "copies[i].style.setProperty('visibility', 'hidden', 'important');"
+			+ "}"
+			+ "}"
+			+ "return [document.URL, copy.outerHTML];";
+	/**
+	 * Script that gets the visible texts of multiple elements of the current
+	 * document at once. The first argument is a list of CSS selectors. It
+	 * returns a list that holds, for each selector, the trimmed visible text of
+	 * the first element matching it or <tt>null</tt> if there is no such
+	 * element.
+	 */
+	public static final String TEXTS_OF_ELEMENTS = "var selectors = arguments[0];"
+			+ "var texts = [];"
+			+ "for (var i = 0; i < selectors.length; i++) {"
+			+ "var element = document.querySelector(selectors[i]);"
+			+ "if (!element) { texts.push(null); continue; }"
+			+ "var text = element.innerText;"
+			+ "if (typeof text !== 'string') { text = element.textContent; }"
+			+ "texts.push(text.trim());"
+			+ "}"
+			+ "return texts;";
+	/**
+	 * Script that checks whether the element given as first argument is a bot
+	 * trap and, if not, performs the action given as second argument on it. The
+	 * action is one of {@link #ACTION_NONE}, {@link #ACTION_CLEAR},
+	 * {@link #ACTION_CLICK} and {@link #ACTION_SUBMIT}. It returns
+	 * <tt>true</tt> if the element is no bot trap, <tt>false</tt> otherwise.
+	 */
+	public static final String TRAP_CHECK_AND_ACTION = FUNCTION_IS_NO_TRAP
+			+ "var element = arguments[0];"
+			+ "if (!isNoTrap(element)) { return false; }"
+			+ "var action = arguments[1];"
+			+ "if (action === 'click') { element.click(); }"
+			+ "else if (action === 'clear') { element.value = '';"
+			+ "element.dispatchEvent(new Event('change', { bubbles: true })); }"
+			+ "else if (action === 'submit') { var form = element.form || element;"
+			+ "while (form && form.tagName !== 'FORM') { form = form.parentNode; }"
+			+ "if (form) { form.submit(); } }"
+			+ "return true;";
+	/**
+	 * Script that collects all anchors of the current document and the anchors
+	 * that are bot traps. It returns a list whose first entry is the list of all
+	 * anchors and whose second entry is the list of anchors that are bot traps.
+	 */
+	public static final String TRAP_MAP = FUNCTION_IS_NO_TRAP
+			+ "var anchors = document.getElementsByTagName('a');"
+			+ "var traps = [];"
+			+ "for (var i = 0; i < anchors.length; i++) {"
+			+ "if (!isNoTrap(anchors[i])) { traps.push(anchors[i]); }"
+			+ "}"
+			+ "return [Array.prototype.slice.call(anchors), traps];";
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private Scripts() {
+
+	}
+}
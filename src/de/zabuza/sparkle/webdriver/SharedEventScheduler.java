@@ -0,0 +1,96 @@
+package de.zabuza.sparkle.webdriver;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * Utility class that provides the scheduler and the event executor which are
+ * shared by all {@link DelayedEventExecutor}s that were not given them
+ * explicitly. The scheduler only times events, by sharing a small pool of
+ * threads its amount of threads does not grow with the amount of instances
+ * that delay their events. The events themselves block on the browser, for
+ * example while a staled element is retried. They are thus executed by a
+ * caching executor that starts threads on demand, such that slow instances do
+ * not delay the events of all other instances.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class SharedEventScheduler {
+	/**
+	 * The prefix of the names of threads used by the default event executor.
+	 */
+	private static final String DEFAULT_EVENT_EXECUTOR_THREAD_NAME_PREFIX = "sparkle-event-executor-";
+	/**
+	 * The prefix of the names of threads used by the default scheduler.
+	 */
+	private static final String DEFAULT_SCHEDULER_THREAD_NAME_PREFIX = "sparkle-event-scheduler-";
+	/**
+	 * The minimal amount of threads used by the default scheduler.
+	 */
+	private static final int DEFAULT_SCHEDULER_THREADS_MIN = 2;
+	/**
+	 * The executor that executes the events of all delayed event executors,
+	 * lazily created.
+	 */
+	private static ExecutorService defaultEventExecutor;
+	/**
+	 * The scheduler shared by all executors, lazily created.
+	 */
+	private static ScheduledExecutorService defaultScheduler;
+
+	/**
+	 * Creates a new scheduler that uses the given amount of daemon threads.
+	 * 
+	 * @param threads
+	 *            The amount of threads the scheduler uses
+	 * @return The created scheduler
+	 */
+	public static ScheduledExecutorService createScheduler(final int threads) {
+		final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(threads,
+				new SchedulerThreadFactory(DEFAULT_SCHEDULER_THREAD_NAME_PREFIX));
+		// Do not keep cancelled tasks until their delay has passed
+		scheduler.setRemoveOnCancelPolicy(true);
+		return scheduler;
+	}
+
+	/**
+	 * Gets the executor that executes the events of all delayed event executors
+	 * which were not given an executor explicitly. It is created on the first
+	 * call and starts daemon threads on demand, which are reused and end after
+	 * being idle for a while. Thus it does not need to be shut down.
+	 * 
+	 * @return The shared default event executor
+	 */
+	public static synchronized ExecutorService getDefaultEventExecutor() {
+		if (defaultEventExecutor == null) {
+			defaultEventExecutor = Executors
+					.newCachedThreadPool(new SchedulerThreadFactory(DEFAULT_EVENT_EXECUTOR_THREAD_NAME_PREFIX));
+		}
+		return defaultEventExecutor;
+	}
+
+	/**
+	 * Gets the scheduler that is shared by all executors which were not given a
+	 * scheduler explicitly. It is created on the first call and uses daemon
+	 * threads, thus it does not need to be shut down.
+	 * 
+	 * @return The shared default scheduler
+	 */
+	public static synchronized ScheduledExecutorService getDefaultScheduler() {
+		if (defaultScheduler == null) {
+			final int threads = Math.max(DEFAULT_SCHEDULER_THREADS_MIN, Runtime.getRuntime().availableProcessors());
+			defaultScheduler = createScheduler(threads);
+		}
+		return defaultScheduler;
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private SharedEventScheduler() {
+
+	}
+}
@@ -0,0 +1,63 @@
+package de.zabuza.sparkle.webdriver;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Map of the anchors of a document that tells which of them are bot traps. It
+ * is computed once, when a frame loads, to avoid examining each anchor before
+ * interacting with it. Elements are identified by the ids the web driver uses
+ * for them. As ids of elements from other documents are not covered, a map
+ * never gives answers about elements of a reloaded document.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class TrapMap {
+	/**
+	 * The ids of all anchors covered by this map.
+	 */
+	private final Set<String> mAnchorIds;
+	/**
+	 * The ids of all anchors that are bot traps.
+	 */
+	private final Set<String> mTrapIds;
+
+	/**
+	 * Creates a new trap map.
+	 * 
+	 * @param anchorIds
+	 *            The ids of all anchors of the document
+	 * @param trapIds
+	 *            The ids of all anchors of the document that are bot traps
+	 */
+	public TrapMap(final Collection<String> anchorIds, final Collection<String> trapIds) {
+		this.mAnchorIds = new HashSet<>(anchorIds);
+		this.mTrapIds = new HashSet<>(trapIds);
+	}
+
+	/**
+	 * Whether the element with the given id is covered by this map.
+	 * 
+	 * @param elementId
+	 *            The id of the element
+	 * @return <tt>True</tt> if the element is covered, <tt>false</tt> otherwise
+	 */
+	public boolean covers(final String elementId) {
+		return this.mAnchorIds.contains(elementId);
+	}
+
+	/**
+	 * Whether the element with the given id is a bot trap. Only elements that
+	 * are covered by this map, see {@link #covers(String)}, can be trap elements.
+	 * 
+	 * @param elementId
+	 *            The id of the element
+	 * @return <tt>True</tt> if the element is a bot trap, <tt>false</tt> if not
+	 *         or if it is not covered by this map
+	 */
+	public boolean isTrap(final String elementId) {
+		return this.mTrapIds.contains(elementId);
+	}
+}
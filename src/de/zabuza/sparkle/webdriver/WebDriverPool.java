@@ -0,0 +1,374 @@
+package de.zabuza.sparkle.webdriver;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import de.zabuza.sparkle.webdriver.intercept.DelayInterceptor;
+
+/**
+ * Pool of started web drivers for one browser. The pool keeps a given amount
+ * of idle drivers started in the background, thus acquiring a driver does not
+ * need to wait for the browser to start. Idle drivers are kept without
+ * wrappers, each acquired driver is wrapped anew by the factory of the pool.
+ * Thus state of the wrappers, like metrics or trap maps, is never carried over
+ * to the next user. Drivers that are no longer needed can be released to the
+ * pool, which clears the cookies and the storage of all given origins in the
+ * background and reuses them. The drivers are started by background threads,
+ * calling {@link #run()} starts one driver.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class WebDriverPool implements Runnable {
+	/**
+	 * The prefix of the names of threads used to start drivers.
+	 */
+	private static final String STARTER_THREAD_NAME_PREFIX = "sparkle-driver-starter-";
+	/**
+	 * The amount of threads used to start drivers in parallel.
+	 */
+	private static final int STARTER_THREADS = 2;
+
+	/**
+	 * The browser the drivers of this pool use.
+	 */
+	private final EBrowser mBrowser;
+	/**
+	 * The factory to create drivers with.
+	 */
+	private final IWebDriverFactory mFactory;
+	/**
+	 * The page a reset driver shows while it is idle.
+	 */
+	private static final String IDLE_PAGE = "about:blank";
+
+	/**
+	 * Idle drivers that are ready to be acquired, without any wrappers. Access
+	 * is synchronized on this object.
+	 */
+	private final List<WebDriver> mIdleDrivers;
+	/**
+	 * Whether the pool was shut down. Access is synchronized on this object.
+	 */
+	private boolean mIsShutdown;
+	/**
+	 * The started drivers without wrappers of the drivers that were acquired
+	 * from this pool and not released yet, accessed by the acquired drivers. The
+	 * map does not prevent drivers that were quit by their user from being
+	 * garbage collected. Access is synchronized on this object.
+	 */
+	private final Map<WebDriver, WebDriver> mLentDrivers;
+	/**
+	 * The origins whose cookies and storage are cleared when a driver is
+	 * released.
+	 */
+	private final List<String> mOriginsToClear;
+	/**
+	 * The amount of drivers that are currently being started. Access is
+	 * synchronized on this object.
+	 */
+	private int mPendingStarts;
+	/**
+	 * The amount of idle drivers to keep started. Access is synchronized on this
+	 * object.
+	 */
+	private int mSize;
+	/**
+	 * The executor that starts and resets drivers in the background.
+	 */
+	private final ExecutorService mStarter;
+
+	/**
+	 * Creates a new pool that keeps the given amount of idle drivers started. The
+	 * drivers start in the background right away.
+	 * 
+	 * @param factory
+	 *            The factory to create drivers with
+	 * @param browser
+	 *            The browser the drivers of this pool use
+	 * @param size
+	 *            The amount of idle drivers to keep started, not negative
+	 * @param originsToClear
+	 *            The origins whose cookies and storage are cleared when a driver
+	 *            is released, for example the domains of all worlds. Each must
+	 *            be an URL the driver can navigate to.
+	 */
+	public WebDriverPool(final IWebDriverFactory factory, final EBrowser browser, final int size,
+			final List<String> originsToClear) {
+		this.mFactory = factory;
+		this.mBrowser = browser;
+		this.mOriginsToClear = new ArrayList<>(originsToClear);
+		this.mIdleDrivers = new LinkedList<>();
+		this.mLentDrivers = new WeakHashMap<>();
+		this.mStarter = Executors.newFixedThreadPool(STARTER_THREADS,
+				new SchedulerThreadFactory(STARTER_THREAD_NAME_PREFIX));
+		this.mPendingStarts = 0;
+		this.mIsShutdown = false;
+		setSize(size);
+	}
+
+	/**
+	 * Acquires a driver of this pool. An idle driver is used if present, else a
+	 * new driver is started by the calling thread. The pool starts a replacement
+	 * in the background. The driver is wrapped by the calling thread, thus the
+	 * wrappers use the current settings of the factory.
+	 * 
+	 * @return A driver that uses the browser of this pool
+	 */
+	public WebDriver acquire() {
+		WebDriver rawDriver = null;
+		synchronized (this) {
+			if (!this.mIdleDrivers.isEmpty()) {
+				rawDriver = this.mIdleDrivers.remove(0);
+			}
+			fill();
+		}
+
+		if (rawDriver == null) {
+			rawDriver = this.mFactory.startWebDriver(this.mBrowser);
+		}
+		final WebDriver driver = this.mFactory.wrapWebDriver(rawDriver);
+		synchronized (this) {
+			this.mLentDrivers.put(driver, rawDriver);
+		}
+		return driver;
+	}
+
+	/**
+	 * Gets the amount of idle drivers that are ready to be acquired.
+	 * 
+	 * @return The amount of idle drivers
+	 */
+	public synchronized int getAmountOfIdleDrivers() {
+		return this.mIdleDrivers.size();
+	}
+
+	/**
+	 * Gets the browser the drivers of this pool use.
+	 * 
+	 * @return The browser the drivers of this pool use
+	 */
+	public EBrowser getBrowser() {
+		return this.mBrowser;
+	}
+
+	/**
+	 * Gets the amount of idle drivers the pool keeps started.
+	 * 
+	 * @return The amount of idle drivers the pool keeps started
+	 */
+	public synchronized int getSize() {
+		return this.mSize;
+	}
+
+	/**
+	 * Releases the given driver, which was acquired from this pool, back to the
+	 * pool. Its wrappers are discarded and pending delayed events are
+	 * cancelled, the driver must not be used anymore. In the background, the
+	 * cookies and the storage of all origins of the pool get cleared, see
+	 * {@link #resetDriver(WebDriver)}. If the pool is full or the driver can not
+	 * be reset, it is quit instead. Drivers that were not acquired from this
+	 * pool are not accepted.
+	 * 
+	 * @param driver
+	 *            The driver to release, all events of the driver should be
+	 *            processed already
+	 * @return <tt>True</tt> if the driver was accepted by the pool,
+	 *         <tt>false</tt> if it was not acquired from this pool
+	 */
+	public boolean release(final WebDriver driver) {
+		final WebDriver rawDriver;
+		synchronized (this) {
+			rawDriver = this.mLentDrivers.remove(driver);
+			if (rawDriver == null) {
+				return false;
+			}
+		}
+
+		// The wrappers are not used anymore, stop their background execution
+		final Optional<DelayInterceptor> delayInterceptor = WebDriverUtil.getInterceptor(driver,
+				DelayInterceptor.class);
+		if (delayInterceptor.isPresent()) {
+			delayInterceptor.get().stopExecution();
+		}
+
+		try {
+			this.mStarter.execute(new PooledDriverResetTask(this, rawDriver));
+		} catch (final RejectedExecutionException e) {
+			// The pool was shut down
+			quitDriver(rawDriver);
+		}
+		return true;
+	}
+
+	/**
+	 * Starts a new driver and adds it to the idle drivers, if the pool is not
+	 * full. This method is called by the background threads of the pool and
+	 * should not be called directly.
+	 */
+	@Override
+	public void run() {
+		WebDriver driver = null;
+		try {
+			driver = this.mFactory.startWebDriver(this.mBrowser);
+		} catch (final RuntimeException e) {
+			// Log the exception, the driver will be started on demand
+			e.printStackTrace();
+		}
+
+		synchronized (this) {
+			this.mPendingStarts--;
+		}
+		if (driver != null && !offerIdleDriver(driver)) {
+			quitDriver(driver);
+		}
+	}
+
+	/**
+	 * Resets the given driver, which was released to this pool, and adds it to
+	 * the idle drivers. The driver navigates to each origin of the pool and
+	 * clears its cookies and storage there, as cookies can only be removed for
+	 * the document that is currently shown. Afterwards it shows an empty page. If
+	 * the pool is full or the driver can not be reset, it is quit instead. This
+	 * method is called by a {@link PooledDriverResetTask} on the background
+	 * threads of the pool and should not be called directly.
+	 * 
+	 * @param rawDriver
+	 *            The started driver to reset, without any wrappers
+	 */
+	void resetDriver(final WebDriver rawDriver) {
+		boolean isReset;
+		try {
+			for (final String origin : this.mOriginsToClear) {
+				rawDriver.get(origin);
+				rawDriver.manage().deleteAllCookies();
+				clearStorage(rawDriver);
+			}
+			rawDriver.get(IDLE_PAGE);
+			isReset = true;
+		} catch (final WebDriverException e) {
+			// The browser was probably closed
+			isReset = false;
+		}
+
+		if (!isReset || !offerIdleDriver(rawDriver)) {
+			quitDriver(rawDriver);
+		}
+	}
+
+	/**
+	 * Sets the amount of idle drivers to keep started. Missing drivers are
+	 * started in the background, excess drivers are quit.
+	 * 
+	 * @param size
+	 *            The amount of idle drivers to keep started, not negative
+	 */
+	public void setSize(final int size) {
+		final List<WebDriver> excessDrivers = new LinkedList<>();
+		synchronized (this) {
+			this.mSize = size;
+			while (this.mIdleDrivers.size() > size) {
+				excessDrivers.add(this.mIdleDrivers.remove(this.mIdleDrivers.size() - 1));
+			}
+			fill();
+		}
+
+		for (final WebDriver driver : excessDrivers) {
+			quitDriver(driver);
+		}
+	}
+
+	/**
+	 * Shuts the pool down and quits all idle drivers. Drivers that were acquired
+	 * and not released yet are not affected, releasing them quits them. Once
+	 * shut down, the pool should not be used anymore.
+	 */
+	public void shutdown() {
+		final List<WebDriver> idleDrivers;
+		synchronized (this) {
+			this.mIsShutdown = true;
+			idleDrivers = new LinkedList<>(this.mIdleDrivers);
+			this.mIdleDrivers.clear();
+		}
+		this.mStarter.shutdown();
+
+		for (final WebDriver driver : idleDrivers) {
+			quitDriver(driver);
+		}
+	}
+
+	/**
+	 * Clears the local and the session storage of the document the given driver
+	 * currently shows, if the driver is able to execute scripts, see
+	 * {@link Scripts#CLEAR_STORAGE}.
+	 * 
+	 * @param rawDriver
+	 *            The started driver, without any wrappers
+	 */
+	private void clearStorage(final WebDriver rawDriver) {
+		if (!(rawDriver instanceof JavascriptExecutor)) {
+			return;
+		}
+		try {
+			((JavascriptExecutor) rawDriver).executeScript(Scripts.CLEAR_STORAGE);
+		} catch (final UnsupportedOperationException e) {
+			// Scripts are disabled, thus the document can not use storage either
+		}
+	}
+
+	/**
+	 * Starts drivers in the background until the idle and the currently starting
+	 * drivers fill the pool. Must be called while holding the lock of this
+	 * object.
+	 */
+	private void fill() {
+		if (this.mIsShutdown) {
+			return;
+		}
+		while (this.mIdleDrivers.size() + this.mPendingStarts < this.mSize) {
+			this.mPendingStarts++;
+			this.mStarter.execute(this);
+		}
+	}
+
+	/**
+	 * Adds the given driver to the idle drivers if the pool is not full.
+	 * 
+	 * @param driver
+	 *            The driver to add
+	 * @return <tt>True</tt> if the driver was added, <tt>false</tt> if the pool
+	 *         is full or shut down
+	 */
+	private synchronized boolean offerIdleDriver(final WebDriver driver) {
+		if (this.mIsShutdown || this.mIdleDrivers.size() >= this.mSize) {
+			return false;
+		}
+		this.mIdleDrivers.add(driver);
+		return true;
+	}
+
+	/**
+	 * Quits the given driver, ignoring drivers whose browser was already closed.
+	 * 
+	 * @param driver
+	 *            The driver to quit
+	 */
+	private void quitDriver(final WebDriver driver) {
+		try {
+			driver.quit();
+		} catch (final WebDriverException e) {
+			// The browser was already closed
+		}
+	}
+}
@@ -0,0 +1,134 @@
+package de.zabuza.sparkle.webdriver;
+
+import java.util.Optional;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+import de.zabuza.sparkle.webdriver.intercept.DelayInterceptor;
+import de.zabuza.sparkle.webdriver.intercept.IWebInterceptor;
+import de.zabuza.sparkle.webdriver.intercept.InterceptingWebDriver;
+
+/**
+ * Utility class which offers methods useful for web drivers created by the
+ * API.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class WebDriverUtil {
+	/**
+	 * Gets the queue of delayed events used by the given web driver, if it, or a
+	 * driver it wraps, delays events.
+	 * 
+	 * @param driver
+	 *            The driver to get the delayed event queue of
+	 * @return The queue of delayed events used by the given driver, if present
+	 */
+	public static Optional<IDelayedEventQueue> getDelayedEventQueue(final WebDriver driver) {
+		final Optional<DelayInterceptor> delayInterceptor = getInterceptor(driver, DelayInterceptor.class);
+		if (delayInterceptor.isPresent()) {
+			return Optional.of(delayInterceptor.get().getEventQueue());
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Gets the id the underlying remote driver uses for the given element, if
+	 * the element is, or wraps, a {@link RemoteWebElement}.
+	 * 
+	 * @param element
+	 *            The element to get the id of
+	 * @return The id of the given element, if present
+	 */
+	public static Optional<String> getElementId(final WebElement element) {
+		WebElement rawElement = element;
+		// Search the remote web element
+		while (!(rawElement instanceof RemoteWebElement) && rawElement instanceof WrapsElement) {
+			rawElement = ((WrapsElement) rawElement).getWrappedElement();
+		}
+
+		if (rawElement instanceof RemoteWebElement) {
+			return Optional.ofNullable(((RemoteWebElement) rawElement).getId());
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Gets the first interceptor of the given type used by the given web driver,
+	 * if it is, or wraps, an {@link InterceptingWebDriver}.
+	 * 
+	 * @param <T>
+	 *            The type of the interceptor
+	 * @param driver
+	 *            The driver to get the interceptor of
+	 * @param interceptorType
+	 *            The class of the type of the interceptor
+	 * @return The interceptor used by the given driver, if present
+	 */
+	public static <T extends IWebInterceptor> Optional<T> getInterceptor(final WebDriver driver,
+			final Class<T> interceptorType) {
+		final Optional<InterceptingWebDriver> interceptingDriver = getWrappedDriver(driver,
+				InterceptingWebDriver.class);
+		if (interceptingDriver.isPresent()) {
+			return interceptingDriver.get().getInterceptor(interceptorType);
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Gets an executor for scripts that uses the given web driver, if it is, or
+	 * wraps, a driver that is able to execute scripts. If the driver is, or
+	 * wraps, an {@link InterceptingWebDriver}, the scripts pass through its
+	 * chain of interceptors.
+	 * 
+	 * @param driver
+	 *            The driver to get the script executor of
+	 * @return The script executor of the given driver, if present
+	 */
+	public static Optional<JavascriptExecutor> getJavascriptExecutor(final WebDriver driver) {
+		// Prefer the intercepting driver, such that scripts pass through its chain
+		final Optional<InterceptingWebDriver> interceptingDriver = getWrappedDriver(driver,
+				InterceptingWebDriver.class);
+		if (interceptingDriver.isPresent()) {
+			if (!getWrappedDriver(interceptingDriver.get().getRawDriver(), JavascriptExecutor.class).isPresent()) {
+				return Optional.empty();
+			}
+			return Optional.of(interceptingDriver.get());
+		}
+		return getWrappedDriver(driver, JavascriptExecutor.class);
+	}
+
+	/**
+	 * Gets the driver of the given type which is used by the given web driver, by
+	 * unwrapping it until a driver of the type is found.
+	 * 
+	 * @param driver
+	 *            The driver to search in
+	 * @param driverType
+	 *            The type of the driver to search
+	 * @return The driver of the given type used by the given driver, if present
+	 */
+	private static <T> Optional<T> getWrappedDriver(final WebDriver driver, final Class<T> driverType) {
+		WebDriver rawDriver = driver;
+		// Search the driver of the given type
+		while (!driverType.isInstance(rawDriver) && rawDriver instanceof IWrapsWebDriver) {
+			rawDriver = ((IWrapsWebDriver) rawDriver).getRawDriver();
+		}
+
+		if (driverType.isInstance(rawDriver)) {
+			return Optional.of(driverType.cast(rawDriver));
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private WebDriverUtil() {
+
+	}
+}
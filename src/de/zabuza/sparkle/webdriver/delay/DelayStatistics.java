@@ -0,0 +1,142 @@
+package de.zabuza.sparkle.webdriver.delay;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statistics about the delays of executed events, comparing the delays planned
+ * by an {@link IDelayPolicy} with the delays that actually occurred. The
+ * planned delay of an event is the time it should have waited after it was
+ * added or the previous event finished, whatever happened later. The actual
+ * delay is the time it waited until its execution started. Deviations are
+ * caused by busy schedulers and by urgent events that interrupt a delay. The
+ * statistics are thread-safe.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class DelayStatistics {
+
+	/**
+	 * The amount of recorded events.
+	 */
+	private long mAmountOfEvents;
+	/**
+	 * The maximal absolute deviation between the actual and the planned delay
+	 * of an event, in nanoseconds.
+	 */
+	private long mMaxDeviation;
+	/**
+	 * The sum of all actual delays, in nanoseconds.
+	 */
+	private long mTotalActualDelay;
+	/**
+	 * The sum of all planned delays, in nanoseconds.
+	 */
+	private long mTotalPlannedDelay;
+
+	/**
+	 * Creates new empty statistics.
+	 */
+	public DelayStatistics() {
+		reset();
+	}
+
+	/**
+	 * Gets the amount of recorded events.
+	 * 
+	 * @return The amount of recorded events
+	 */
+	public synchronized long getAmountOfEvents() {
+		return this.mAmountOfEvents;
+	}
+
+	/**
+	 * Gets the average actual delay of the recorded events.
+	 * 
+	 * @return The average actual delay in milliseconds or <tt>0</tt> if no
+	 *         events were recorded
+	 */
+	public synchronized double getAverageActualDelay() {
+		return getAverageInMillis(this.mTotalActualDelay);
+	}
+
+	/**
+	 * Gets the average planned delay of the recorded events.
+	 * 
+	 * @return The average planned delay in milliseconds or <tt>0</tt> if no
+	 *         events were recorded
+	 */
+	public synchronized double getAveragePlannedDelay() {
+		return getAverageInMillis(this.mTotalPlannedDelay);
+	}
+
+	/**
+	 * Gets the maximal absolute deviation between the actual and the planned
+	 * delay of a recorded event.
+	 * 
+	 * @return The maximal deviation in milliseconds
+	 */
+	public synchronized long getMaximalDeviation() {
+		return TimeUnit.NANOSECONDS.toMillis(this.mMaxDeviation);
+	}
+
+	/**
+	 * Records the delays of an executed event.
+	 * 
+	 * @param plannedDelay
+	 *            The planned delay of the event in nanoseconds
+	 * @param actualDelay
+	 *            The actual delay of the event in nanoseconds
+	 */
+	public synchronized void record(final long plannedDelay, final long actualDelay) {
+		this.mAmountOfEvents++;
+		this.mTotalPlannedDelay += plannedDelay;
+		this.mTotalActualDelay += actualDelay;
+		this.mMaxDeviation = Math.max(this.mMaxDeviation, Math.abs(actualDelay - plannedDelay));
+	}
+
+	/**
+	 * Resets the statistics by removing all recorded events.
+	 */
+	public synchronized void reset() {
+		this.mAmountOfEvents = 0;
+		this.mMaxDeviation = 0;
+		this.mTotalActualDelay = 0;
+		this.mTotalPlannedDelay = 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public synchronized String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("DelayStatistics [amountOfEvents=");
+		builder.append(this.mAmountOfEvents);
+		builder.append(", averagePlannedDelay=");
+		builder.append(getAveragePlannedDelay());
+		builder.append(", averageActualDelay=");
+		builder.append(getAverageActualDelay());
+		builder.append(", maximalDeviation=");
+		builder.append(getMaximalDeviation());
+		builder.append("]");
+		return builder.toString();
+	}
+
+	/**
+	 * Gets the average of the given total over all recorded events.
+	 * 
+	 * @param total
+	 *            The total in nanoseconds
+	 * @return The average in milliseconds or <tt>0</tt> if no events were
+	 *         recorded
+	 */
+	private double getAverageInMillis(final long total) {
+		if (this.mAmountOfEvents == 0) {
+			return 0;
+		}
+		return total / (double) this.mAmountOfEvents / TimeUnit.MILLISECONDS.toNanos(1);
+	}
+}
@@ -0,0 +1,40 @@
+package de.zabuza.sparkle.webdriver.delay;
+
+import de.zabuza.sparkle.webdriver.event.IDelayableEvent;
+
+/**
+ * Policy that uses the same delay for all events. It is suited for events that
+ * do not need to disguise human behavior, like loading a page by its URL.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class FixedDelayPolicy implements IDelayPolicy {
+
+	/**
+	 * The delay in milliseconds used for all events.
+	 */
+	private final long mDelay;
+
+	/**
+	 * Creates a new policy that uses the given delay for all events.
+	 * 
+	 * @param delay
+	 *            The delay in milliseconds used for all events, not negative
+	 */
+	public FixedDelayPolicy(final long delay) {
+		this.mDelay = delay;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.delay.IDelayPolicy#getDelay(de.zabuza.sparkle.
+	 * webdriver.event.IDelayableEvent)
+	 */
+	@Override
+	public long getDelay(final IDelayableEvent event) {
+		return this.mDelay;
+	}
+}
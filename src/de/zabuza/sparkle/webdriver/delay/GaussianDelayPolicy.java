@@ -0,0 +1,116 @@
+package de.zabuza.sparkle.webdriver.delay;
+
+import java.util.Random;
+
+import de.zabuza.sparkle.webdriver.event.EEventPriority;
+import de.zabuza.sparkle.webdriver.event.IDelayableEvent;
+
+/**
+ * Policy that generates human-like delays by a normal distribution function.
+ * Each delay consists of a standard delay, upon that a random delay between
+ * zero and a maximal value is added. Whereas the random delay has a given
+ * standard deviation, thus about 75% of all random delays are between zero and
+ * the standard deviation. Events with priority {@link EEventPriority#URGENT}
+ * only wait the standard delay.<br>
+ * <br>
+ * By default the standard delay is {@link #STANDARD_DELAY}, the standard
+ * deviation is {@link #RND_DELAY_AVERAGE} and the maximal random delay is
+ * {@link #RND_DELAY_MAX}.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class GaussianDelayPolicy implements IDelayPolicy {
+
+	/**
+	 * The default standard deviation of the normal distribution function. Thus
+	 * about 75% of all random delays are between zero and this value.
+	 */
+	public final static long RND_DELAY_AVERAGE = 1_500;
+	/**
+	 * The default maximal delay of the normal distribution function.
+	 */
+	public final static long RND_DELAY_MAX = 5_000;
+	/**
+	 * The default standard delay which is added to all delays.
+	 */
+	public final static long STANDARD_DELAY = 100;
+
+	/**
+	 * The standard deviation of the normal distribution function.
+	 */
+	private final long mRandomDelayAverage;
+	/**
+	 * The maximal delay of the normal distribution function.
+	 */
+	private final long mRandomDelayMax;
+	/**
+	 * The random generator used for generating delays.
+	 */
+	private final Random mRnd;
+	/**
+	 * The standard delay which is added to all delays.
+	 */
+	private final long mStandardDelay;
+
+	/**
+	 * Creates a new policy that uses the default values {@link #STANDARD_DELAY},
+	 * {@link #RND_DELAY_AVERAGE} and {@link #RND_DELAY_MAX}.
+	 */
+	public GaussianDelayPolicy() {
+		this(STANDARD_DELAY, RND_DELAY_AVERAGE, RND_DELAY_MAX);
+	}
+
+	/**
+	 * Creates a new policy that uses the given values.
+	 * 
+	 * @param standardDelay
+	 *            The standard delay in milliseconds which is added to all delays
+	 * @param randomDelayAverage
+	 *            The standard deviation of the random delay in milliseconds. Thus
+	 *            about 75% of all random delays are between zero and this value.
+	 * @param randomDelayMax
+	 *            The maximal random delay in milliseconds
+	 */
+	public GaussianDelayPolicy(final long standardDelay, final long randomDelayAverage, final long randomDelayMax) {
+		this.mStandardDelay = standardDelay;
+		this.mRandomDelayAverage = randomDelayAverage;
+		this.mRandomDelayMax = randomDelayMax;
+		this.mRnd = new Random();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.delay.IDelayPolicy#getDelay(de.zabuza.sparkle.
+	 * webdriver.event.IDelayableEvent)
+	 */
+	@Override
+	public long getDelay(final IDelayableEvent event) {
+		if (event.getPriority() == EEventPriority.URGENT) {
+			return this.mStandardDelay;
+		}
+		return this.mStandardDelay + getRandomDelay();
+	}
+
+	/**
+	 * Generates a random delay using a normal distribution function.
+	 * 
+	 * @return A random delay in milliseconds between zero and the maximal random
+	 *         delay. Where the average random delay is the standard deviation,
+	 *         thus about 75% of all generated values are between zero and the
+	 *         average random delay.
+	 */
+	private long getRandomDelay() {
+		// Generate gaussd(min(|x|, max), 0, average) with gaussd(x, mean, sigma)
+		// being the gaussian distribution. This returns a number in [0, max]
+		// with average being the standard deviation where [0, average] has a
+		// percentage of about 75%.
+		final double gaussian = Math.abs(this.mRnd.nextGaussian());
+		final double deviation = gaussian * this.mRandomDelayAverage;
+		final long delay = (long) Math.floor(Math.min(deviation, this.mRandomDelayMax));
+
+		return delay;
+	}
+}
@@ -0,0 +1,23 @@
+package de.zabuza.sparkle.webdriver.delay;
+
+import de.zabuza.sparkle.webdriver.event.IDelayableEvent;
+
+/**
+ * Interface for policies that determine how long a delayed event queue waits
+ * before executing an event.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public interface IDelayPolicy {
+	/**
+	 * Gets the delay to wait, after the previous event has finished, before the
+	 * given event gets executed. The method is called once for each scheduled
+	 * execution and may return different values for subsequent calls.
+	 * 
+	 * @param event
+	 *            The event to get the delay for
+	 * @return The delay in milliseconds, not negative
+	 */
+	public long getDelay(final IDelayableEvent event);
+}
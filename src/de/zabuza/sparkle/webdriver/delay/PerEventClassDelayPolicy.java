@@ -0,0 +1,77 @@
+package de.zabuza.sparkle.webdriver.delay;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import de.zabuza.sparkle.webdriver.event.IDelayableEvent;
+import de.zabuza.sparkle.webdriver.event.PrioritizedEvent;
+
+/**
+ * Policy that delegates to different policies depending on the class of the
+ * event. This allows, for example, short delays for navigation events and
+ * human-like delays for clicks. Events whose class has no registered policy
+ * use the default policy. The class of a {@link PrioritizedEvent} is the class
+ * of the event it wraps.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class PerEventClassDelayPolicy implements IDelayPolicy {
+
+	/**
+	 * The policy used for events whose class has no registered policy.
+	 */
+	private final IDelayPolicy mDefaultPolicy;
+	/**
+	 * The registered policies by the class of the events they are used for.
+	 * Access is synchronized on this object.
+	 */
+	private final Map<Class<? extends IDelayableEvent>, IDelayPolicy> mEventClassToPolicy;
+
+	/**
+	 * Creates a new policy that uses the given policy for all events until other
+	 * policies are registered using {@link #setPolicy(Class, IDelayPolicy)}.
+	 * 
+	 * @param defaultPolicy
+	 *            The policy used for events whose class has no registered policy
+	 */
+	public PerEventClassDelayPolicy(final IDelayPolicy defaultPolicy) {
+		this.mDefaultPolicy = defaultPolicy;
+		this.mEventClassToPolicy = new HashMap<>();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.delay.IDelayPolicy#getDelay(de.zabuza.sparkle.
+	 * webdriver.event.IDelayableEvent)
+	 */
+	@Override
+	public long getDelay(final IDelayableEvent event) {
+		final IDelayableEvent rawEvent = PrioritizedEvent.unwrap(event);
+
+		IDelayPolicy policy;
+		synchronized (this) {
+			policy = this.mEventClassToPolicy.get(rawEvent.getClass());
+		}
+		if (policy == null) {
+			policy = this.mDefaultPolicy;
+		}
+		// Pass the original event to keep its priority
+		return policy.getDelay(event);
+	}
+
+	/**
+	 * Registers the policy to use for events of the given class, replacing a
+	 * previously registered policy.
+	 * 
+	 * @param eventClass
+	 *            The class of the events to use the policy for
+	 * @param policy
+	 *            The policy to use for events of the given class
+	 */
+	public synchronized void setPolicy(final Class<? extends IDelayableEvent> eventClass, final IDelayPolicy policy) {
+		this.mEventClassToPolicy.put(eventClass, policy);
+	}
+}
@@ -0,0 +1,70 @@
+package de.zabuza.sparkle.webdriver.delay;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import de.zabuza.sparkle.locale.ErrorMessages;
+import de.zabuza.sparkle.webdriver.event.EEventPriority;
+import de.zabuza.sparkle.webdriver.event.IDelayableEvent;
+
+/**
+ * Policy that targets a throughput budget given in actions per minute. The
+ * delays are uniformly distributed around the interval given by the budget,
+ * thus on average the amount of actions per minute does not exceed the budget.
+ * As the execution time of events adds up to the delays, the actual throughput
+ * is slightly lower. Events with priority {@link EEventPriority#URGENT} do not
+ * count against the budget and are not delayed.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class ThroughputDelayPolicy implements IDelayPolicy {
+
+	/**
+	 * The relative amount by which delays deviate from the interval given by the
+	 * budget, in both directions.
+	 */
+	private static final double INTERVAL_JITTER = 0.5;
+
+	/**
+	 * The interval between two actions in milliseconds given by the budget.
+	 */
+	private final double mInterval;
+	/**
+	 * The random generator used for generating delays.
+	 */
+	private final Random mRnd;
+
+	/**
+	 * Creates a new policy that targets the given amount of actions per minute.
+	 * 
+	 * @param actionsPerMinute
+	 *            The amount of actions per minute to target, must be positive
+	 * @throws IllegalArgumentException
+	 *             If the given amount of actions per minute is not positive
+	 */
+	public ThroughputDelayPolicy(final double actionsPerMinute) throws IllegalArgumentException {
+		if (actionsPerMinute <= 0) {
+			throw new IllegalArgumentException(ErrorMessages.ACTIONS_PER_MINUTE_ILLEGAL);
+		}
+		this.mInterval = TimeUnit.MINUTES.toMillis(1) / actionsPerMinute;
+		this.mRnd = new Random();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.delay.IDelayPolicy#getDelay(de.zabuza.sparkle.
+	 * webdriver.event.IDelayableEvent)
+	 */
+	@Override
+	public long getDelay(final IDelayableEvent event) {
+		if (event.getPriority() == EEventPriority.URGENT) {
+			return 0;
+		}
+		// Uniformly distributed in [1 - jitter, 1 + jitter] times the interval
+		final double factor = 1 + INTERVAL_JITTER * (2 * this.mRnd.nextDouble() - 1);
+		return (long) Math.floor(this.mInterval * factor);
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * This package contains policies that determine the delays between events of
+ * delayed event queues and statistics about those delays.
+ */
+package de.zabuza.sparkle.webdriver.delay;
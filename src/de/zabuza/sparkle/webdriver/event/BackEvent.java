@@ -12,8 +12,7 @@ import org.openqa.selenium.WebDriver.Navigation;
 public final class BackEvent implements IDelayableEvent {
 
 	/**
-	 * Object to use for navigation, should not be an instance of
-	 * {@link de.zabuza.sparkle.webdriver.DelayedNavigation DelayedNavigation}.
+	 * Object to use for navigation.
 	 */
 	private final Navigation mNavigation;
 
@@ -21,9 +20,7 @@ public final class BackEvent implements IDelayableEvent {
 	 * Creates a new instance of this object using a given navigation object.
 	 * 
 	 * @param navigation
-	 *            Object to use for navigation, should not be an instance of
-	 *            {@link de.zabuza.sparkle.webdriver.DelayedNavigation
-	 *            DelayedNavigation}.
+	 *            Object to use for navigation.
 	 */
 	public BackEvent(final Navigation navigation) {
 		this.mNavigation = navigation;
@@ -12,8 +12,7 @@ import org.openqa.selenium.WebElement;
 public final class ClickEvent implements IDelayableEvent {
 
 	/**
-	 * Web element to click, should not be an instance of
-	 * {@link de.zabuza.sparkle.webdriver.DelayedWebElement DelayedWebElement}.
+	 * Web element to click.
 	 */
 	private final WebElement mElement;
 
@@ -21,9 +20,7 @@ public final class ClickEvent implements IDelayableEvent {
 	 * Creates a new instance of this object with a given web element.
 	 * 
 	 * @param element
-	 *            Element to click, should not be an instance of
-	 *            {@link de.zabuza.sparkle.webdriver.DelayedWebElement
-	 *            DelayedWebElement}.
+	 *            Element to click.
 	 */
 	public ClickEvent(final WebElement element) {
 		this.mElement = element;
@@ -0,0 +1,31 @@
+package de.zabuza.sparkle.webdriver.event;
+
+/**
+ * Priorities of delayable events. Each priority represents a lane of a delayed
+ * event queue, events of more urgent lanes skip the events of less urgent
+ * lanes. The priorities are declared from the most to the least urgent one.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public enum EEventPriority {
+	/**
+	 * Priority for critical actions, like healing or escaping, which need a
+	 * bounded reaction time. Urgent events skip all other events and do not wait
+	 * for the random delay. Actions of a thread are issued as urgent events
+	 * while an urgent {@link de.zabuza.sparkle.webdriver.PriorityScope
+	 * PriorityScope} is active. They still wait for the queued events if they
+	 * need to switch to another frame, as queued events act on the current
+	 * frame.
+	 */
+	URGENT,
+	/**
+	 * Priority for regular actions, used by default.
+	 */
+	NORMAL,
+	/**
+	 * Priority for routine actions which are only executed if there are no other
+	 * events pending.
+	 */
+	LOW;
+}
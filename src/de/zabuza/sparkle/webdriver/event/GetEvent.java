@@ -16,8 +16,7 @@ public final class GetEvent implements IDelayableEvent {
 	 */
 	private final String mUrl;
 	/**
-	 * Web driver to use for the get request, should not be an instance of
-	 * {@link de.zabuza.sparkle.webdriver.DelayedWebDriver DelayedWebDriver}.
+	 * Web driver to use for the get request.
 	 */
 	private final WebDriver mWebDriver;
 
@@ -25,9 +24,7 @@ public final class GetEvent implements IDelayableEvent {
 	 * Creates a new instance of this object using a given web driver and URL.
 	 * 
 	 * @param driver
-	 *            Driver to use for the get request, should not be an instance of
-	 *            {@link de.zabuza.sparkle.webdriver.DelayedWebDriver
-	 *            DelayedWebDriver}.
+	 *            Driver to use for the get request.
 	 * @param url
 	 *            URL to get
 	 */
@@ -0,0 +1,26 @@
+package de.zabuza.sparkle.webdriver.event;
+
+/**
+ * Interface for rules that decide whether an event which gets added to a
+ * delayed event queue is made obsolete by an event that is already pending. An
+ * obsolete event is not executed, instead it shares the completion of the
+ * pending event.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public interface ICoalescingRule {
+	/**
+	 * Whether the given added event is made obsolete by the given pending event.
+	 * The pending event is the event that would be executed directly before the
+	 * added event.
+	 * 
+	 * @param pendingEvent
+	 *            The event that is already pending for execution
+	 * @param addedEvent
+	 *            The event that gets added
+	 * @return <tt>True</tt> if the added event can be dropped in favor of the
+	 *         pending event, <tt>false</tt> if not
+	 */
+	public boolean canCoalesce(final IDelayableEvent pendingEvent, final IDelayableEvent addedEvent);
+}
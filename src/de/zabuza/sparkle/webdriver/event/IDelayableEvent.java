@@ -12,4 +12,15 @@ public interface IDelayableEvent {
 	 * Executes this event.
 	 */
 	public abstract void execute();
+
+	/**
+	 * Gets the priority of this event which determines the lane the event is
+	 * queued in. By default events have the priority
+	 * {@link EEventPriority#NORMAL}.
+	 * 
+	 * @return The priority of this event
+	 */
+	public default EEventPriority getPriority() {
+		return EEventPriority.NORMAL;
+	}
 }
@@ -0,0 +1,61 @@
+package de.zabuza.sparkle.webdriver.event;
+
+import java.util.Optional;
+
+/**
+ * Rule that coalesces navigation events which have the same effect when
+ * executed back to back. A {@link RefreshEvent} is coalesced with a directly
+ * pending refresh, a {@link GetEvent}, {@link ToStringEvent} or
+ * {@link ToUrlEvent} is coalesced with a directly pending event of those types
+ * that targets the same URL. As all events of a queue belong to the same
+ * browser, the navigation objects of the events are not compared. Events
+ * wrapped by a {@link PrioritizedEvent} are compared by the event they wrap.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class NavigationCoalescingRule implements ICoalescingRule {
+
+	/**
+	 * Gets the URL targeted by the given event if it is an event that loads an
+	 * URL.
+	 * 
+	 * @param event
+	 *            The event to get the targeted URL of
+	 * @return The URL targeted by the given event if it loads an URL
+	 */
+	private static Optional<String> getTargetUrl(final IDelayableEvent event) {
+		if (event instanceof GetEvent) {
+			return Optional.ofNullable(((GetEvent) event).getUrl());
+		}
+		if (event instanceof ToStringEvent) {
+			return Optional.ofNullable(((ToStringEvent) event).getUrl());
+		}
+		if (event instanceof ToUrlEvent) {
+			// Do not use URL#equals as it resolves host names
+			return Optional.ofNullable(((ToUrlEvent) event).getUrl().toExternalForm());
+		}
+		return Optional.empty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.event.ICoalescingRule#canCoalesce(de.zabuza.
+	 * sparkle.webdriver.event.IDelayableEvent,
+	 * de.zabuza.sparkle.webdriver.event.IDelayableEvent)
+	 */
+	@Override
+	public boolean canCoalesce(final IDelayableEvent pendingEvent, final IDelayableEvent addedEvent) {
+		final IDelayableEvent rawPendingEvent = PrioritizedEvent.unwrap(pendingEvent);
+		final IDelayableEvent rawAddedEvent = PrioritizedEvent.unwrap(addedEvent);
+		if (rawPendingEvent instanceof RefreshEvent && rawAddedEvent instanceof RefreshEvent) {
+			return true;
+		}
+
+		final Optional<String> pendingUrl = getTargetUrl(rawPendingEvent);
+		return pendingUrl.isPresent() && pendingUrl.equals(getTargetUrl(rawAddedEvent));
+	}
+
+}
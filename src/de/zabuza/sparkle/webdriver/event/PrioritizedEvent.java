@@ -0,0 +1,82 @@
+package de.zabuza.sparkle.webdriver.event;
+
+/**
+ * Delayable event that executes a given event with a given priority. It can be
+ * used to queue any event, for example a {@link ClickEvent}, in another lane
+ * than the lane given by its own priority.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class PrioritizedEvent implements IDelayableEvent {
+
+	/**
+	 * Gets the event that is executed by the given event, unwrapping prioritized
+	 * events until the wrapped event is reached.
+	 *
+	 * @param event
+	 *            The event to unwrap
+	 * @return The event that is wrapped by the given event or the given event
+	 *         itself if it is no prioritized event
+	 */
+	public static IDelayableEvent unwrap(final IDelayableEvent event) {
+		IDelayableEvent rawEvent = event;
+		while (rawEvent instanceof PrioritizedEvent) {
+			rawEvent = ((PrioritizedEvent) rawEvent).getEvent();
+		}
+		return rawEvent;
+	}
+
+	/**
+	 * Event to execute.
+	 */
+	private final IDelayableEvent mEvent;
+	/**
+	 * The priority of the event.
+	 */
+	private final EEventPriority mPriority;
+
+	/**
+	 * Creates a new instance of this object that executes a given event with a
+	 * given priority.
+	 * 
+	 * @param event
+	 *            Event to execute
+	 * @param priority
+	 *            The priority to execute the event with
+	 */
+	public PrioritizedEvent(final IDelayableEvent event, final EEventPriority priority) {
+		this.mEvent = event;
+		this.mPriority = priority;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.webdriver.event.IDelayableEvent#execute()
+	 */
+	@Override
+	public void execute() {
+		this.mEvent.execute();
+	}
+
+	/**
+	 * Gets the event to execute.
+	 * 
+	 * @return The event to execute
+	 */
+	public IDelayableEvent getEvent() {
+		return this.mEvent;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.webdriver.event.IDelayableEvent#getPriority()
+	 */
+	@Override
+	public EEventPriority getPriority() {
+		return this.mPriority;
+	}
+
+}
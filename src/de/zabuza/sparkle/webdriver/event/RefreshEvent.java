@@ -12,8 +12,7 @@ import org.openqa.selenium.WebDriver.Navigation;
 public final class RefreshEvent implements IDelayableEvent {
 
 	/**
-	 * Object to use for the refresh, should not be an instance of
-	 * {@link de.zabuza.sparkle.webdriver.DelayedNavigation DelayedNavigation}.
+	 * Object to use for the refresh.
 	 */
 	private final Navigation mNavigation;
 
@@ -21,9 +20,7 @@ public final class RefreshEvent implements IDelayableEvent {
 	 * Creates a new instance of this object using a given navigation object.
 	 * 
 	 * @param navigation
-	 *            Object to use for the refresh, should not be an instance of
-	 *            {@link de.zabuza.sparkle.webdriver.DelayedNavigation
-	 *            DelayedNavigation}.
+	 *            Object to use for the refresh.
 	 */
 	public RefreshEvent(final Navigation navigation) {
 		this.mNavigation = navigation;
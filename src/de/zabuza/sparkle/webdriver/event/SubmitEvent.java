@@ -12,8 +12,7 @@ import org.openqa.selenium.WebElement;
 public final class SubmitEvent implements IDelayableEvent {
 
 	/**
-	 * Web element to submit, should not be an instance of
-	 * {@link de.zabuza.sparkle.webdriver.DelayedWebElement DelayedWebElement}.
+	 * Web element to submit.
 	 */
 	private final WebElement mElement;
 
@@ -21,9 +20,7 @@ public final class SubmitEvent implements IDelayableEvent {
 	 * Creates a new instance of this object with a given web element.
 	 * 
 	 * @param element
-	 *            Element to submit, should not be an instance of
-	 *            {@link de.zabuza.sparkle.webdriver.DelayedWebElement
-	 *            DelayedWebElement}.
+	 *            Element to submit.
 	 */
 	public SubmitEvent(final WebElement element) {
 		this.mElement = element;
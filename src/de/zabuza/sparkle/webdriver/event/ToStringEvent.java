@@ -12,8 +12,7 @@ import org.openqa.selenium.WebDriver.Navigation;
 public final class ToStringEvent implements IDelayableEvent {
 
 	/**
-	 * Object to use for navigation, should not be an instance of
-	 * {@link de.zabuza.sparkle.webdriver.DelayedNavigation DelayedNavigation}.
+	 * Object to use for navigation.
 	 */
 	private final Navigation mNavigation;
 	/**
@@ -25,9 +24,7 @@ public final class ToStringEvent implements IDelayableEvent {
 	 * Creates a new instance of this object using a given navigation object.
 	 * 
 	 * @param navigation
-	 *            Object to use for navigation, should not be an instance of
-	 *            {@link de.zabuza.sparkle.webdriver.DelayedNavigation
-	 *            DelayedNavigation}.
+	 *            Object to use for navigation.
 	 * @param url
 	 *            URl to navigate to
 	 */
@@ -46,4 +43,13 @@ public final class ToStringEvent implements IDelayableEvent {
 		this.mNavigation.to(this.mUrl);
 	}
 
+	/**
+	 * Gets the URL to navigate to.
+	 * 
+	 * @return The URL to navigate to
+	 */
+	public String getUrl() {
+		return this.mUrl;
+	}
+
 }
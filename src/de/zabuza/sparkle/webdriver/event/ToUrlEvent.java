@@ -14,8 +14,7 @@ import org.openqa.selenium.WebDriver.Navigation;
 public final class ToUrlEvent implements IDelayableEvent {
 
 	/**
-	 * Object to use for navigation, should not be an instance of
-	 * {@link de.zabuza.sparkle.webdriver.DelayedNavigation DelayedNavigation}.
+	 * Object to use for navigation.
 	 */
 	private final Navigation mNavigation;
 	/**
@@ -27,9 +26,7 @@ public final class ToUrlEvent implements IDelayableEvent {
 	 * Creates a new instance of this object using a given navigation object.
 	 * 
 	 * @param navigation
-	 *            Object to use for navigation, should not be an instance of
-	 *            {@link de.zabuza.sparkle.webdriver.DelayedNavigation
-	 *            DelayedNavigation}.
+	 *            Object to use for navigation.
 	 * @param url
 	 *            URl to navigate to
 	 */
@@ -48,4 +45,13 @@ public final class ToUrlEvent implements IDelayableEvent {
 		this.mNavigation.to(this.mUrl);
 	}
 
+	/**
+	 * Gets the URL to navigate to.
+	 * 
+	 * @return The URL to navigate to
+	 */
+	public URL getUrl() {
+		return this.mUrl;
+	}
+
 }
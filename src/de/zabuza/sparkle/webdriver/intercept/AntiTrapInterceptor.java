@@ -0,0 +1,315 @@
+package de.zabuza.sparkle.webdriver.intercept;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import de.zabuza.sparkle.jfr.FlightEvents;
+import de.zabuza.sparkle.jfr.ITrapRejectionEvent;
+import de.zabuza.sparkle.webdriver.Scripts;
+import de.zabuza.sparkle.webdriver.TrapElementException;
+import de.zabuza.sparkle.webdriver.TrapMap;
+import de.zabuza.sparkle.webdriver.WebDriverUtil;
+
+/**
+ * Interceptor that executes events on elements only if they do not lead into
+ * bot traps. Elements are examined by one injected script if the driver is able
+ * to execute scripts, else the element is asked whether it is displayed and
+ * enabled. Optionally the examination can also perform the action itself, see
+ * {@link #setScriptActionsEnabled(boolean)}, and trap maps can be computed for
+ * frames once they load, see {@link #setTrapMapsEnabled(boolean)}. Elements
+ * covered by a trap map are not examined at all. Rejected operations are
+ * recorded as {@link ITrapRejectionEvent} by the flight recorder.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class AntiTrapInterceptor implements IWebInterceptor {
+
+	/**
+	 * Examines the given element by asking whether it is displayed and enabled
+	 * and ensures that it is no bot trap.
+	 * 
+	 * @param element
+	 *            The element to examine
+	 * @throws TrapElementException
+	 *             Thrown when the element seems to be a bot trap
+	 */
+	private static void ensureIsNoBotTrap(final WebElement element) throws TrapElementException {
+		if (!element.isDisplayed() || !element.isEnabled()) {
+			throw new TrapElementException();
+		}
+	}
+
+	/**
+	 * Gets the ids of the elements contained in the given result of a script.
+	 * 
+	 * @param elements
+	 *            A list of elements returned by a script
+	 * @return The ids of the elements contained in the list
+	 */
+	private static List<String> getElementIds(final Object elements) {
+		final List<String> elementIds = new ArrayList<>();
+		if (!(elements instanceof List)) {
+			return elementIds;
+		}
+		for (final Object element : (List<?>) elements) {
+			if (element instanceof WebElement) {
+				final Optional<String> elementId = WebDriverUtil.getElementId((WebElement) element);
+				if (elementId.isPresent()) {
+					elementIds.add(elementId.get());
+				}
+			}
+		}
+		return elementIds;
+	}
+
+	/**
+	 * Whether actions are performed by the script that examines the element.
+	 */
+	private volatile boolean mAreScriptActionsEnabled;
+	/**
+	 * Whether trap maps are computed when {@link #updateTrapMap(String)} is
+	 * called.
+	 */
+	private volatile boolean mAreTrapMapsEnabled;
+	/**
+	 * The executor for scripts of the driver, <tt>null</tt> if the driver is not
+	 * able to execute scripts.
+	 */
+	private final JavascriptExecutor mScriptExecutor;
+	/**
+	 * The trap maps of frames, identified by the name of the frame. Access is
+	 * synchronized on the map.
+	 */
+	private final Map<String, TrapMap> mTrapMaps;
+
+	/**
+	 * Creates a new interceptor that examines elements of the given driver.
+	 * 
+	 * @param driver
+	 *            The driver whose elements are examined, used for executing
+	 *            scripts
+	 */
+	public AntiTrapInterceptor(final WebDriver driver) {
+		this.mScriptExecutor = WebDriverUtil.getJavascriptExecutor(driver).orElse(null);
+		this.mTrapMaps = new HashMap<>();
+		this.mAreScriptActionsEnabled = false;
+		this.mAreTrapMapsEnabled = false;
+	}
+
+	/**
+	 * Whether actions are performed by the script that examines the element.
+	 * 
+	 * @return <tt>True</tt> if actions are performed by the script,
+	 *         <tt>false</tt> if they are performed by the driver
+	 */
+	public boolean areScriptActionsEnabled() {
+		return this.mAreScriptActionsEnabled;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.intercept.IWebInterceptor#intercept(de.zabuza.
+	 * sparkle.webdriver.intercept.Invocation)
+	 */
+	@Override
+	public Object intercept(final Invocation invocation) {
+		if (!invocation.isElementInvocation()) {
+			return invocation.proceed();
+		}
+
+		final String action;
+		switch (invocation.getOperation()) {
+		case CLEAR:
+			action = Scripts.ACTION_CLEAR;
+			break;
+		case CLICK:
+			action = Scripts.ACTION_CLICK;
+			break;
+		case SUBMIT:
+			action = Scripts.ACTION_SUBMIT;
+			break;
+		case FIND_ELEMENT:
+		case FIND_ELEMENTS:
+		case SEND_KEYS:
+			action = Scripts.ACTION_NONE;
+			break;
+		default:
+			// Reading operations can not lead into a trap
+			return invocation.proceed();
+		}
+
+		final ITrapRejectionEvent event = FlightEvents.createTrapRejectionEvent();
+		event.begin();
+		final boolean isPerformed;
+		try {
+			isPerformed = performIfNoBotTrap(invocation.getElement().getWrappedElement(), action);
+		} catch (final TrapElementException e) {
+			event.end();
+			if (event.shouldCommit()) {
+				event.setOperation(invocation.getOperation().name());
+				event.commit();
+			}
+			throw e;
+		}
+
+		if (isPerformed) {
+			return null;
+		}
+		return invocation.proceed();
+	}
+
+	/**
+	 * Looks the given element up in the trap maps of the frames.
+	 * 
+	 * @param element
+	 *            The element to look up
+	 * @return <tt>True</tt> if the element is a bot trap, <tt>false</tt> if not,
+	 *         empty if no trap map covers the element
+	 */
+	public Optional<Boolean> lookupTrap(final WebElement element) {
+		if (!this.mAreTrapMapsEnabled) {
+			return Optional.empty();
+		}
+		final Optional<String> elementId = WebDriverUtil.getElementId(element);
+		if (!elementId.isPresent()) {
+			return Optional.empty();
+		}
+
+		synchronized (this.mTrapMaps) {
+			for (final TrapMap trapMap : this.mTrapMaps.values()) {
+				if (trapMap.covers(elementId.get())) {
+					return Optional.of(Boolean.valueOf(trapMap.isTrap(elementId.get())));
+				}
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Sets whether actions, like clicks, are performed by the script that
+	 * examines the element. This saves a round trip to the browser for each
+	 * action. However, actions performed by scripts are synthetic, the browser
+	 * does not mark them as trusted user input. By default actions are performed
+	 * by the driver.
+	 * 
+	 * @param areScriptActionsEnabled
+	 *            Whether actions are performed by the script that examines the
+	 *            element
+	 */
+	public void setScriptActionsEnabled(final boolean areScriptActionsEnabled) {
+		this.mAreScriptActionsEnabled = areScriptActionsEnabled;
+	}
+
+	/**
+	 * Sets whether trap maps are computed when {@link #updateTrapMap(String)} is
+	 * called. Anchors that are covered by a trap map do not need to be examined
+	 * before interacting with them. By default trap maps are disabled.
+	 * 
+	 * @param areTrapMapsEnabled
+	 *            Whether trap maps are computed
+	 */
+	public void setTrapMapsEnabled(final boolean areTrapMapsEnabled) {
+		this.mAreTrapMapsEnabled = areTrapMapsEnabled;
+		if (!areTrapMapsEnabled) {
+			synchronized (this.mTrapMaps) {
+				this.mTrapMaps.clear();
+			}
+		}
+	}
+
+	/**
+	 * Computes the trap map of the current document, which belongs to the given
+	 * frame, and replaces the previous trap map of the frame. Should be called
+	 * once the frame has loaded and the driver has switched to it. Does nothing if
+	 * trap maps are not enabled or the driver is not able to execute scripts.
+	 * 
+	 * @param frame
+	 *            The name of the frame the current document belongs to
+	 */
+	public void updateTrapMap(final String frame) {
+		if (!this.mAreTrapMapsEnabled || this.mScriptExecutor == null) {
+			return;
+		}
+
+		TrapMap trapMap = null;
+		try {
+			final Object result = this.mScriptExecutor.executeScript(Scripts.TRAP_MAP);
+			if (result instanceof List && ((List<?>) result).size() == 2) {
+				final List<?> anchorsAndTraps = (List<?>) result;
+				trapMap = new TrapMap(getElementIds(anchorsAndTraps.get(0)), getElementIds(anchorsAndTraps.get(1)));
+			}
+		} catch (final WebDriverException e) {
+			// Elements of the frame are examined individually
+			trapMap = null;
+		}
+
+		synchronized (this.mTrapMaps) {
+			if (trapMap != null) {
+				this.mTrapMaps.put(frame, trapMap);
+			} else {
+				this.mTrapMaps.remove(frame);
+			}
+		}
+	}
+
+	/**
+	 * Examines the given element, ensures that it is no bot trap and performs the
+	 * given action if actions by script are enabled. The element is looked up in
+	 * the trap maps first. If it is not covered, it is examined by one injected
+	 * script. If scripts can not be used, the element is asked whether it is
+	 * displayed and enabled.
+	 * 
+	 * @param element
+	 *            The element to examine
+	 * @param action
+	 *            The action to perform, one of the actions of {@link Scripts}
+	 * @return <tt>True</tt> if the action was performed, <tt>false</tt> if the
+	 *         caller needs to perform it
+	 * @throws TrapElementException
+	 *             Thrown when the element seems to be a bot trap
+	 */
+	private boolean performIfNoBotTrap(final WebElement element, final String action) throws TrapElementException {
+		final Optional<Boolean> isTrap = lookupTrap(element);
+		if (isTrap.isPresent()) {
+			if (isTrap.get().booleanValue()) {
+				throw new TrapElementException();
+			}
+			return false;
+		}
+
+		if (this.mScriptExecutor == null) {
+			ensureIsNoBotTrap(element);
+			return false;
+		}
+
+		String scriptAction = Scripts.ACTION_NONE;
+		if (this.mAreScriptActionsEnabled) {
+			scriptAction = action;
+		}
+		final Object isNoTrap;
+		try {
+			isNoTrap = this.mScriptExecutor.executeScript(Scripts.TRAP_CHECK_AND_ACTION, element, scriptAction);
+		} catch (final WebDriverException e) {
+			// Staled references and unsupported scripts are handled by the
+			// regular examination
+			ensureIsNoBotTrap(element);
+			return false;
+		}
+
+		if (!Boolean.TRUE.equals(isNoTrap)) {
+			throw new TrapElementException();
+		}
+		return !scriptAction.equals(Scripts.ACTION_NONE);
+	}
+}
@@ -0,0 +1,139 @@
+package de.zabuza.sparkle.webdriver.intercept;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Interceptor that tracks operations which may change the current document or
+ * browsing context, like clicks, submits, navigation and switching frames. Each
+ * such operation increases the context version when it starts and when it
+ * ends. Users can remember the version once they reached a desired context and
+ * later compare it with the current version to find out whether they are
+ * possibly not in that context anymore. Documents that reload on their own
+ * are not noticed.<br>
+ * <br>
+ * Additionally an action version is tracked, which only considers operations
+ * that act on the page, like clicks, submits and navigation, but not switching
+ * frames. It can be used to find out whether values read from the page are
+ * possibly outdated, as reading them does not change the action version.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class ContextTrackingInterceptor implements IWebInterceptor {
+
+	/**
+	 * Whether the given operation acts on the page and thus may change values
+	 * displayed by it.
+	 * 
+	 * @param operation
+	 *            The operation in question
+	 * @return <tt>True</tt> if the operation acts on the page, <tt>false</tt>
+	 *         if not
+	 */
+	private static boolean isActing(final EOperation operation) {
+		return operation != EOperation.SWITCH_TO && isChangingContext(operation);
+	}
+
+	/**
+	 * Whether the given operation may change the current document or browsing
+	 * context.
+	 * 
+	 * @param operation
+	 *            The operation in question
+	 * @return <tt>True</tt> if the operation may change the context,
+	 *         <tt>false</tt> if not
+	 */
+	private static boolean isChangingContext(final EOperation operation) {
+		switch (operation) {
+		case CLICK:
+		case GET:
+		case NAVIGATE_BACK:
+		case NAVIGATE_FORWARD:
+		case NAVIGATE_REFRESH:
+		case NAVIGATE_TO:
+		case SEND_KEYS:
+		case SUBMIT:
+		case SWITCH_TO:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * The current action version.
+	 */
+	private final AtomicLong mActionVersion;
+	/**
+	 * The current context version.
+	 */
+	private final AtomicLong mContextVersion;
+
+	/**
+	 * Creates a new interceptor that starts with the context and action version
+	 * <tt>0</tt>.
+	 */
+	public ContextTrackingInterceptor() {
+		this.mContextVersion = new AtomicLong(0);
+		this.mActionVersion = new AtomicLong(0);
+	}
+
+	/**
+	 * Gets the current action version. It differs from a previously retrieved
+	 * version if an operation that acts on the page started or ended in between.
+	 * 
+	 * @return The current action version
+	 */
+	public long getActionVersion() {
+		return this.mActionVersion.get();
+	}
+
+	/**
+	 * Gets the current context version. It differs from a previously retrieved
+	 * version if an operation that may change the context started or ended in
+	 * between.
+	 * 
+	 * @return The current context version
+	 */
+	public long getContextVersion() {
+		return this.mContextVersion.get();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.intercept.IWebInterceptor#intercept(de.zabuza.
+	 * sparkle.webdriver.intercept.Invocation)
+	 */
+	@Override
+	public Object intercept(final Invocation invocation) {
+		final EOperation operation = invocation.getOperation();
+		if (!isChangingContext(operation)) {
+			return invocation.proceed();
+		}
+
+		final boolean isActing = isActing(operation);
+		this.mContextVersion.incrementAndGet();
+		if (isActing) {
+			this.mActionVersion.incrementAndGet();
+		}
+		try {
+			return invocation.proceed();
+		} finally {
+			this.mContextVersion.incrementAndGet();
+			if (isActing) {
+				this.mActionVersion.incrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Increases the context and action version, for example if the context was
+	 * changed without using the intercepted driver.
+	 */
+	public void invalidate() {
+		this.mContextVersion.incrementAndGet();
+		this.mActionVersion.incrementAndGet();
+	}
+}
@@ -0,0 +1,159 @@
+package de.zabuza.sparkle.webdriver.intercept;
+
+import java.net.URL;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+
+import de.zabuza.sparkle.webdriver.DelayedEventExecutor;
+import de.zabuza.sparkle.webdriver.IDelayedEventQueue;
+import de.zabuza.sparkle.webdriver.PriorityScope;
+import de.zabuza.sparkle.webdriver.SharedEventScheduler;
+import de.zabuza.sparkle.webdriver.delay.GaussianDelayPolicy;
+import de.zabuza.sparkle.webdriver.delay.IDelayPolicy;
+import de.zabuza.sparkle.webdriver.event.BackEvent;
+import de.zabuza.sparkle.webdriver.event.ClickEvent;
+import de.zabuza.sparkle.webdriver.event.EEventPriority;
+import de.zabuza.sparkle.webdriver.event.ForwardEvent;
+import de.zabuza.sparkle.webdriver.event.GetEvent;
+import de.zabuza.sparkle.webdriver.event.IDelayableEvent;
+import de.zabuza.sparkle.webdriver.event.PrioritizedEvent;
+import de.zabuza.sparkle.webdriver.event.RefreshEvent;
+import de.zabuza.sparkle.webdriver.event.SubmitEvent;
+import de.zabuza.sparkle.webdriver.event.ToStringEvent;
+import de.zabuza.sparkle.webdriver.event.ToUrlEvent;
+
+/**
+ * Interceptor that delays events like clicks, submits and navigation such that
+ * they get executed by an {@link IDelayedEventQueue} instead of directly. The
+ * queued events invoke the operation again once they are executed, the
+ * interceptor then passes it on to the remaining chain. Events are queued with
+ * the priority that is active for the issuing thread, see
+ * {@link PriorityScope}. If the driver attributes calls to the methods of the
+ * API, the method that issued an event is captured when the event is queued,
+ * see {@link MetricsInterceptor}. Quitting the driver stops the execution of
+ * the queue.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class DelayInterceptor implements IWebInterceptor {
+
+	/**
+	 * Executor that executes delayed events.
+	 */
+	private final DelayedEventExecutor mDelayedEventExecutor;
+
+	/**
+	 * Creates a new interceptor that times events on the shared default
+	 * scheduler with a gaussian delay policy.
+	 */
+	public DelayInterceptor() {
+		this(SharedEventScheduler.getDefaultScheduler(), new GaussianDelayPolicy());
+	}
+
+	/**
+	 * Creates a new interceptor that times events on the given scheduler with
+	 * delays determined by the given policy. The events are executed on the
+	 * shared event executor, see
+	 * {@link SharedEventScheduler#getDefaultEventExecutor()}.
+	 * 
+	 * @param scheduler
+	 *            The scheduler to time the delayed events on
+	 * @param policy
+	 *            The policy that determines the delays between events
+	 */
+	public DelayInterceptor(final ScheduledExecutorService scheduler, final IDelayPolicy policy) {
+		this.mDelayedEventExecutor = new DelayedEventExecutor(scheduler, policy);
+	}
+
+	/**
+	 * Gets the event queue used by this interceptor.
+	 * 
+	 * @return The event queue used by this interceptor
+	 */
+	public IDelayedEventQueue getEventQueue() {
+		return this.mDelayedEventExecutor;
+	}
+
+	/**
+	 * Stops the execution of the event queue, like quitting the driver does,
+	 * without quitting the driver. Events that were not executed yet get
+	 * cancelled. Once stopped, the interceptor should not be used anymore.
+	 */
+	public void stopExecution() {
+		this.mDelayedEventExecutor.stopExecution();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.intercept.IWebInterceptor#intercept(de.zabuza.
+	 * sparkle.webdriver.intercept.Invocation)
+	 */
+	@Override
+	public Object intercept(final Invocation invocation) {
+		if (invocation.getOperation() == EOperation.QUIT) {
+			this.mDelayedEventExecutor.stopExecution();
+			return invocation.proceed();
+		}
+		// The operation belongs to an event that is executed right now
+		if (this.mDelayedEventExecutor.isExecutingEvent()) {
+			return invocation.proceed();
+		}
+
+		final IDelayableEvent event = createEvent(invocation);
+		if (event == null) {
+			return invocation.proceed();
+		}
+		// The method of the API is only on the stack of the issuing thread
+		String caller = null;
+		final Optional<MetricsInterceptor> metrics = invocation.getDriver().getInterceptor(MetricsInterceptor.class);
+		if (metrics.isPresent() && metrics.get().isCallerAttributionEnabled()) {
+			caller = MetricsInterceptor.getCaller();
+		}
+
+		final EEventPriority priority = PriorityScope.getActivePriority();
+		if (priority != event.getPriority()) {
+			this.mDelayedEventExecutor.addEvent(new PrioritizedEvent(event, priority), Thread.currentThread(),
+					caller);
+		} else {
+			this.mDelayedEventExecutor.addEvent(event, Thread.currentThread(), caller);
+		}
+		return null;
+	}
+
+	/**
+	 * Creates the event that executes the given invocation delayed.
+	 * 
+	 * @param invocation
+	 *            The invocation to delay
+	 * @return The event that executes the invocation or <tt>null</tt> if the
+	 *         operation of the invocation is not delayed
+	 */
+	private IDelayableEvent createEvent(final Invocation invocation) {
+		final InterceptingWebDriver driver = invocation.getDriver();
+		final Object argument = invocation.getArgument();
+		switch (invocation.getOperation()) {
+		case CLICK:
+			return new ClickEvent(invocation.getElement());
+		case GET:
+			return new GetEvent(driver, (String) argument);
+		case NAVIGATE_BACK:
+			return new BackEvent(driver.navigate());
+		case NAVIGATE_FORWARD:
+			return new ForwardEvent(driver.navigate());
+		case NAVIGATE_REFRESH:
+			return new RefreshEvent(driver.navigate());
+		case NAVIGATE_TO:
+			if (argument instanceof URL) {
+				return new ToUrlEvent(driver.navigate(), (URL) argument);
+			}
+			return new ToStringEvent(driver.navigate(), (String) argument);
+		case SUBMIT:
+			return new SubmitEvent(invocation.getElement());
+		default:
+			return null;
+		}
+	}
+}
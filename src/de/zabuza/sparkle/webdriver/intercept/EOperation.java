@@ -0,0 +1,127 @@
+package de.zabuza.sparkle.webdriver.intercept;
+
+/**
+ * Operations of web drivers and web elements that pass through the chain of
+ * interceptors of an {@link InterceptingWebDriver}.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public enum EOperation {
+	/**
+	 * Clears an element, {@link org.openqa.selenium.WebElement#clear()}.
+	 */
+	CLEAR,
+	/**
+	 * Clicks an element, {@link org.openqa.selenium.WebElement#click()}.
+	 */
+	CLICK,
+	/**
+	 * Executes an asynchronous script in the current frame or window,
+	 * {@link org.openqa.selenium.JavascriptExecutor#executeAsyncScript(String, Object...)}.
+	 * The argument is an array that holds the script and the array of arguments
+	 * of the script.
+	 */
+	EXECUTE_ASYNC_SCRIPT,
+	/**
+	 * Executes a script in the current frame or window,
+	 * {@link org.openqa.selenium.JavascriptExecutor#executeScript(String, Object...)}.
+	 * The argument is an array that holds the script and the array of arguments
+	 * of the script.
+	 */
+	EXECUTE_SCRIPT,
+	/**
+	 * Finds an element in the context of a driver or an element. The argument is
+	 * the {@link org.openqa.selenium.By By}-context to search with.
+	 */
+	FIND_ELEMENT,
+	/**
+	 * Finds all elements in the context of a driver or an element. The argument
+	 * is the {@link org.openqa.selenium.By By}-context to search with.
+	 */
+	FIND_ELEMENTS,
+	/**
+	 * Loads a web page, {@link org.openqa.selenium.WebDriver#get(String)}. The
+	 * argument is the url of the page.
+	 */
+	GET,
+	/**
+	 * Gets an attribute of an element. The argument is the name of the attribute.
+	 */
+	GET_ATTRIBUTE,
+	/**
+	 * Gets a css value of an element. The argument is the name of the property.
+	 */
+	GET_CSS_VALUE,
+	/**
+	 * Gets the location of an element.
+	 */
+	GET_LOCATION,
+	/**
+	 * Gets the location and size of an element.
+	 */
+	GET_RECT,
+	/**
+	 * Takes a screenshot of an element. The argument is the
+	 * {@link org.openqa.selenium.OutputType OutputType} of the screenshot.
+	 */
+	GET_SCREENSHOT_AS,
+	/**
+	 * Gets the size of an element.
+	 */
+	GET_SIZE,
+	/**
+	 * Gets the tag name of an element.
+	 */
+	GET_TAG_NAME,
+	/**
+	 * Gets the visible text of an element.
+	 */
+	GET_TEXT,
+	/**
+	 * Whether an element is displayed.
+	 */
+	IS_DISPLAYED,
+	/**
+	 * Whether an element is enabled.
+	 */
+	IS_ENABLED,
+	/**
+	 * Whether an element is selected.
+	 */
+	IS_SELECTED,
+	/**
+	 * Moves back in the browser history.
+	 */
+	NAVIGATE_BACK,
+	/**
+	 * Moves forward in the browser history.
+	 */
+	NAVIGATE_FORWARD,
+	/**
+	 * Refreshes the current page.
+	 */
+	NAVIGATE_REFRESH,
+	/**
+	 * Navigates to a web page. The argument is the url of the page, either as
+	 * {@link String} or as {@link java.net.URL URL}.
+	 */
+	NAVIGATE_TO,
+	/**
+	 * Quits the driver and closes all its windows.
+	 */
+	QUIT,
+	/**
+	 * Types into an element. The argument is the array of keys to send.
+	 */
+	SEND_KEYS,
+	/**
+	 * Submits the form of an element.
+	 */
+	SUBMIT,
+	/**
+	 * Requests the target locator of a driver, which is used to switch to another
+	 * frame or window right afterwards.
+	 */
+	SWITCH_TO;
+}
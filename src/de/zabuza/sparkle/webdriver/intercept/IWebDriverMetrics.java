@@ -0,0 +1,109 @@
+package de.zabuza.sparkle.webdriver.intercept;
+
+import java.util.Map;
+
+import javax.management.MXBean;
+
+/**
+ * Management interface of the metrics about the operations of a web driver,
+ * like the amount of calls and the distribution of their durations.
+ * Operations are identified by the names of their {@link EOperation}s. If
+ * enabled, calls are also attributed to the method of the API that caused
+ * them, identified like <tt>Player.getGold</tt>. The interface is published
+ * over JMX for each instance of the API, which allows finding hot paths
+ * without a profiler.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+@MXBean
+public interface IWebDriverMetrics {
+	/**
+	 * Gets the amount of recorded calls of each operation.
+	 * 
+	 * @return The amount of recorded calls, accessed by the name of the
+	 *         operation
+	 */
+	public Map<String, Long> getAmountsOfCalls();
+
+	/**
+	 * Gets the amount of recorded calls caused by each method of the API. Calls
+	 * are only attributed while caller attribution is enabled, see
+	 * {@link #isCallerAttributionEnabled()}.
+	 * 
+	 * @return The amount of recorded calls, accessed by the method of the API
+	 *         like <tt>Player.getGold</tt>
+	 */
+	public Map<String, Long> getAmountsOfCallsByCaller();
+
+	/**
+	 * Gets the amount of recorded calls of each operation that failed with an
+	 * exception.
+	 * 
+	 * @return The amount of recorded failed calls, accessed by the name of the
+	 *         operation
+	 */
+	public Map<String, Long> getAmountsOfFailures();
+
+	/**
+	 * Gets the average duration of the recorded calls of each operation.
+	 * 
+	 * @return The average duration in milliseconds, accessed by the name of the
+	 *         operation
+	 */
+	public Map<String, Double> getAverageDurations();
+
+	/**
+	 * Gets the histogram of the durations of the recorded calls of each
+	 * operation. The buckets of the histogram are given by
+	 * {@link #getHistogramBounds()}.
+	 * 
+	 * @return The histogram of the durations, accessed by the name of the
+	 *         operation
+	 */
+	public Map<String, long[]> getDurationHistograms();
+
+	/**
+	 * Gets the upper bounds of the buckets of the duration histograms. A
+	 * duration belongs to the first bucket whose bound is greater than or equal
+	 * to it. Histograms have one additional last bucket for all durations that
+	 * exceed the last bound.
+	 * 
+	 * @return The inclusive upper bounds of the buckets in milliseconds, in
+	 *         ascending order
+	 */
+	public long[] getHistogramBounds();
+
+	/**
+	 * Gets the total duration of the recorded calls caused by each method of the
+	 * API. Calls are only attributed while caller attribution is enabled, see
+	 * {@link #isCallerAttributionEnabled()}.
+	 * 
+	 * @return The total duration in milliseconds, accessed by the method of the
+	 *         API like <tt>Player.getGold</tt>
+	 */
+	public Map<String, Double> getTotalDurationsByCaller();
+
+	/**
+	 * Whether calls are attributed to the method of the API that caused them.
+	 * 
+	 * @return <tt>True</tt> if calls are attributed, <tt>false</tt> if not
+	 */
+	public boolean isCallerAttributionEnabled();
+
+	/**
+	 * Resets the metrics by removing all recorded calls.
+	 */
+	public void reset();
+
+	/**
+	 * Sets whether calls are attributed to the method of the API that caused
+	 * them. Attribution inspects the stack of each call and is thus disabled by
+	 * default.
+	 * 
+	 * @param enabled
+	 *            <tt>True</tt> if calls should be attributed, <tt>false</tt> if
+	 *            not
+	 */
+	public void setCallerAttributionEnabled(final boolean enabled);
+}
@@ -0,0 +1,24 @@
+package de.zabuza.sparkle.webdriver.intercept;
+
+/**
+ * Interface for interceptors of an {@link InterceptingWebDriver}. All
+ * interceptors of a driver form one chain which every intercepted operation
+ * passes through, in the order the interceptors were given to the driver. An
+ * interceptor may act before and after the remaining chain, may retry it, or may
+ * skip it by not calling {@link Invocation#proceed()}.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public interface IWebInterceptor {
+	/**
+	 * Intercepts the given invocation of an operation. Call
+	 * {@link Invocation#proceed()} to pass the invocation to the remaining chain.
+	 * 
+	 * @param invocation
+	 *            The invocation to intercept
+	 * @return The result of the operation, <tt>null</tt> if the operation has no
+	 *         result
+	 */
+	public Object intercept(final Invocation invocation);
+}
@@ -0,0 +1,79 @@
+package de.zabuza.sparkle.webdriver.intercept;
+
+import java.net.URL;
+
+import org.openqa.selenium.WebDriver.Navigation;
+
+/**
+ * Navigation of an {@link InterceptingWebDriver} whose operations pass through
+ * the chain of interceptors of the driver.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class InterceptingNavigation implements Navigation {
+	/**
+	 * The driver whose interceptors are used.
+	 */
+	private final InterceptingWebDriver mDriver;
+
+	/**
+	 * Creates a new navigation of the given driver.
+	 * 
+	 * @param driver
+	 *            The driver whose interceptors are used
+	 */
+	public InterceptingNavigation(final InterceptingWebDriver driver) {
+		this.mDriver = driver;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebDriver.Navigation#back()
+	 */
+	@Override
+	public void back() {
+		this.mDriver.invoke(null, EOperation.NAVIGATE_BACK, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebDriver.Navigation#forward()
+	 */
+	@Override
+	public void forward() {
+		this.mDriver.invoke(null, EOperation.NAVIGATE_FORWARD, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebDriver.Navigation#refresh()
+	 */
+	@Override
+	public void refresh() {
+		this.mDriver.invoke(null, EOperation.NAVIGATE_REFRESH, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebDriver.Navigation#to(java.lang.String)
+	 */
+	@Override
+	public void to(final String url) {
+		this.mDriver.invoke(null, EOperation.NAVIGATE_TO, url);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebDriver.Navigation#to(java.net.URL)
+	 */
+	@Override
+	public void to(final URL url) {
+		this.mDriver.invoke(null, EOperation.NAVIGATE_TO, url);
+	}
+}
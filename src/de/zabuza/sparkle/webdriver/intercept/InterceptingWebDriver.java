@@ -0,0 +1,300 @@
+package de.zabuza.sparkle.webdriver.intercept;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import de.zabuza.sparkle.webdriver.IWrapsWebDriver;
+
+/**
+ * Wrapper for web driver objects whose operations, and the operations of the
+ * elements found by it, pass through one chain of {@link IWebInterceptor}s.
+ * Behaviors like handling staled elements, avoiding bot traps, delaying events
+ * and collecting metrics are plugged in as interceptors. Each found element is
+ * wrapped exactly once, by an {@link InterceptingWebElement}. Scripts are
+ * executed through the chain too, but only if the wrapped driver is able to
+ * execute scripts. Elements returned by scripts are not wrapped.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class InterceptingWebDriver implements WebDriver, JavascriptExecutor, IWrapsWebDriver {
+
+	/**
+	 * The chain of interceptors, the first interceptor is the outermost.
+	 */
+	private final IWebInterceptor[] mInterceptors;
+	/**
+	 * Web driver to wrap for intercepting its operations.
+	 */
+	private final WebDriver mWebDriver;
+
+	/**
+	 * Creates a new instance of this object with a given web driver and chain of
+	 * interceptors.
+	 * 
+	 * @param driver
+	 *            Driver to wrap for intercepting its operations
+	 * @param interceptors
+	 *            The chain of interceptors, the first interceptor is the outermost
+	 *            and thus sees an operation first
+	 */
+	public InterceptingWebDriver(final WebDriver driver, final IWebInterceptor... interceptors) {
+		this.mWebDriver = driver;
+		this.mInterceptors = interceptors.clone();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebDriver#close()
+	 */
+	@Override
+	public void close() {
+		this.mWebDriver.close();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.openqa.selenium.JavascriptExecutor#executeAsyncScript(java.lang.String,
+	 * java.lang.Object[])
+	 */
+	@Override
+	public Object executeAsyncScript(final String script, final Object... args) {
+		return invoke(null, EOperation.EXECUTE_ASYNC_SCRIPT, new Object[] { script, args });
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.JavascriptExecutor#executeScript(java.lang.String,
+	 * java.lang.Object[])
+	 */
+	@Override
+	public Object executeScript(final String script, final Object... args) {
+		return invoke(null, EOperation.EXECUTE_SCRIPT, new Object[] { script, args });
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebDriver#findElement(org.openqa.selenium.By)
+	 */
+	@Override
+	public WebElement findElement(final By by) {
+		return wrapElement((WebElement) invoke(null, EOperation.FIND_ELEMENT, by), by, null, -1);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebDriver#findElements(org.openqa.selenium.By)
+	 */
+	@Override
+	public List<WebElement> findElements(final By by) {
+		return wrapElements(invoke(null, EOperation.FIND_ELEMENTS, by), by, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebDriver#get(java.lang.String)
+	 */
+	@Override
+	public void get(final String url) {
+		invoke(null, EOperation.GET, url);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebDriver#getCurrentUrl()
+	 */
+	@Override
+	public String getCurrentUrl() {
+		return this.mWebDriver.getCurrentUrl();
+	}
+
+	/**
+	 * Gets the first interceptor of the chain that has the given type.
+	 * 
+	 * @param <T>
+	 *            The type of the interceptor
+	 * @param interceptorType
+	 *            The class of the type of the interceptor
+	 * @return The first interceptor of the given type, if present
+	 */
+	public <T extends IWebInterceptor> Optional<T> getInterceptor(final Class<T> interceptorType) {
+		for (final IWebInterceptor interceptor : this.mInterceptors) {
+			if (interceptorType.isInstance(interceptor)) {
+				return Optional.of(interceptorType.cast(interceptor));
+			}
+		}
+		return Optional.empty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebDriver#getPageSource()
+	 */
+	@Override
+	public String getPageSource() {
+		return this.mWebDriver.getPageSource();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.webdriver.IWrapsWebDriver#getRawDriver()
+	 */
+	@Override
+	public WebDriver getRawDriver() {
+		return this.mWebDriver;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebDriver#getTitle()
+	 */
+	@Override
+	public String getTitle() {
+		return this.mWebDriver.getTitle();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebDriver#getWindowHandle()
+	 */
+	@Override
+	public String getWindowHandle() {
+		return this.mWebDriver.getWindowHandle();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebDriver#getWindowHandles()
+	 */
+	@Override
+	public Set<String> getWindowHandles() {
+		return this.mWebDriver.getWindowHandles();
+	}
+
+	/**
+	 * Invokes the given operation by passing it through the chain of
+	 * interceptors.
+	 * 
+	 * @param element
+	 *            The element to invoke the operation on, <tt>null</tt> to invoke
+	 *            it on the driver
+	 * @param operation
+	 *            The operation to invoke
+	 * @param argument
+	 *            The argument of the operation, <tt>null</tt> if the operation
+	 *            has no argument
+	 * @return The result of the operation, <tt>null</tt> if the operation has no
+	 *         result. Found elements are not wrapped yet.
+	 */
+	public Object invoke(final InterceptingWebElement element, final EOperation operation, final Object argument) {
+		return new Invocation(this, element, operation, argument, this.mInterceptors).proceed();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebDriver#manage()
+	 */
+	@Override
+	public Options manage() {
+		return this.mWebDriver.manage();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebDriver#navigate()
+	 */
+	@Override
+	public Navigation navigate() {
+		return new InterceptingNavigation(this);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebDriver#quit()
+	 */
+	@Override
+	public void quit() {
+		invoke(null, EOperation.QUIT, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebDriver#switchTo()
+	 */
+	@Override
+	public TargetLocator switchTo() {
+		return (TargetLocator) invoke(null, EOperation.SWITCH_TO, null);
+	}
+
+	/**
+	 * Wraps the given element, which was found by this driver, such that its
+	 * operations pass through the chain of interceptors.
+	 * 
+	 * @param element
+	 *            The element to wrap
+	 * @param context
+	 *            Context the element was found with
+	 * @param parent
+	 *            The element the given element was found in, <tt>null</tt> if it
+	 *            was found in the context of the driver
+	 * @param index
+	 *            The position of the element if it occurs in a list of elements, a
+	 *            negative value else.
+	 * @return The wrapped element
+	 */
+	public InterceptingWebElement wrapElement(final WebElement element, final By context,
+			final InterceptingWebElement parent, final int index) {
+		return new InterceptingWebElement(element, this, context, parent, index);
+	}
+
+	/**
+	 * Wraps the given elements, which were found by this driver, such that their
+	 * operations pass through the chain of interceptors.
+	 * 
+	 * @param elements
+	 *            The list of elements to wrap, as returned by the operation
+	 *            {@link EOperation#FIND_ELEMENTS}
+	 * @param context
+	 *            Context the elements were found with
+	 * @param parent
+	 *            The element the given elements were found in, <tt>null</tt> if
+	 *            they were found in the context of the driver
+	 * @return The wrapped elements
+	 */
+	public List<WebElement> wrapElements(final Object elements, final By context,
+			final InterceptingWebElement parent) {
+		final List<?> rawElements = (List<?>) elements;
+		final List<WebElement> wrappedElements = new ArrayList<>(rawElements.size());
+		int i = 0;
+		for (final Object element : rawElements) {
+			wrappedElements.add(wrapElement((WebElement) element, context, parent, i));
+			i++;
+		}
+
+		return wrappedElements;
+	}
+}
@@ -0,0 +1,363 @@
+package de.zabuza.sparkle.webdriver.intercept;
+
+import java.util.List;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsElement;
+
+/**
+ * Wrapper for web element objects whose operations pass through the chain of
+ * interceptors of the {@link InterceptingWebDriver} that found them. The
+ * element remembers how it was found, thus it can find itself again if its
+ * reference got staled, see {@link #relocate()}. To reject elements of another
+ * kind that are found instead, the element remembers its tag after the first
+ * successful operation.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class InterceptingWebElement implements WebElement, WrapsElement {
+
+	/**
+	 * Context the element was found with.
+	 */
+	private final By mContext;
+	/**
+	 * The driver that found this element and whose interceptors are used.
+	 */
+	private final InterceptingWebDriver mDriver;
+	/**
+	 * Web element to wrap for intercepting its operations.
+	 */
+	private volatile WebElement mElement;
+	/**
+	 * The position of this element if it occurs in a list of elements, a negative
+	 * value else.
+	 */
+	private final int mIndex;
+	/**
+	 * The element this element was found in, <tt>null</tt> if it was found in the
+	 * context of the driver.
+	 */
+	private final InterceptingWebElement mParent;
+	/**
+	 * Tag of the wrapped element, used to reject exchanged references to other
+	 * kinds of elements. <tt>null</tt> if no operation succeeded yet.
+	 */
+	private volatile String mTagName;
+
+	/**
+	 * Creates a new instance of this object with a given web element object and
+	 * the way it was found.
+	 * 
+	 * @param element
+	 *            Web element object to wrap for intercepting its operations
+	 * @param driver
+	 *            The driver that found the element and whose interceptors are
+	 *            used
+	 * @param context
+	 *            Context the element was found with
+	 * @param parent
+	 *            The element the given element was found in, <tt>null</tt> if it
+	 *            was found in the context of the driver
+	 * @param index
+	 *            The position of the element if it occurs in a list of elements, a
+	 *            negative value else.
+	 */
+	public InterceptingWebElement(final WebElement element, final InterceptingWebDriver driver, final By context,
+			final InterceptingWebElement parent, final int index) {
+		this.mElement = element;
+		this.mDriver = driver;
+		this.mContext = context;
+		this.mParent = parent;
+		this.mIndex = index;
+		this.mTagName = null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebElement#clear()
+	 */
+	@Override
+	public void clear() {
+		invoke(EOperation.CLEAR, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebElement#click()
+	 */
+	@Override
+	public void click() {
+		invoke(EOperation.CLICK, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebElement#findElement(org.openqa.selenium.By)
+	 */
+	@Override
+	public WebElement findElement(final By by) {
+		final WebElement element = (WebElement) invoke(EOperation.FIND_ELEMENT, by);
+		return this.mDriver.wrapElement(element, by, this, -1);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebElement#findElements(org.openqa.selenium.By)
+	 */
+	@Override
+	public List<WebElement> findElements(final By by) {
+		return this.mDriver.wrapElements(invoke(EOperation.FIND_ELEMENTS, by), by, this);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebElement#getAttribute(java.lang.String)
+	 */
+	@Override
+	public String getAttribute(final String name) {
+		return (String) invoke(EOperation.GET_ATTRIBUTE, name);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebElement#getCssValue(java.lang.String)
+	 */
+	@Override
+	public String getCssValue(final String propertyName) {
+		return (String) invoke(EOperation.GET_CSS_VALUE, propertyName);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebElement#getLocation()
+	 */
+	@Override
+	public Point getLocation() {
+		return (Point) invoke(EOperation.GET_LOCATION, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebElement#getRect()
+	 */
+	@Override
+	public Rectangle getRect() {
+		return (Rectangle) invoke(EOperation.GET_RECT, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.TakesScreenshot#getScreenshotAs(org.openqa.selenium.
+	 * OutputType)
+	 */
+	@Override
+	public <X> X getScreenshotAs(final OutputType<X> target) throws WebDriverException {
+		final Object screenshot = invoke(EOperation.GET_SCREENSHOT_AS, target);
+		@SuppressWarnings("unchecked")
+		final X typedScreenshot = (X) screenshot;
+		return typedScreenshot;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebElement#getSize()
+	 */
+	@Override
+	public Dimension getSize() {
+		return (Dimension) invoke(EOperation.GET_SIZE, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebElement#getTagName()
+	 */
+	@Override
+	public String getTagName() {
+		return (String) invoke(EOperation.GET_TAG_NAME, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebElement#getText()
+	 */
+	@Override
+	public String getText() {
+		return (String) invoke(EOperation.GET_TEXT, null);
+	}
+
+	/**
+	 * Gets the currently wrapped web element. The reference is not checked for a
+	 * staled state, thus it may be staled.
+	 * 
+	 * @return The currently wrapped web element
+	 */
+	@Override
+	public WebElement getWrappedElement() {
+		return this.mElement;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebElement#isDisplayed()
+	 */
+	@Override
+	public boolean isDisplayed() {
+		return ((Boolean) invoke(EOperation.IS_DISPLAYED, null)).booleanValue();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebElement#isEnabled()
+	 */
+	@Override
+	public boolean isEnabled() {
+		return ((Boolean) invoke(EOperation.IS_ENABLED, null)).booleanValue();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebElement#isSelected()
+	 */
+	@Override
+	public boolean isSelected() {
+		return ((Boolean) invoke(EOperation.IS_SELECTED, null)).booleanValue();
+	}
+
+	/**
+	 * Exchanges the reference to the wrapped web element by finding the element
+	 * again in the way it was originally found. If the parent element got staled
+	 * too, the parent is relocated first. If the element could not be found again
+	 * or the found element has another tag than this element had, it will not
+	 * exchange the reference.
+	 * 
+	 * @return <tt>True</tt> if the reference was exchanged, <tt>false</tt> if the
+	 *         element could not be found again yet
+	 * @throws NoSuchFrameException
+	 *             When the frame of the element is gone
+	 * @throws NoSuchWindowException
+	 *             When the window of the element is gone
+	 */
+	public boolean relocate() throws NoSuchFrameException, NoSuchWindowException {
+		final SearchContext parent;
+		if (this.mParent != null) {
+			parent = this.mParent.getWrappedElement();
+		} else {
+			parent = this.mDriver.getRawDriver();
+		}
+
+		final WebElement element;
+		try {
+			// Element is not contained in a list of elements
+			if (this.mIndex < 0) {
+				element = parent.findElement(this.mContext);
+			} else {
+				final List<WebElement> elements = parent.findElements(this.mContext);
+
+				// Assume element stayed at its index
+				if (this.mIndex < elements.size()) {
+					element = elements.get(this.mIndex);
+				} else {
+					// List is to small so issue can not be resolved yet
+					return false;
+				}
+			}
+
+			// Compare some attributes to ensure false positive elements
+			if (this.mTagName != null && !this.mTagName.equals(element.getTagName())) {
+				return false;
+			}
+		} catch (final StaleElementReferenceException e) {
+			// The parent got staled too, find it again for the next try
+			if (this.mParent != null) {
+				this.mParent.relocate();
+			}
+			return false;
+		} catch (final NoSuchElementException e) {
+			// The page is probably still loading, try again later
+			return false;
+		}
+
+		// Exchange the underlying reference to the element
+		this.mElement = element;
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebElement#sendKeys(java.lang.CharSequence[])
+	 */
+	@Override
+	public void sendKeys(final CharSequence... keysToSend) {
+		invoke(EOperation.SEND_KEYS, keysToSend);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.openqa.selenium.WebElement#submit()
+	 */
+	@Override
+	public void submit() {
+		invoke(EOperation.SUBMIT, null);
+	}
+
+	/**
+	 * Invokes the given operation on this element by passing it through the
+	 * chain of interceptors. If the tag of this element is not known yet, it is
+	 * remembered once the operation succeeded, see {@link #relocate()}.
+	 * 
+	 * @param operation
+	 *            The operation to invoke
+	 * @param argument
+	 *            The argument of the operation, <tt>null</tt> if the operation
+	 *            has no argument
+	 * @return The result of the operation, <tt>null</tt> if the operation has no
+	 *         result
+	 */
+	private Object invoke(final EOperation operation, final Object argument) {
+		final Object result = this.mDriver.invoke(this, operation, argument);
+		if (this.mTagName != null) {
+			return result;
+		}
+
+		if (operation == EOperation.GET_TAG_NAME) {
+			this.mTagName = (String) result;
+			return result;
+		}
+		try {
+			this.mTagName = this.mElement.getTagName();
+		} catch (final WebDriverException e) {
+			// The element got staled meanwhile, try again after the next operation
+		}
+		return result;
+	}
+}
@@ -0,0 +1,308 @@
+package de.zabuza.sparkle.webdriver.intercept;
+
+import java.net.URL;
+import java.util.Optional;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import de.zabuza.sparkle.locale.ErrorMessages;
+import de.zabuza.sparkle.webdriver.WebDriverUtil;
+
+/**
+ * Invocation of an operation of an {@link InterceptingWebDriver} or of one of
+ * its {@link InterceptingWebElement}s, passing through the chain of
+ * interceptors of the driver. Once the invocation passed all interceptors, the
+ * operation is executed on the wrapped driver or element. The result of
+ * finding elements is not wrapped yet. An invocation belongs to a single call
+ * and must not be shared between threads.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class Invocation {
+	/**
+	 * Gets the executor for scripts of the given driver.
+	 * 
+	 * @param driver
+	 *            The driver to get the script executor of
+	 * @return The script executor of the given driver
+	 * @throws UnsupportedOperationException
+	 *             If the driver, or the drivers it wraps, is not able to execute
+	 *             scripts
+	 */
+	private static JavascriptExecutor toScriptExecutor(final WebDriver driver)
+			throws UnsupportedOperationException {
+		final Optional<JavascriptExecutor> executor = WebDriverUtil.getJavascriptExecutor(driver);
+		if (!executor.isPresent()) {
+			throw new UnsupportedOperationException(ErrorMessages.SCRIPT_EXECUTION_UNSUPPORTED);
+		}
+		return executor.get();
+	}
+
+	/**
+	 * Replaces intercepting elements in the given arguments of a script by the
+	 * elements they wrap, as the wrapped driver only knows its own elements.
+	 * 
+	 * @param arguments
+	 *            The arguments of the script
+	 * @return The arguments of the script with intercepting elements replaced
+	 */
+	private static Object[] unwrapScriptArguments(final Object[] arguments) {
+		final Object[] unwrappedArguments = arguments.clone();
+		for (int i = 0; i < unwrappedArguments.length; i++) {
+			if (unwrappedArguments[i] instanceof InterceptingWebElement) {
+				unwrappedArguments[i] = ((InterceptingWebElement) unwrappedArguments[i]).getWrappedElement();
+			}
+		}
+		return unwrappedArguments;
+	}
+
+	/**
+	 * The argument of the operation, <tt>null</tt> if the operation has no
+	 * argument.
+	 */
+	private final Object mArgument;
+	/**
+	 * The driver the operation was invoked on or the driver of the element.
+	 */
+	private final InterceptingWebDriver mDriver;
+	/**
+	 * The element the operation was invoked on, <tt>null</tt> if it was invoked on
+	 * the driver.
+	 */
+	private final InterceptingWebElement mElement;
+	/**
+	 * The chain of interceptors, the first interceptor is the outermost.
+	 */
+	private final IWebInterceptor[] mInterceptors;
+	/**
+	 * The operation to invoke.
+	 */
+	private final EOperation mOperation;
+	/**
+	 * The position of the interceptor in the chain that is called next. If it
+	 * equals the length of the chain, the operation is executed next.
+	 */
+	private int mPosition;
+
+	/**
+	 * Creates a new invocation of the given operation that starts at the
+	 * beginning of the given chain of interceptors.
+	 * 
+	 * @param driver
+	 *            The driver the operation was invoked on or the driver of the
+	 *            element
+	 * @param element
+	 *            The element the operation was invoked on, <tt>null</tt> if it was
+	 *            invoked on the driver
+	 * @param operation
+	 *            The operation to invoke
+	 * @param argument
+	 *            The argument of the operation, <tt>null</tt> if the operation
+	 *            has no argument
+	 * @param interceptors
+	 *            The chain of interceptors, the first interceptor is the
+	 *            outermost
+	 */
+	public Invocation(final InterceptingWebDriver driver, final InterceptingWebElement element,
+			final EOperation operation, final Object argument, final IWebInterceptor[] interceptors) {
+		this.mDriver = driver;
+		this.mElement = element;
+		this.mOperation = operation;
+		this.mArgument = argument;
+		this.mInterceptors = interceptors;
+		this.mPosition = 0;
+	}
+
+	/**
+	 * Gets the argument of the operation.
+	 * 
+	 * @return The argument of the operation, <tt>null</tt> if the operation has
+	 *         no argument
+	 */
+	public Object getArgument() {
+		return this.mArgument;
+	}
+
+	/**
+	 * Gets the driver the operation was invoked on or the driver of the element.
+	 * 
+	 * @return The driver of the invocation
+	 */
+	public InterceptingWebDriver getDriver() {
+		return this.mDriver;
+	}
+
+	/**
+	 * Gets the element the operation was invoked on.
+	 * 
+	 * @return The element the operation was invoked on, <tt>null</tt> if it was
+	 *         invoked on the driver
+	 */
+	public InterceptingWebElement getElement() {
+		return this.mElement;
+	}
+
+	/**
+	 * Gets the operation to invoke.
+	 * 
+	 * @return The operation to invoke
+	 */
+	public EOperation getOperation() {
+		return this.mOperation;
+	}
+
+	/**
+	 * Whether the operation was invoked on an element.
+	 * 
+	 * @return <tt>True</tt> if the operation was invoked on an element,
+	 *         <tt>false</tt> if it was invoked on the driver
+	 */
+	public boolean isElementInvocation() {
+		return this.mElement != null;
+	}
+
+	/**
+	 * Passes the invocation to the remaining chain, i.e. to the interceptor after
+	 * the calling one. If there is no such interceptor, the operation is executed
+	 * on the currently wrapped driver or element. An interceptor may call this
+	 * method multiple times, for example to retry the operation.
+	 * 
+	 * @return The result of the operation, <tt>null</tt> if the operation has no
+	 *         result
+	 */
+	public Object proceed() {
+		final int position = this.mPosition;
+		if (position == this.mInterceptors.length) {
+			return execute();
+		}
+
+		this.mPosition = position + 1;
+		try {
+			return this.mInterceptors[position].intercept(this);
+		} finally {
+			this.mPosition = position;
+		}
+	}
+
+	/**
+	 * Executes the operation on the currently wrapped driver or element.
+	 * 
+	 * @return The result of the operation, <tt>null</tt> if the operation has no
+	 *         result
+	 */
+	private Object execute() {
+		if (this.mElement == null) {
+			return executeOnDriver(this.mDriver.getRawDriver());
+		}
+		return executeOnElement(this.mElement.getWrappedElement());
+	}
+
+	/**
+	 * Executes the operation on the given driver.
+	 * 
+	 * @param driver
+	 *            The driver to execute the operation on
+	 * @return The result of the operation, <tt>null</tt> if the operation has no
+	 *         result
+	 */
+	private Object executeOnDriver(final WebDriver driver) {
+		switch (this.mOperation) {
+		case EXECUTE_ASYNC_SCRIPT:
+			final Object[] asyncScript = (Object[]) this.mArgument;
+			return toScriptExecutor(driver).executeAsyncScript((String) asyncScript[0],
+					unwrapScriptArguments((Object[]) asyncScript[1]));
+		case EXECUTE_SCRIPT:
+			final Object[] script = (Object[]) this.mArgument;
+			return toScriptExecutor(driver).executeScript((String) script[0],
+					unwrapScriptArguments((Object[]) script[1]));
+		case FIND_ELEMENT:
+			return driver.findElement((By) this.mArgument);
+		case FIND_ELEMENTS:
+			return driver.findElements((By) this.mArgument);
+		case GET:
+			driver.get((String) this.mArgument);
+			return null;
+		case NAVIGATE_BACK:
+			driver.navigate().back();
+			return null;
+		case NAVIGATE_FORWARD:
+			driver.navigate().forward();
+			return null;
+		case NAVIGATE_REFRESH:
+			driver.navigate().refresh();
+			return null;
+		case NAVIGATE_TO:
+			if (this.mArgument instanceof URL) {
+				driver.navigate().to((URL) this.mArgument);
+			} else {
+				driver.navigate().to((String) this.mArgument);
+			}
+			return null;
+		case QUIT:
+			driver.quit();
+			return null;
+		case SWITCH_TO:
+			return driver.switchTo();
+		default:
+			throw new AssertionError();
+		}
+	}
+
+	/**
+	 * Executes the operation on the given element.
+	 * 
+	 * @param element
+	 *            The element to execute the operation on
+	 * @return The result of the operation, <tt>null</tt> if the operation has no
+	 *         result
+	 */
+	private Object executeOnElement(final WebElement element) {
+		switch (this.mOperation) {
+		case CLEAR:
+			element.clear();
+			return null;
+		case CLICK:
+			element.click();
+			return null;
+		case FIND_ELEMENT:
+			return element.findElement((By) this.mArgument);
+		case FIND_ELEMENTS:
+			return element.findElements((By) this.mArgument);
+		case GET_ATTRIBUTE:
+			return element.getAttribute((String) this.mArgument);
+		case GET_CSS_VALUE:
+			return element.getCssValue((String) this.mArgument);
+		case GET_LOCATION:
+			return element.getLocation();
+		case GET_RECT:
+			return element.getRect();
+		case GET_SCREENSHOT_AS:
+			return element.getScreenshotAs((OutputType<?>) this.mArgument);
+		case GET_SIZE:
+			return element.getSize();
+		case GET_TAG_NAME:
+			return element.getTagName();
+		case GET_TEXT:
+			return element.getText();
+		case IS_DISPLAYED:
+			return Boolean.valueOf(element.isDisplayed());
+		case IS_ENABLED:
+			return Boolean.valueOf(element.isEnabled());
+		case IS_SELECTED:
+			return Boolean.valueOf(element.isSelected());
+		case SEND_KEYS:
+			element.sendKeys((CharSequence[]) this.mArgument);
+			return null;
+		case SUBMIT:
+			element.submit();
+			return null;
+		default:
+			throw new AssertionError();
+		}
+	}
+}
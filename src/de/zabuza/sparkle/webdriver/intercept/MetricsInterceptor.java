@@ -0,0 +1,469 @@
+package de.zabuza.sparkle.webdriver.intercept;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import de.zabuza.sparkle.webdriver.DelayedEventExecutor;
+
+/**
+ * Interceptor that collects metrics about the operations passing through it,
+ * like the amount of calls and a histogram of their durations. The duration of
+ * an operation covers the remaining chain, for example retries of staled
+ * elements. If enabled, calls are also attributed to the method of the API
+ * that caused them, which is the outermost method of the API on the stack of
+ * the call that does not belong to the infrastructure of the API, like web
+ * driver wrappers, waits or frame switching. Thus calls are attributed to the
+ * method the user called, like <tt>Player.getGold</tt>, and not to its
+ * helpers. Operations executed by delayed events are attributed to the method
+ * that queued the event, see
+ * {@link DelayedEventExecutor#getCallerOfExecutingEvent()}, or to
+ * <tt>delayed</tt> if it is unknown. The metrics are thread-safe and can be
+ * published over JMX by using the {@link IWebDriverMetrics} interface.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class MetricsInterceptor implements IWebInterceptor, IWebDriverMetrics {
+	/**
+	 * The prefix of the names of classes that belong to the API.
+	 */
+	private static final String API_PACKAGE_PREFIX = "de.zabuza.sparkle.";
+	/**
+	 * The caller operations executed by delayed events are attributed to if the
+	 * method that queued the event is unknown.
+	 */
+	private static final String DELAYED_CALLER = "delayed";
+	/**
+	 * The name of the class that executes delayed events.
+	 */
+	private static final String DELAYED_EVENT_EXECUTOR_CLASS = DelayedEventExecutor.class.getName();
+	/**
+	 * The prefixes of the names of classes of the API that are no callers, as
+	 * they only pass calls on or are no part of the API itself.
+	 */
+	private static final String[] EXCLUDED_PACKAGE_PREFIXES = { API_PACKAGE_PREFIX + "webdriver.",
+			API_PACKAGE_PREFIX + "wait.", API_PACKAGE_PREFIX + "jfr.", API_PACKAGE_PREFIX + "freewar.frames.",
+			API_PACKAGE_PREFIX + "examples." };
+	/**
+	 * The inclusive upper bounds of the buckets of the duration histograms in
+	 * milliseconds, in ascending order.
+	 */
+	private static final long[] HISTOGRAM_BOUNDS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000, 5_000,
+			10_000 };
+	/**
+	 * The caller calls are attributed to if no method of the API is on the stack.
+	 */
+	private static final String UNKNOWN_CALLER = "unknown";
+
+	/**
+	 * Gets the index of the bucket of the duration histograms the given duration
+	 * belongs to.
+	 * 
+	 * @param duration
+	 *            The duration in nanoseconds
+	 * @return The index of the bucket, the amount of bounds if the duration
+	 *         exceeds the last bound
+	 */
+	private static int getBucket(final long duration) {
+		final long durationInMillis = TimeUnit.NANOSECONDS.toMillis(duration);
+		int bucket = 0;
+		while (bucket < HISTOGRAM_BOUNDS.length && durationInMillis > HISTOGRAM_BOUNDS[bucket]) {
+			bucket++;
+		}
+		return bucket;
+	}
+
+	/**
+	 * Gets the method of the API that caused the current call, which is the
+	 * outermost method of the API on the stack of the current thread that does
+	 * not belong to an excluded package. It is the method that was called by the
+	 * user, as methods of the API called by it are further inside.
+	 * 
+	 * @return The method of the API, like <tt>Player.getGold</tt>,
+	 *         {@link #DELAYED_CALLER} if the call was made by a delayed event or
+	 *         {@link #UNKNOWN_CALLER} if no method of the API is on the stack
+	 */
+	static String getCaller() {
+		final StackTraceElement[] stack = new Throwable().getStackTrace();
+		for (int i = stack.length - 1; i >= 0; i--) {
+			final StackTraceElement frame = stack[i];
+			final String className = frame.getClassName();
+			if (className.equals(DELAYED_EVENT_EXECUTOR_CLASS)) {
+				// Delayed events are executed without a method of the API on the stack
+				return DELAYED_CALLER;
+			}
+			if (className.startsWith(API_PACKAGE_PREFIX) && !isExcluded(className)) {
+				final String simpleClassName = className.substring(className.lastIndexOf('.') + 1);
+				return simpleClassName + "." + frame.getMethodName();
+			}
+		}
+		return UNKNOWN_CALLER;
+	}
+
+	/**
+	 * Gets the counter of the given caller, creates it if not present yet.
+	 * 
+	 * @param callerToCounter
+	 *            The counters of each caller, accessed by the caller
+	 * @param caller
+	 *            The caller to get the counter of
+	 * @return The counter of the caller
+	 */
+	private static AtomicLong getCounter(final ConcurrentMap<String, AtomicLong> callerToCounter,
+			final String caller) {
+		final AtomicLong counter = callerToCounter.get(caller);
+		if (counter != null) {
+			return counter;
+		}
+		final AtomicLong newCounter = new AtomicLong();
+		final AtomicLong previousCounter = callerToCounter.putIfAbsent(caller, newCounter);
+		if (previousCounter != null) {
+			return previousCounter;
+		}
+		return newCounter;
+	}
+
+	/**
+	 * Whether the given class belongs to a package whose methods are no callers.
+	 * 
+	 * @param className
+	 *            The fully qualified name of the class in question
+	 * @return <tt>True</tt> if the class belongs to an excluded package,
+	 *         <tt>false</tt> if not
+	 */
+	private static boolean isExcluded(final String className) {
+		for (final String excludedPrefix : EXCLUDED_PACKAGE_PREFIXES) {
+			if (className.startsWith(excludedPrefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The amount of calls per operation, indexed by the ordinal of the operation.
+	 */
+	private final AtomicLongArray mAmountOfCalls;
+	/**
+	 * The amount of calls that failed with an exception per operation, indexed by
+	 * the ordinal of the operation.
+	 */
+	private final AtomicLongArray mAmountOfFailures;
+	/**
+	 * The amount of calls caused by each method of the API, accessed by the
+	 * method.
+	 */
+	private final ConcurrentMap<String, AtomicLong> mCallerToAmountOfCalls;
+	/**
+	 * The sum of the durations of all calls caused by each method of the API in
+	 * nanoseconds, accessed by the method.
+	 */
+	private final ConcurrentMap<String, AtomicLong> mCallerToTotalDuration;
+	/**
+	 * The amount of calls per operation and bucket of the duration histogram,
+	 * indexed by the ordinal of the operation times the amount of buckets plus
+	 * the index of the bucket.
+	 */
+	private final AtomicLongArray mDurationHistograms;
+	/**
+	 * Whether calls are attributed to the method of the API that caused them.
+	 */
+	private volatile boolean mIsCallerAttributionEnabled;
+	/**
+	 * The sum of the durations of all calls per operation in nanoseconds, indexed
+	 * by the ordinal of the operation.
+	 */
+	private final AtomicLongArray mTotalDuration;
+
+	/**
+	 * Creates a new interceptor with empty metrics. Caller attribution is
+	 * disabled.
+	 */
+	public MetricsInterceptor() {
+		final int amountOfOperations = EOperation.values().length;
+		this.mAmountOfCalls = new AtomicLongArray(amountOfOperations);
+		this.mAmountOfFailures = new AtomicLongArray(amountOfOperations);
+		this.mTotalDuration = new AtomicLongArray(amountOfOperations);
+		this.mDurationHistograms = new AtomicLongArray(amountOfOperations * (HISTOGRAM_BOUNDS.length + 1));
+		this.mCallerToAmountOfCalls = new ConcurrentHashMap<>();
+		this.mCallerToTotalDuration = new ConcurrentHashMap<>();
+		this.mIsCallerAttributionEnabled = false;
+	}
+
+	/**
+	 * Gets the amount of recorded calls of the given operation.
+	 * 
+	 * @param operation
+	 *            The operation in question
+	 * @return The amount of recorded calls
+	 */
+	public long getAmountOfCalls(final EOperation operation) {
+		return this.mAmountOfCalls.get(operation.ordinal());
+	}
+
+	/**
+	 * Gets the amount of recorded calls of the given operation that failed with
+	 * an exception.
+	 * 
+	 * @param operation
+	 *            The operation in question
+	 * @return The amount of recorded failed calls
+	 */
+	public long getAmountOfFailures(final EOperation operation) {
+		return this.mAmountOfFailures.get(operation.ordinal());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.webdriver.intercept.IWebDriverMetrics#getAmountsOfCalls()
+	 */
+	@Override
+	public Map<String, Long> getAmountsOfCalls() {
+		final Map<String, Long> operationToAmountOfCalls = new TreeMap<>();
+		for (final EOperation operation : EOperation.values()) {
+			operationToAmountOfCalls.put(operation.name(), Long.valueOf(getAmountOfCalls(operation)));
+		}
+		return operationToAmountOfCalls;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.intercept.IWebDriverMetrics#getAmountsOfCallsByCaller()
+	 */
+	@Override
+	public Map<String, Long> getAmountsOfCallsByCaller() {
+		final Map<String, Long> callerToAmountOfCalls = new TreeMap<>();
+		for (final Map.Entry<String, AtomicLong> entry : this.mCallerToAmountOfCalls.entrySet()) {
+			callerToAmountOfCalls.put(entry.getKey(), Long.valueOf(entry.getValue().get()));
+		}
+		return callerToAmountOfCalls;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.intercept.IWebDriverMetrics#getAmountsOfFailures()
+	 */
+	@Override
+	public Map<String, Long> getAmountsOfFailures() {
+		final Map<String, Long> operationToAmountOfFailures = new TreeMap<>();
+		for (final EOperation operation : EOperation.values()) {
+			operationToAmountOfFailures.put(operation.name(), Long.valueOf(getAmountOfFailures(operation)));
+		}
+		return operationToAmountOfFailures;
+	}
+
+	/**
+	 * Gets the average duration of the recorded calls of the given operation.
+	 * 
+	 * @param operation
+	 *            The operation in question
+	 * @return The average duration in milliseconds or <tt>0</tt> if no calls
+	 *         were recorded
+	 */
+	public double getAverageDuration(final EOperation operation) {
+		final long amountOfCalls = getAmountOfCalls(operation);
+		if (amountOfCalls == 0) {
+			return 0;
+		}
+		return this.mTotalDuration.get(operation.ordinal()) / (double) amountOfCalls
+				/ TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.intercept.IWebDriverMetrics#getAverageDurations()
+	 */
+	@Override
+	public Map<String, Double> getAverageDurations() {
+		final Map<String, Double> operationToAverageDuration = new TreeMap<>();
+		for (final EOperation operation : EOperation.values()) {
+			operationToAverageDuration.put(operation.name(), Double.valueOf(getAverageDuration(operation)));
+		}
+		return operationToAverageDuration;
+	}
+
+	/**
+	 * Gets the histogram of the durations of the recorded calls of the given
+	 * operation. The buckets of the histogram are given by
+	 * {@link #getHistogramBounds()}.
+	 * 
+	 * @param operation
+	 *            The operation in question
+	 * @return The amount of recorded calls per bucket
+	 */
+	public long[] getDurationHistogram(final EOperation operation) {
+		final int amountOfBuckets = HISTOGRAM_BOUNDS.length + 1;
+		final long[] histogram = new long[amountOfBuckets];
+		for (int i = 0; i < amountOfBuckets; i++) {
+			histogram[i] = this.mDurationHistograms.get(operation.ordinal() * amountOfBuckets + i);
+		}
+		return histogram;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.intercept.IWebDriverMetrics#getDurationHistograms()
+	 */
+	@Override
+	public Map<String, long[]> getDurationHistograms() {
+		final Map<String, long[]> operationToHistogram = new TreeMap<>();
+		for (final EOperation operation : EOperation.values()) {
+			operationToHistogram.put(operation.name(), getDurationHistogram(operation));
+		}
+		return operationToHistogram;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.intercept.IWebDriverMetrics#getHistogramBounds()
+	 */
+	@Override
+	public long[] getHistogramBounds() {
+		return HISTOGRAM_BOUNDS.clone();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.intercept.IWebDriverMetrics#getTotalDurationsByCaller()
+	 */
+	@Override
+	public Map<String, Double> getTotalDurationsByCaller() {
+		final Map<String, Double> callerToTotalDuration = new TreeMap<>();
+		for (final Map.Entry<String, AtomicLong> entry : this.mCallerToTotalDuration.entrySet()) {
+			callerToTotalDuration.put(entry.getKey(),
+					Double.valueOf(entry.getValue().get() / (double) TimeUnit.MILLISECONDS.toNanos(1)));
+		}
+		return callerToTotalDuration;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.intercept.IWebInterceptor#intercept(de.zabuza.
+	 * sparkle.webdriver.intercept.Invocation)
+	 */
+	@Override
+	public Object intercept(final Invocation invocation) {
+		final int index = invocation.getOperation().ordinal();
+		final long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			final Object result = invocation.proceed();
+			failed = false;
+			return result;
+		} finally {
+			final long duration = System.nanoTime() - start;
+			this.mAmountOfCalls.incrementAndGet(index);
+			this.mTotalDuration.addAndGet(index, duration);
+			this.mDurationHistograms.incrementAndGet(index * (HISTOGRAM_BOUNDS.length + 1) + getBucket(duration));
+			if (failed) {
+				this.mAmountOfFailures.incrementAndGet(index);
+			}
+			if (this.mIsCallerAttributionEnabled) {
+				final Optional<String> callerOfEvent = DelayedEventExecutor.getCallerOfExecutingEvent();
+				final String caller;
+				if (callerOfEvent.isPresent()) {
+					caller = callerOfEvent.get();
+				} else {
+					caller = getCaller();
+				}
+				getCounter(this.mCallerToAmountOfCalls, caller).incrementAndGet();
+				getCounter(this.mCallerToTotalDuration, caller).addAndGet(duration);
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.intercept.IWebDriverMetrics#isCallerAttributionEnabled()
+	 */
+	@Override
+	public boolean isCallerAttributionEnabled() {
+		return this.mIsCallerAttributionEnabled;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.zabuza.sparkle.webdriver.intercept.IWebDriverMetrics#reset()
+	 */
+	@Override
+	public void reset() {
+		for (int i = 0; i < this.mAmountOfCalls.length(); i++) {
+			this.mAmountOfCalls.set(i, 0);
+			this.mAmountOfFailures.set(i, 0);
+			this.mTotalDuration.set(i, 0);
+		}
+		for (int i = 0; i < this.mDurationHistograms.length(); i++) {
+			this.mDurationHistograms.set(i, 0);
+		}
+		this.mCallerToAmountOfCalls.clear();
+		this.mCallerToTotalDuration.clear();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.intercept.IWebDriverMetrics#setCallerAttributionEnabled(
+	 * boolean)
+	 */
+	@Override
+	public void setCallerAttributionEnabled(final boolean enabled) {
+		this.mIsCallerAttributionEnabled = enabled;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("MetricsInterceptor [");
+		boolean isFirst = true;
+		for (final EOperation operation : EOperation.values()) {
+			final long amountOfCalls = getAmountOfCalls(operation);
+			if (amountOfCalls == 0) {
+				continue;
+			}
+			if (!isFirst) {
+				builder.append(", ");
+			}
+			isFirst = false;
+			builder.append(operation);
+			builder.append("=[amountOfCalls=");
+			builder.append(amountOfCalls);
+			builder.append(", amountOfFailures=");
+			builder.append(getAmountOfFailures(operation));
+			builder.append(", averageDuration=");
+			builder.append(getAverageDuration(operation));
+			builder.append("]");
+		}
+		builder.append("]");
+		return builder.toString();
+	}
+}
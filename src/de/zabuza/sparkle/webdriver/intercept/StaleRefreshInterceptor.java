@@ -0,0 +1,173 @@
+package de.zabuza.sparkle.webdriver.intercept;
+
+import java.util.Optional;
+
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+
+import de.zabuza.sparkle.jfr.FlightEvents;
+import de.zabuza.sparkle.jfr.IStaleRefreshEvent;
+import de.zabuza.sparkle.locale.ErrorMessages;
+import de.zabuza.sparkle.webdriver.Deadline;
+import de.zabuza.sparkle.webdriver.ExponentialBackoff;
+
+/**
+ * Interceptor that automatically handles staled elements that would otherwise
+ * throw {@link StaleElementReferenceException}s when used.<br>
+ * <br>
+ * By default it works optimistically. It passes an operation on first and only
+ * lets the element find itself again after the operation failed due to a
+ * staled reference, then retries the operation. Alternatively it can validate
+ * the reference before each operation, see {@link #setOptimistic(boolean)}.
+ * Exchanging a staled reference is retried with an exponentially growing delay
+ * until a timeout, limited by the active {@link Deadline} of the thread, has
+ * passed or the frame of the element is gone. If the deadline cut the retries
+ * short, a {@link TimeoutException} is thrown instead of the staled reference. Each exchange is recorded as
+ * {@link IStaleRefreshEvent} by the flight recorder.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class StaleRefreshInterceptor implements IWebInterceptor {
+
+	/**
+	 * Time to wait before the first try of exchanging a staled reference in
+	 * milliseconds.
+	 */
+	private static final long STALE_EXCHANGE_INITIAL_WAIT = 50;
+	/**
+	 * Maximal time to wait between two tries of exchanging a staled reference in
+	 * milliseconds.
+	 */
+	private static final long STALE_EXCHANGE_MAX_WAIT = 1_000;
+	/**
+	 * Total time in milliseconds after which exchanging a staled reference is
+	 * given up.
+	 */
+	private static final long STALE_EXCHANGE_TIMEOUT = 10_000;
+
+	/**
+	 * Whether operations are passed on first and staled references are only
+	 * handled afterwards, or references are validated before each operation.
+	 */
+	private volatile boolean mIsOptimistic;
+
+	/**
+	 * Creates a new interceptor that works optimistically.
+	 */
+	public StaleRefreshInterceptor() {
+		this.mIsOptimistic = true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * de.zabuza.sparkle.webdriver.intercept.IWebInterceptor#intercept(de.zabuza.
+	 * sparkle.webdriver.intercept.Invocation)
+	 */
+	@Override
+	public Object intercept(final Invocation invocation) {
+		if (!invocation.isElementInvocation()) {
+			return invocation.proceed();
+		}
+
+		final InterceptingWebElement element = invocation.getElement();
+		final ExponentialBackoff backoff = new ExponentialBackoff(STALE_EXCHANGE_INITIAL_WAIT,
+				STALE_EXCHANGE_MAX_WAIT, Deadline.limitTimeout(STALE_EXCHANGE_TIMEOUT));
+		while (true) {
+			try {
+				if (!this.mIsOptimistic) {
+					// Check if element is staled by provoking the exception
+					element.getWrappedElement().getTagName();
+				}
+				return invocation.proceed();
+			} catch (final StaleElementReferenceException e) {
+				recoverFromStaledReference(element, invocation.getOperation(), backoff, e);
+			}
+		}
+	}
+
+	/**
+	 * Whether the interceptor works optimistically.
+	 * 
+	 * @return <tt>True</tt> if operations are passed on first, <tt>false</tt> if
+	 *         references are validated before each operation
+	 */
+	public boolean isOptimistic() {
+		return this.mIsOptimistic;
+	}
+
+	/**
+	 * Sets whether the interceptor works optimistically. An optimistic
+	 * interceptor passes operations on first and only handles staled references
+	 * after an operation failed. Else the reference is validated before each
+	 * operation, which costs an additional call to the browser. The default is
+	 * <tt>true</tt>.
+	 * 
+	 * @param isOptimistic
+	 *            Whether the interceptor should work optimistically
+	 */
+	public void setOptimistic(final boolean isOptimistic) {
+		this.mIsOptimistic = isOptimistic;
+	}
+
+	/**
+	 * Recovers from a staled reference of the given element by relocating it.
+	 * Waits in between tries according to the given backoff.
+	 * 
+	 * @param element
+	 *            The element whose reference is staled
+	 * @param operation
+	 *            The operation that revealed the staled reference
+	 * @param backoff
+	 *            The backoff of the current operation
+	 * @param cause
+	 *            The exception that revealed the staled reference
+	 * @throws StaleElementReferenceException
+	 *             When the reference could not be exchanged before the deadline of
+	 *             the backoff has passed or the frame of the element is gone.
+	 * @throws TimeoutException
+	 *             When the reference could not be exchanged before the active
+	 *             {@link Deadline} of the thread has passed
+	 */
+	private void recoverFromStaledReference(final InterceptingWebElement element, final EOperation operation,
+			final ExponentialBackoff backoff, final StaleElementReferenceException cause)
+			throws StaleElementReferenceException, TimeoutException {
+		final IStaleRefreshEvent event = FlightEvents.createStaleRefreshEvent();
+		event.begin();
+		int attempts = 0;
+		boolean isRecovered = false;
+		try {
+			while (backoff.awaitNextAttempt()) {
+				attempts++;
+				try {
+					if (element.relocate()) {
+						isRecovered = true;
+						return;
+					}
+				} catch (final NoSuchFrameException | NoSuchWindowException e) {
+					// Retrying is pointless since the element is gone for good
+					throw new StaleElementReferenceException(ErrorMessages.STALE_REFRESHER_FRAME_GONE, cause);
+				}
+			}
+
+			// The operation is out of time, the reference may still be solvable
+			final Optional<Deadline> deadline = Deadline.getActiveDeadline();
+			if (deadline.isPresent() && deadline.get().hasPassed()) {
+				throw new TimeoutException(ErrorMessages.DEADLINE_PASSED, cause);
+			}
+			throw new StaleElementReferenceException(ErrorMessages.STALE_REFRESHER_STALED_STATE_NOT_SOLVED, cause);
+		} finally {
+			event.end();
+			if (event.shouldCommit()) {
+				event.setOperation(operation.name());
+				event.setAttempts(attempts);
+				event.setRecovered(isRecovered);
+				event.commit();
+			}
+		}
+	}
+}
@@ -0,0 +1,6 @@
+/**
+ * This package contains the web driver whose calls pass through one chain of
+ * interceptors, and the interceptors that handle staled elements, bot traps,
+ * delayed events and metrics.
+ */
+package de.zabuza.sparkle.webdriver.intercept;